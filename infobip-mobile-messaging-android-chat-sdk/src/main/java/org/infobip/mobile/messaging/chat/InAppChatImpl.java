@@ -47,10 +47,10 @@ import org.infobip.mobile.messaging.mobileapi.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 
 import java.util.Locale;
-import java.util.concurrent.Executors;
 
 
 public class InAppChatImpl extends InAppChat implements MessageHandlerModule {
@@ -557,7 +557,7 @@ public class InAppChatImpl extends InAppChat implements MessageHandlerModule {
                     propertyHelper(),
                     inAppChatBroadcaster(),
                     mobileApiResourceProvider().getMobileApiAppInstance(context),
-                    Executors.newSingleThreadExecutor()
+                    SdkExecutor.getInstance().forPriority(SdkExecutor.Priority.USER_FACING)
             );
         }
         return lcRegIgChecker;
@@ -26,6 +26,8 @@ import java.util.List;
 
 public class InAppChatSynchronizer {
 
+    private static final String WIDGET_ENDPOINT = MRetryableTask.endpointKey(MobileApiChat.class, "getWidgetConfiguration");
+
     private final Context context;
     private final MobileMessagingCore mobileMessagingCore;
     private final AndroidBroadcaster coreBroadcaster;
@@ -62,7 +64,7 @@ public class InAppChatSynchronizer {
             return;
         }
 
-        new MRetryableTask<Void, WidgetInfo>() {
+        new MRetryableTask<Void, WidgetInfo>(WIDGET_ENDPOINT) {
 
             @Override
             public WidgetInfo run(Void[] voids) {
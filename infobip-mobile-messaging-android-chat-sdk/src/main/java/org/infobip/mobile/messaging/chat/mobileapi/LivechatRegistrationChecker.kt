@@ -11,8 +11,8 @@ import org.infobip.mobile.messaging.chat.properties.PropertyHelper
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger
 import org.infobip.mobile.messaging.mobileapi.MobileApiResourceProvider
 import org.infobip.mobile.messaging.mobileapi.common.MAsyncTask
+import org.infobip.mobile.messaging.platform.SdkExecutor
 import java.util.concurrent.Executor
-import java.util.concurrent.Executors
 
 class LivechatRegistrationChecker(
     private val context: Context,
@@ -35,7 +35,7 @@ class LivechatRegistrationChecker(
         PropertyHelper(context),
         InAppChatBroadcasterImpl(context),
         MobileApiResourceProvider().getMobileApiAppInstance(context),
-        Executors.newSingleThreadExecutor()
+        SdkExecutor.getInstance().forPriority(SdkExecutor.Priority.USER_FACING)
     )
 
     @JvmOverloads
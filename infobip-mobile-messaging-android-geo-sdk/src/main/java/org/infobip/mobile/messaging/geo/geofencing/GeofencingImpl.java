@@ -37,11 +37,13 @@ import org.infobip.mobile.messaging.geo.GeoEnabledConsistencyReceiver;
 import org.infobip.mobile.messaging.geo.GeofencingConsistencyIntentService;
 import org.infobip.mobile.messaging.geo.GeofencingConsistencyReceiver;
 import org.infobip.mobile.messaging.geo.mapper.GeoDataMapper;
+import org.infobip.mobile.messaging.geo.report.GeoReportHelper;
 import org.infobip.mobile.messaging.geo.storage.GeoSQLiteMessageStore;
 import org.infobip.mobile.messaging.geo.transition.GeofenceTransitionsIntentService;
 import org.infobip.mobile.messaging.geo.transition.GeofenceTransitionsReceiver;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.storage.MessageQuery;
 import org.infobip.mobile.messaging.storage.MessageStore;
 import org.infobip.mobile.messaging.util.ComponentUtil;
 import org.infobip.mobile.messaging.util.SystemInformation;
@@ -111,11 +113,10 @@ public class GeofencingImpl extends Geofencing {
 
     void removeExpiredAreasFromStorage() {
         GeoSQLiteMessageStore messageStoreForGeo = (GeoSQLiteMessageStore) geofencingHelper.getMessageStoreForGeo();
-        List<Message> messages = messageStoreForGeo.findAll(context);
-        List<String> messageIdsToDelete = new ArrayList<>(messages.size());
+        List<String> messageIdsToDelete = new ArrayList<>();
         Date now = Time.date();
 
-        for (Message message : messages) {
+        for (Message message : MessageQuery.all().iterate(context, messageStoreForGeo, GeoReportHelper.MESSAGES_PAGE_SIZE)) {
             Geo geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
             if (geo == null) {
                 continue;
@@ -155,9 +156,7 @@ public class GeofencingImpl extends Geofencing {
         Date nextCheckExpireDate = null;
         Map<String, Geofence> geofences = new HashMap<>();
         Map<String, Date> expiryDates = new HashMap<>();
-        List<Message> messages = messageStore.findAll(context);
-
-        for (Message message : messages) {
+        for (Message message : MessageQuery.all().iterate(context, messageStore, GeoReportHelper.MESSAGES_PAGE_SIZE)) {
             Geo geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
             if (geo == null || geo.getAreasList() == null || geo.getAreasList().isEmpty()) {
                 continue;
@@ -17,9 +17,11 @@ import org.infobip.mobile.messaging.geo.geofencing.GeofencingHelper;
 import org.infobip.mobile.messaging.geo.mapper.GeoDataMapper;
 import org.infobip.mobile.messaging.geo.transition.GeoNotificationHelper;
 import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.storage.MessageQuery;
 import org.infobip.mobile.messaging.storage.MessageStore;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
@@ -35,6 +37,30 @@ import java.util.UUID;
 
 public class GeoReportHelper {
 
+    /**
+     * Number of geo messages loaded from the store at once when all of them have to be checked
+     */
+    public static final int MESSAGES_PAGE_SIZE = 100;
+
+    /**
+     * Finds signaling messages referenced by geofencing reports
+     *
+     * @param messageStore message store to look messages for
+     * @param reports      geofencing event reports
+     * @return signaling messages which are still in the store
+     */
+    @NonNull
+    public static List<Message> findSignalingMessages(Context context, MessageStore messageStore, Collection<GeoReport> reports) {
+        Set<String> signalingMessageIds = new ArraySet<>();
+        for (GeoReport report : reports) {
+            signalingMessageIds.add(report.getSignalingMessageId());
+        }
+        if (signalingMessageIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return messageStore.find(context, MessageQuery.all().whereIn(MessageQuery.Field.MESSAGE_ID, signalingMessageIds));
+    }
+
     /**
      * Returns signaling message for geofencing report
      *
@@ -62,10 +88,10 @@ public class GeoReportHelper {
      */
     public static Map<Message, GeoEventType> createMessagesToNotify(Context context, List<GeoReport> reportedEvents, @NonNull GeoReportingResult reportingResult) {
         GeofencingHelper geofencingHelper = new GeofencingHelper(context);
-        List<Message> allMessages = geofencingHelper.getMessageStoreForGeo().findAll(context);
+        List<Message> signalingMessages = findSignalingMessages(context, geofencingHelper.getMessageStoreForGeo(), reportedEvents);
         Map<Message, GeoEventType> messages = new ArrayMap<>();
         for (GeoReport report : reportedEvents) {
-            Message signalingMessage = GeoReportHelper.getSignalingMessageForReport(allMessages, report);
+            Message signalingMessage = GeoReportHelper.getSignalingMessageForReport(signalingMessages, report);
             if (signalingMessage == null) {
                 MobileMessagingLogger.e("Cannot find signaling message for id: " + report.getSignalingMessageId());
                 continue;
@@ -266,7 +292,7 @@ public class GeoReportHelper {
     public static Map<Message, List<Area>> findSignalingMessagesAndAreas(Context context, MessageStore messageStore, Set<String> requestIds, @NonNull GeoEventType event) {
         Date now = Time.date();
         Map<Message, List<Area>> messagesAndAreas = new ArrayMap<>();
-        for (Message message : messageStore.findAll(context)) {
+        for (Message message : MessageQuery.all().iterate(context, messageStore, MESSAGES_PAGE_SIZE)) {
             Geo geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
             if (geo == null || geo.getAreasList() == null || geo.getAreasList().isEmpty()) {
                 continue;
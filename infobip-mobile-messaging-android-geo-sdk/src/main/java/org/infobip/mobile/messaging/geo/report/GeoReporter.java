@@ -38,6 +38,8 @@ import java.util.concurrent.TimeUnit;
 
 public class GeoReporter {
 
+    private static final String REPORT_ENDPOINT = MRetryableTask.endpointKey(MobileApiGeo.class, "report");
+
     private final Context context;
     private final MobileMessagingCore mobileMessagingCore;
     private final MobileMessagingStats stats;
@@ -62,7 +64,7 @@ public class GeoReporter {
             return;
         }
 
-        new MRetryableTask<GeoReport, GeoReportingResult>() {
+        new MRetryableTask<GeoReport, GeoReportingResult>(REPORT_ENDPOINT) {
             @Override
             public GeoReportingResult run(GeoReport[] reports) {
                 return reportSync(reports);
@@ -139,7 +141,7 @@ public class GeoReporter {
         Set<MessagePayload> messagePayloads = new HashSet<>();
         Set<EventReport> eventReports = new HashSet<>();
 
-        List<Message> messages = geoMessageStore.findAll(context);
+        List<Message> messages = GeoReportHelper.findSignalingMessages(context, geoMessageStore, Arrays.asList(geoReports));
 
         for (GeoReport r : geoReports) {
 
@@ -4,7 +4,9 @@ import android.content.Context;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.BaseDatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract;
+import org.infobip.mobile.messaging.storage.MessageQuery;
 import org.infobip.mobile.messaging.storage.MessageStore;
 
 import java.util.ArrayList;
@@ -17,17 +19,43 @@ import java.util.List;
 
 public class GeoSQLiteMessageStore implements MessageStore {
 
+    static {
+        BaseDatabaseHelper.registerRowFactory(SQLiteGeoMessage.class, new DatabaseContract.RowFactory<SQLiteGeoMessage>() {
+            @Override
+            public SQLiteGeoMessage newRow() {
+                return new SQLiteGeoMessage();
+            }
+        });
+    }
+
     public void save(Context context, Message... messages) {
-        DatabaseHelper helper = MobileMessagingCore.getDatabaseHelper(context);
+        upsertAll(context, messages);
+    }
+
+    @Override
+    public void upsertAll(Context context, Message... messages) {
+        List<SQLiteGeoMessage> geoMessages = new ArrayList<>(messages.length);
         for (Message message : messages) {
-            helper.save(new SQLiteGeoMessage(message));
+            geoMessages.add(new SQLiteGeoMessage(message));
         }
+        MobileMessagingCore.getDatabaseHelper(context).saveAll(geoMessages);
     }
 
     public List<Message> findAll(Context context) {
         return new ArrayList<Message>(MobileMessagingCore.getDatabaseHelper(context).findAll(SQLiteGeoMessage.class));
     }
 
+    @Override
+    public List<Message> find(Context context, MessageQuery query) {
+        List<Message> messages = new ArrayList<>();
+        List<MessageQuery> chunks = query.chunks();
+        for (MessageQuery chunk : chunks) {
+            messages.addAll(MobileMessagingCore.getDatabaseHelper(context).query(SQLiteGeoMessage.class,
+                    chunk.getSelection(), chunk.getSelectionArgs(), chunk.getOrderBy(), chunk.getLimit(), chunk.getOffset()));
+        }
+        return chunks.size() > 1 ? query.page(messages) : messages;
+    }
+
     public Message findById(Context context, String messageId) {
         return MobileMessagingCore.getDatabaseHelper(context).find(SQLiteGeoMessage.class, messageId);
     }
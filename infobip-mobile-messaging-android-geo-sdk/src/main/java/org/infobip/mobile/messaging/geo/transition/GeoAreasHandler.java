@@ -20,8 +20,11 @@ import org.infobip.mobile.messaging.geo.report.GeoReportingResult;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
+import org.infobip.mobile.messaging.storage.MessageQuery;
 import org.infobip.mobile.messaging.storage.MessageStore;
+import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -141,7 +144,7 @@ public class GeoAreasHandler {
         }
 
         MessageStore messageStore = mobileMessagingCore.getMessageStore();
-        messageStore.save(context, generatedMessages.toArray(new Message[0]));
+        messageStore.upsertAll(context, generatedMessages.toArray(new Message[0]));
     }
 
     /**
@@ -175,10 +178,25 @@ public class GeoAreasHandler {
         }
 
         MessageStore messageStore = mobileMessagingCore.getMessageStore();
-        // Code below is far from being effective but messageId is primary key
-        // so we will have to remove messages with invalid keys
-        List<Message> allMessages = messageStore.findAll(context);
         Map<String, String> messageIds = reportingResult.getMessageIds();
+        List<Message> messages = messageStore.find(context, MessageQuery.all().whereIn(MessageQuery.Field.MESSAGE_ID, messageIds.keySet()));
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // messageId is primary key so we have to remove messages with invalid keys
+        if (messageStore instanceof SQLiteMessageStore) {
+            List<String> oldMessageIds = new ArrayList<>(messages.size());
+            for (Message message : messages) {
+                oldMessageIds.add(message.getMessageId());
+                message.setMessageId(messageIds.get(message.getMessageId()));
+            }
+            ((SQLiteMessageStore) messageStore).replace(context, oldMessageIds.toArray(new String[0]), messages.toArray(new Message[0]));
+            return;
+        }
+
+        // other stores can only be rewritten completely
+        List<Message> allMessages = messageStore.findAll(context);
         for (Message message : allMessages) {
             String newMessageId = messageIds.get(message.getMessageId());
             if (newMessageId == null) {
@@ -188,7 +206,7 @@ public class GeoAreasHandler {
             message.setMessageId(newMessageId);
         }
         messageStore.deleteAll(context);
-        messageStore.save(context, allMessages.toArray(new Message[0]));
+        messageStore.upsertAll(context, allMessages.toArray(new Message[0]));
     }
 
     /**
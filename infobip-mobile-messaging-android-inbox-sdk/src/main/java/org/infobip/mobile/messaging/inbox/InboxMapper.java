@@ -6,6 +6,7 @@ import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.api.inbox.FetchInboxResponse;
 import org.infobip.mobile.messaging.api.messages.MessageResponse;
 import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
+import org.infobip.mobile.messaging.dal.json.ParsedInternalData;
 import org.infobip.mobile.messaging.platform.Time;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,7 +37,7 @@ public class InboxMapper {
             e.printStackTrace();
         }
 
-        final String internalData = response.getInternalData();
+        final ParsedInternalData internalData = ParsedInternalData.parse(response.getInternalData());
         InboxMessage message = InboxMessage.createFrom(new Message(
                         response.getMessageId(),
                         response.getTitle(),
@@ -49,23 +50,24 @@ public class InboxMapper {
                         null,
                         Time.now(),
                         0,
-                        InternalDataMapper.getInternalDataSendDateTime(internalData),
+                        internalData.getSendDateTime(),
                         customPayload,
-                        internalData,
+                        internalData.getJson(),
                         null,
                         Message.Status.UNKNOWN,
                         null,
-                        InternalDataMapper.getInternalDataContentUrl(internalData),
-                        InternalDataMapper.getInternalDataInAppStyle(internalData),
-                        InternalDataMapper.getInternalDataInAppExpiryDateTime(internalData),
-                        InternalDataMapper.getInternalDataWebViewUrl(internalData),
-                        InternalDataMapper.getInternalDataBrowserUrl(internalData),
-                        InternalDataMapper.getInternalDataMessageType(internalData),
-                        InternalDataMapper.getInternalDataDeeplinkUri(internalData),
-                        InternalDataMapper.getInternalDataInAppOpenTitle(internalData),
-                        InternalDataMapper.getInternalDataInAppDismissTitle(internalData)),
-                InboxDataMapper.inboxDataFromInternalData(internalData));
+                        internalData.getContentUrl(),
+                        internalData.getInAppStyle(),
+                        internalData.getInAppExpiryDateTime(),
+                        internalData.getWebViewUrl(),
+                        internalData.getBrowserUrl(),
+                        internalData.getMessageType(),
+                        internalData.getDeeplink(),
+                        internalData.getInAppOpenTitle(),
+                        internalData.getInAppDismissTitle()),
+                InboxDataMapper.inboxDataFromInternalData(internalData.getJson()));
 
+        message.setParsedInternalData(internalData);
         InternalDataMapper.updateMessageWithInternalData(message, internalData);
         return message;
     }
@@ -19,6 +19,8 @@ import org.infobip.mobile.messaging.util.StringUtils;
 
 public class InboxSeenStatusReporter {
 
+    private static final String SEEN_ENDPOINT = MRetryableTask.endpointKey(MobileApiInbox.class, "reportSeen");
+
     private final Context context;
     private final MobileMessagingCore mobileMessagingCore;
     private final AndroidBroadcaster coreBroadcaster;
@@ -52,7 +54,7 @@ public class InboxSeenStatusReporter {
             return;
         }
 
-        new MRetryableTask<Void, String[]>() {
+        new MRetryableTask<Void, String[]>(SEEN_ENDPOINT) {
             @Override
             public String[] run(Void[] voids) {
                 InboxSeenMessages seenMessages = InboxSeenMessagesMapper.fromMessageIds(externalUserId, messageIDs);
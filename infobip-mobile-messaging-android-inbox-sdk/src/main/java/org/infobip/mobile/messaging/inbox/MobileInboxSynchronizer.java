@@ -20,6 +20,9 @@ import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
 
 public class MobileInboxSynchronizer {
 
+    private static final String FETCH_INBOX_ENDPOINT = MRetryableTask.endpointKey(MobileApiInbox.class, "fetchInbox",
+            String.class, String.class, String.class, String.class, String.class, Integer.class);
+
     private final Context context;
     private final MobileMessagingCore mobileMessagingCore;
     private final AndroidBroadcaster coreBroadcaster;
@@ -48,7 +51,7 @@ public class MobileInboxSynchronizer {
             return;
         }
 
-        new MRetryableTask<Void, FetchInboxResponse>() {
+        new MRetryableTask<Void, FetchInboxResponse>(FETCH_INBOX_ENDPOINT) {
 
             @Override
             public FetchInboxResponse run(Void[] voids) {
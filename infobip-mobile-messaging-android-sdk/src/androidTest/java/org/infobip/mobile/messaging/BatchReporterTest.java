@@ -3,7 +3,12 @@ package org.infobip.mobile.messaging;
 import org.infobip.mobile.messaging.mobileapi.BatchReporter;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
-import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author sslavin
@@ -12,46 +17,95 @@ import org.mockito.Mockito;
 public class BatchReporterTest extends MobileMessagingTestCase {
 
     private BatchReporter batchReporter;
-    private Runnable runnable;
+    private final List<String[]> reportedBatches = new CopyOnWriteArrayList<>();
+    private final BatchReporter.BatchHandler batchHandler = new BatchReporter.BatchHandler() {
+        @Override
+        public void report(String[] items) {
+            reportedBatches.add(items);
+        }
+    };
 
     @Override
     public void setUp() throws Exception {
         super.setUp();
 
         batchReporter = new BatchReporter(50L);
-        runnable = Mockito.mock(Runnable.class);
     }
 
     @Test
     public void test_scheduleMultipleRunOne() throws Exception {
 
         for (int i = 0; i < 5; i++) {
-            batchReporter.put(runnable);
+            batchReporter.put(batchHandler, "1");
         }
 
-        Mockito.verify(runnable, Mockito.atMost(1)).run();
+        assertEquals(1, reportedBatches.size());
     }
 
     @Test
     public void test_scheduleMultipleRunMultiple() throws Exception {
 
         for (int i = 0; i < 5; i++) {
-            batchReporter.put(runnable);
+            batchReporter.put(batchHandler, "1");
             Thread.sleep(500);
         }
 
-        Mockito.verify(runnable, Mockito.times(5)).run();
+        assertEquals(5, reportedBatches.size());
     }
 
     @Test
-    public void test_firstRunnableInvokedRightAway() throws Exception {
+    public void test_firstItemsReportedRightAway() throws Exception {
 
         batchReporter = new BatchReporter(100L);
         for (int i = 0; i < 5; i++) {
-            batchReporter.put(runnable);
+            batchReporter.put(batchHandler, "1");
         }
 
-        Mockito.verify(runnable, Mockito.times(1)).run();
-        Mockito.verify(runnable, Mockito.after(200).times(2)).run();
+        assertEquals(1, reportedBatches.size());
+        Thread.sleep(200);
+        assertEquals(2, reportedBatches.size());
+    }
+
+    @Test
+    public void test_itemsSubmittedWithinDelayReportedInOneBatch() throws Exception {
+
+        batchReporter = new BatchReporter(100L);
+        batchReporter.put(batchHandler, "1");
+        batchReporter.put(batchHandler, "2", "3");
+        batchReporter.put(batchHandler, "2", null, "4");
+
+        assertEquals(1, reportedBatches.size());
+        Thread.sleep(300);
+        assertEquals(2, reportedBatches.size());
+        assertArrayEquals(new String[]{"1"}, reportedBatches.get(0));
+        assertArrayEquals(new String[]{"2", "3", "4"}, reportedBatches.get(1));
+    }
+
+    @Test
+    public void test_fullBatchReportedWithoutDelay() throws Exception {
+
+        batchReporter = new BatchReporter(10000L, 2);
+        batchReporter.put(batchHandler, "1");
+        batchReporter.put(batchHandler, "2");
+        batchReporter.put(batchHandler, "3", "4", "5");
+
+        assertEquals(3, reportedBatches.size());
+        assertArrayEquals(new String[]{"2", "3"}, reportedBatches.get(1));
+        assertArrayEquals(new String[]{"4", "5"}, reportedBatches.get(2));
+    }
+
+    @Test
+    public void test_flushRunsPendingWork() throws Exception {
+
+        batchReporter = new BatchReporter(10000L);
+        batchReporter.put(batchHandler, "1");
+        batchReporter.put(batchHandler, "2");
+
+        batchReporter.flush();
+
+        assertEquals(2, reportedBatches.size());
+        assertArrayEquals(new String[]{"2"}, reportedBatches.get(1));
+        Thread.sleep(200);
+        assertEquals(2, reportedBatches.size());
     }
 }
@@ -8,6 +8,7 @@ import org.infobip.mobile.messaging.api.support.ApiErrorCode;
 import org.infobip.mobile.messaging.api.support.ApiIOException;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
 import org.infobip.mobile.messaging.api.support.util.CollectionUtils;
+import org.infobip.mobile.messaging.dal.journal.IdJournal;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
@@ -300,7 +301,7 @@ public class PersonalizeSynchronizerTest extends MobileMessagingTestCase {
         PreferenceHelper.saveString(context, MobileMessagingProperty.APP_USER_ID, "appUserId");
         PreferenceHelper.saveBoolean(context, MobileMessagingProperty.IS_APP_USER_ID_UNREPORTED, true);
         PreferenceHelper.saveString(context, MobileMessagingProperty.UNREPORTED_SYSTEM_DATA, systemData.toString());
-        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, "msgId");
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).append("msgId");
         createMessage(context, "SomeMessageId", true);
 
         assertEquals(1, MobileMessaging.getInstance(context).getMessageStore().findAll(context).size());
@@ -315,7 +316,7 @@ public class PersonalizeSynchronizerTest extends MobileMessagingTestCase {
         assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.UNREPORTED_CUSTOM_ATTRIBUTES));
         assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.APP_USER_ID));
         assertFalse(PreferenceHelper.contains(context, MobileMessagingProperty.IS_APP_USER_ID_UNREPORTED));
-        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).length);
+        assertEquals(0, IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).size());
         assertEquals(0, MobileMessaging.getInstance(context).getMessageStore().findAll(context).size());
     }
 
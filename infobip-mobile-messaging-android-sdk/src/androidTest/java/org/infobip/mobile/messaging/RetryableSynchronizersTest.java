@@ -1,6 +1,8 @@
 package org.infobip.mobile.messaging;
 
 import android.annotation.SuppressLint;
+import android.os.Build;
+import android.os.Looper;
 
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
@@ -9,10 +11,12 @@ import org.infobip.mobile.messaging.cloud.MobileMessageHandler;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.appinstance.InstallationSynchronizer;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
+import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunicationException;
 import org.infobip.mobile.messaging.mobileapi.messages.MessagesSynchronizer;
 import org.infobip.mobile.messaging.mobileapi.user.UserDataReporter;
+import org.infobip.mobile.messaging.platform.SdkScheduler;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.infobip.mobile.messaging.util.DeviceInformation;
@@ -25,6 +29,9 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -171,6 +178,38 @@ public class RetryableSynchronizersTest extends MobileMessagingTestCase {
         verify(mobileApiAppInstance, times(1)).patchUser(anyString(), any(Map.class));
     }
 
+    @Test
+    public void test_sync_retries_are_not_posted_to_main_looper() throws Exception {
+        assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.M);
+
+        // Given
+        MRetryPolicy delayedRetryPolicy = new MRetryPolicy.Builder()
+                .withMaxRetries(1)
+                .withBackoffMultiplier(1)
+                .withRetryOn(BackendCommunicationException.class)
+                .build();
+        messagesSynchronizer = new MessagesSynchronizer(mobileMessagingCore, mobileMessagingCore.getStats(), executor, broadcaster, delayedRetryPolicy, mobileMessageHandler, mobileApiMessages);
+
+        // When
+        messagesSynchronizer.sync();
+
+        // Then
+        verify(mobileApiMessages, after(500).times(1)).sync(any(SyncMessagesBody.class));
+        assertTrue(hasPendingRetry());
+        assertTrue(Looper.getMainLooper().getQueue().isIdle());
+        verify(mobileApiMessages, after(3000).times(2)).sync(any(SyncMessagesBody.class));
+        assertFalse(hasPendingRetry());
+    }
+
+    private boolean hasPendingRetry() {
+        for (SdkScheduler.PendingWork work : SdkScheduler.getInstance().getPendingWork()) {
+            if (work.getName().startsWith(MRetryableTask.RETRY_WORK_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void withoutStoringUserData() {
         PreferenceHelper.saveBoolean(contextMock, MobileMessagingProperty.SAVE_USER_DATA_ON_DISK, false);
     }
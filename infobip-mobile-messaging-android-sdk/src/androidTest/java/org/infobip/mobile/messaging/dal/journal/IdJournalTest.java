@@ -0,0 +1,116 @@
+package org.infobip.mobile.messaging.dal.journal;
+
+import android.util.AtomicFile;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
+
+public class IdJournalTest extends MobileMessagingTestCase {
+
+    private File file;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        file = new File(context.getFilesDir(), "test.journal");
+        file.delete();
+    }
+
+    @Test
+    public void test_shouldRestoreEntriesFromJournal() {
+        IdJournal journal = new IdJournal(context, "test", file);
+        journal.append("id1", "id2", "id1", "id3");
+        journal.remove("id2");
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("id3", "id4");
+        journal.replace(replacements);
+
+        IdJournal restored = new IdJournal(context, "test", file);
+
+        assertArrayEquals(new String[]{"id1", "id4"}, restored.toArray());
+    }
+
+    @Test
+    public void test_shouldRecordReplacementsBeforeRemovalsInOneWrite() throws Exception {
+        IdJournal journal = new IdJournal(context, "test", file);
+        journal.append("id1", "id2");
+        journal.replace(Arrays.asList("id1", "id2"), Arrays.asList("id2", "id3"));
+
+        assertEquals("+id1\n+id2\n+id3\n-id1\n", new String(new AtomicFile(file).readFully(), "UTF-8"));
+        assertArrayEquals(new String[]{"id2", "id3"}, journal.toArray());
+        assertArrayEquals(new String[]{"id2", "id3"}, new IdJournal(context, "test", file).toArray());
+    }
+
+    @Test
+    public void test_shouldDrainOldestEntriesInBatches() {
+        IdJournal journal = new IdJournal(context, "test", file);
+        journal.append("id1", "id2", "id3");
+
+        assertArrayEquals(new String[]{"id1", "id2"}, journal.drain(2));
+        assertArrayEquals(new String[]{"id3"}, journal.drainAll());
+        assertEquals(0, journal.size());
+        assertEquals(0, new IdJournal(context, "test", file).size());
+    }
+
+    @Test
+    public void test_shouldRetainOnlyEntriesInJournal() {
+        IdJournal journal = new IdJournal(context, "test", file);
+        journal.append("id1", "id2", "id3");
+        journal.remove("id2");
+
+        assertArrayEquals(new String[]{"id3", "id1"}, journal.retain("id3", "id2", "id1", "id4"));
+    }
+
+    @Test
+    public void test_shouldCompactJournal() {
+        IdJournal journal = new IdJournal(context, "test", file);
+        for (int i = 0; i < 1000; i++) {
+            journal.append("id" + i);
+            journal.remove("id" + i);
+        }
+        journal.append("last\nline");
+
+        assertTrue("Journal was not compacted: " + file.length(), file.length() < 1000);
+        assertArrayEquals(new String[]{"last\nline"}, new IdJournal(context, "test", file).toArray());
+    }
+
+    @Test
+    public void test_shouldDropPartiallyWrittenRecord() throws Exception {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        outputStream.write("+id1\n+id2\n-id1\n+id3".getBytes("UTF-8"));
+        outputStream.close();
+
+        IdJournal journal = new IdJournal(context, "test", file);
+        assertArrayEquals(new String[]{"id2"}, journal.toArray());
+
+        journal.append("id4");
+        assertArrayEquals(new String[]{"id2", "id4"}, new IdJournal(context, "test", file).toArray());
+    }
+
+    @Test
+    public void test_shouldMoveEntriesFromSharedPreferences() {
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, "id1", "id2");
+
+        IdJournal journal = new IdJournal(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS.getKey(), file);
+
+        assertEquals(2, journal.size());
+        assertTrue(journal.contains("id1"));
+        assertTrue(journal.contains("id2"));
+        assertFalse(PreferenceHelper.contains(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS));
+        assertEquals(2, new IdJournal(context, "test", file).size());
+    }
+}
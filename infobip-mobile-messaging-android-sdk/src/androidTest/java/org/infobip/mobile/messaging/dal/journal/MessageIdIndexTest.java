@@ -0,0 +1,73 @@
+package org.infobip.mobile.messaging.dal.journal;
+
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
+
+public class MessageIdIndexTest extends MobileMessagingTestCase {
+
+    private static final long EXPIRY_MILLIS = 1000;
+
+    private File file;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        file = new File(context.getFilesDir(), "index.journal");
+        file.delete();
+    }
+
+    @Test
+    public void test_shouldFindAddedIdsUntilExpired() {
+        MessageIdIndex index = new MessageIdIndex(new IdJournal(context, "index", file), EXPIRY_MILLIS, 10);
+        index.add("id1", null, "id2");
+
+        assertTrue(index.contains("id1"));
+        assertTrue(index.contains("id2"));
+        assertFalse(index.contains("id3"));
+
+        time.forward(EXPIRY_MILLIS + 1, TimeUnit.MILLISECONDS);
+
+        assertFalse(index.contains("id1"));
+        assertEquals(0, index.toArray().length);
+    }
+
+    @Test
+    public void test_shouldKeepNewestIdsOverCapacity() {
+        MessageIdIndex index = new MessageIdIndex(new IdJournal(context, "index", file), EXPIRY_MILLIS, 2);
+        index.add("id1", "id2", "id3");
+        index.add("id2");
+
+        assertFalse(index.contains("id1"));
+        assertArrayEquals(new String[]{"id3", "id2"}, index.toArray());
+    }
+
+    @Test
+    public void test_shouldRestoreIdsFromJournal() {
+        new MessageIdIndex(new IdJournal(context, "index", file), EXPIRY_MILLIS, 10).add("id1", "id2", "id1");
+
+        MessageIdIndex restored = new MessageIdIndex(new IdJournal(context, "index", file), EXPIRY_MILLIS, 10);
+
+        assertArrayEquals(new String[]{"id2", "id1"}, restored.toArray());
+        assertEquals(2, new IdJournal(context, "index", file).size());
+    }
+
+    @Test
+    public void test_shouldForgetIdsWhenJournalIsCleared() {
+        IdJournal journal = new IdJournal(context, "index", file);
+        MessageIdIndex index = new MessageIdIndex(journal, EXPIRY_MILLIS, 10);
+        index.add("id1");
+
+        journal.clear();
+
+        assertFalse(index.contains("id1"));
+    }
+}
@@ -6,12 +6,16 @@ import android.database.sqlite.SQLiteDatabase;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
 import static org.junit.Assert.assertNotEquals;
 
 /**
@@ -160,4 +164,59 @@ public class DatabaseHelperTest extends MobileMessagingTestCase {
 
         assertEquals(100, databaseHelper.countAll(SomethingInDatabase.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_shouldSaveAllObjectsAndReplaceOnConflict() {
+        database.insert(SomethingInDatabase.getTable(), null, new SomethingInDatabase("Something1", 1, 2).getContentValues());
+
+        databaseHelper.saveAll(Arrays.asList(
+                new SomethingInDatabase("Something1", 3, 4),
+                new SomethingInDatabase("Something2", 5, 6)));
+
+        assertEquals(2, databaseHelper.countAll(SomethingInDatabase.class));
+        SomethingInDatabase something1 = databaseHelper.find(SomethingInDatabase.class, "Something1");
+        assertEquals(3, something1.longValue);
+        assertEquals(4, something1.doubleValue, 0.001);
+        SomethingInDatabase something2 = databaseHelper.find(SomethingInDatabase.class, "Something2");
+        assertEquals(5, something2.longValue);
+        assertEquals(6, something2.doubleValue, 0.001);
+    }
+
+    @Test
+    public void test_shouldSaveManyObjectsInOneCall() {
+        int numOfSomethings = 500;
+        List<SomethingInDatabase> somethings = new ArrayList<>();
+        for (int i = 0; i < numOfSomethings; i++) {
+            somethings.add(new SomethingInDatabase("Something" + i, i, i + 0.5));
+        }
+
+        databaseHelper.saveAll(somethings);
+
+        assertEquals(numOfSomethings, databaseHelper.countAll(SomethingInDatabase.class));
+        assertEquals(499, databaseHelper.find(SomethingInDatabase.class, "Something499").longValue);
+    }
+
+    @Test
+    public void test_shouldReadObjectsLazily() {
+        List<SomethingInDatabase> somethings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            somethings.add(new SomethingInDatabase("Something" + i, i, i + 0.5));
+        }
+        databaseHelper.saveAll(somethings);
+
+        CursorList<SomethingInDatabase> lazySomethings = databaseHelper.queryLazily(SomethingInDatabase.class,
+                "long_value >= ?", new String[]{"50"}, "long_value DESC", 0, 0);
+
+        assertEquals(50, lazySomethings.size());
+        assertEquals("Something99", lazySomethings.get(0).stringValue);
+        assertEquals(50, lazySomethings.get(49).longValue);
+        assertSame(lazySomethings.get(0), lazySomethings.get(0));
+        for (int i = 0; i < lazySomethings.size(); i++) {
+            assertEquals(99 - i, lazySomethings.get(i).longValue);
+        }
+
+        lazySomethings.close();
+        assertTrue(lazySomethings.isClosed());
+        assertEquals(0, lazySomethings.size());
+    }
+}
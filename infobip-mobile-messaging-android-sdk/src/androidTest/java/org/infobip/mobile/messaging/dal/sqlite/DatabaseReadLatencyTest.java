@@ -0,0 +1,95 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Measures message store read latency while another thread performs bulk insert.
+ */
+public class DatabaseReadLatencyTest extends MobileMessagingTestCase {
+
+    private static final int BULK_INSERT_SIZE = 20000;
+
+    @Test
+    public void test_walReadsShouldNotWaitForBulkInsert() throws Exception {
+        ReadLatency wal = measureReadLatencyDuringBulkInsert(DatabaseMode.WRITE_AHEAD_LOGGING);
+        ReadLatency rollbackJournal = measureReadLatencyDuringBulkInsert(DatabaseMode.ROLLBACK_JOURNAL);
+
+        MobileMessagingLogger.d("Read latency during bulk insert, WAL: " + wal + ", rollback journal: " + rollbackJournal);
+        assertTrue("No reads were done during bulk insert", wal.reads > 1);
+        assertTrue("WAL reads waited for bulk insert: " + wal, wal.maxReadNanos < wal.insertNanos / 2);
+    }
+
+    private ReadLatency measureReadLatencyDuringBulkInsert(DatabaseMode mode) throws Exception {
+        String databaseName = "read_latency_" + mode.name().toLowerCase() + ".db";
+        context.deleteDatabase(databaseName);
+        final PushDatabaseHelperImpl helper = new PushDatabaseHelperImpl(context, databaseName, mode);
+        try {
+            helper.save(new SqliteMessage(message("reader")));
+            final List<SqliteMessage> messages = new ArrayList<>(BULK_INSERT_SIZE);
+            for (int i = 0; i < BULK_INSERT_SIZE; i++) {
+                messages.add(new SqliteMessage(message("bulk" + i)));
+            }
+
+            final ReadLatency latency = new ReadLatency();
+            final CountDownLatch insertStarted = new CountDownLatch(1);
+            Thread writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    insertStarted.countDown();
+                    long start = System.nanoTime();
+                    helper.saveAll(messages);
+                    latency.insertNanos = System.nanoTime() - start;
+                }
+            });
+            writer.start();
+            assertTrue(insertStarted.await(10, TimeUnit.SECONDS));
+
+            while (writer.isAlive()) {
+                long start = System.nanoTime();
+                assertNotNull(helper.find(SqliteMessage.class, "reader"));
+                latency.maxReadNanos = Math.max(latency.maxReadNanos, System.nanoTime() - start);
+                latency.reads++;
+            }
+            writer.join();
+
+            assertEquals(BULK_INSERT_SIZE + 1, helper.countAll(SqliteMessage.class));
+            return latency;
+        } finally {
+            helper.close();
+            context.deleteDatabase(databaseName);
+        }
+    }
+
+    private static Message message(String messageId) {
+        Message message = new Message();
+        message.setMessageId(messageId);
+        message.setTitle("title");
+        message.setBody("body of message " + messageId);
+        return message;
+    }
+
+    private static class ReadLatency {
+        volatile long insertNanos;
+        long maxReadNanos;
+        int reads;
+
+        @Override
+        public String toString() {
+            return "reads=" + reads
+                    + ", maxReadMs=" + TimeUnit.NANOSECONDS.toMillis(maxReadNanos)
+                    + ", insertMs=" + TimeUnit.NANOSECONDS.toMillis(insertNanos);
+        }
+    }
+}
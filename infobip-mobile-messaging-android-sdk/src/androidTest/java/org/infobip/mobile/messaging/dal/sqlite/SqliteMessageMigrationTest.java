@@ -6,6 +6,7 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
 import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.storage.MessageQuery;
 import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
@@ -197,4 +198,62 @@ public class SqliteMessageMigrationTest extends MobileMessagingTestCase {
         assertEquals("SomeMessageStatusMessage", messages.get(0).getStatusMessage());
         assertEquals("SomeMessageContentUrl", messages.get(0).getContentUrl());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_shouldMoveFrequentlyReadInternalDataToColumns() throws Exception {
+        // Create SQLiteOpenHelper directly to perform raw operations on database
+        context.deleteDatabase(PushDatabaseHelperImpl.DATABASE_NAME);
+        SQLiteOpenHelper sqLiteOpenHelper = new SQLiteOpenHelper(context, PushDatabaseHelperImpl.DATABASE_NAME, null, PushDatabaseHelperImpl.VER_2026_OCT_17) {
+            @Override
+            public void onCreate(SQLiteDatabase db) {
+                db.execSQL(SQL_CREATE_MAY_MESSAGES_TABLE);
+                db.execSQL(SQL_CREATE_GEO_MESSAGES_TABLE);
+                db.execSQL("ALTER TABLE " + DatabaseContract.Tables.GEO_MESSAGES + " ADD COLUMN " + DatabaseContract.MessageColumns.CONTENT_URL + " TEXT;");
+                db.execSQL("ALTER TABLE " + DatabaseContract.Tables.MESSAGES + " ADD COLUMN " + DatabaseContract.MessageColumns.IN_APP_STYLE + " TEXT;");
+                db.execSQL("ALTER TABLE " + DatabaseContract.Tables.GEO_MESSAGES + " ADD COLUMN " + DatabaseContract.MessageColumns.IN_APP_STYLE + " TEXT;");
+            }
+
+            @Override
+            public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+
+            }
+        };
+
+        SQLiteDatabase db = sqLiteOpenHelper.getWritableDatabase();
+        ContentValues contentValues = new ContentValues();
+        contentValues.put("id", "SomeMessageId");
+        contentValues.put("title", "SomeMessageTitle");
+        contentValues.put("received_timestamp", 1234L);
+        contentValues.put("seen_timestamp", 0L);
+        contentValues.put("internal_data", "{\"sendDateTime\":1000,\"bulkId\":\"SomeBulkId\",\"inAppExpiryDateTime\":2000," +
+                "\"webViewUrl\":\"SomeWebViewUrl\",\"messageType\":\"SomeMessageType\",\"key1\":\"value1\"}");
+        db.insertWithOnConflict(DatabaseContract.Tables.MESSAGES, null, contentValues, SQLiteDatabase.CONFLICT_REPLACE);
+        contentValues.put("id", "OtherMessageId");
+        contentValues.put("internal_data", "{\"sendDateTime\":1000}");
+        db.insertWithOnConflict(DatabaseContract.Tables.MESSAGES, null, contentValues, SQLiteDatabase.CONFLICT_REPLACE);
+        db.close();
+        sqLiteOpenHelper.close();
+
+        // Check that fields were copied to columns and can be queried
+        SQLiteMessageStore messageStore = new SQLiteMessageStore();
+        List<Message> messages = messageStore.find(context, MessageQuery.all()
+                .where(MessageQuery.Field.BULK_ID, MessageQuery.Operator.EQUAL, "SomeBulkId"));
+        assertEquals(1, messages.size());
+        assertEquals("SomeMessageId", messages.get(0).getMessageId());
+        assertEquals(1000L, messages.get(0).getSentTimestamp());
+        assertEquals(2000L, messages.get(0).getInAppExpiryTimestamp());
+        assertEquals("SomeWebViewUrl", messages.get(0).getWebViewUrl());
+        assertEquals("SomeMessageType", messages.get(0).getMessageType());
+        JSONAssert.assertEquals("{\"key1\":\"value1\"}", messages.get(0).getInternalData(), false);
+
+        messages = messageStore.find(context, MessageQuery.all()
+                .where(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Operator.GREATER_THAN, 0)
+                .where(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Operator.LESS_THAN, 3000));
+        assertEquals(1, messages.size());
+        assertEquals("SomeMessageId", messages.get(0).getMessageId());
+
+        Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT * FROM " + DatabaseContract.Tables.GEO_MESSAGES, new String[0]);
+        assertNotEquals(-1, cursor.getColumnIndex(DatabaseContract.MessageColumns.BULK_ID));
+        cursor.close();
+    }
+}
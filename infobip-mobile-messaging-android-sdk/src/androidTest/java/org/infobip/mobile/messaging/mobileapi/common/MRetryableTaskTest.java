@@ -2,12 +2,15 @@ package org.infobip.mobile.messaging.mobileapi.common;
 
 import androidx.annotation.NonNull;
 
+import org.infobip.mobile.messaging.api.appinstance.MobileApiAppInstance;
+import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.concurrent.Executor;
 
+import static junit.framework.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -276,4 +279,11 @@ public class MRetryableTaskTest extends MobileMessagingTestCase {
         Mockito.verify(tester, Mockito.never()).error(any(Throwable.class));
         Mockito.verify(tester, Mockito.never()).error(any(String[].class), any(Throwable.class));
     }
+
+    @Test
+    public void shouldCreateEndpointKeyFromHttpMethodAndPathTemplate() {
+        assertEquals("POST /mobile/{version}/messages/seen", MRetryableTask.endpointKey(MobileApiMessages.class, "reportSeen"));
+        assertEquals("POST /mobile/{version}/messages", MRetryableTask.endpointKey(MobileApiMessages.class, "sync"));
+        assertEquals("PATCH /mobile/{version}/appinstance/{regId}/user", MRetryableTask.endpointKey(MobileApiAppInstance.class, "patchUser"));
+    }
 }
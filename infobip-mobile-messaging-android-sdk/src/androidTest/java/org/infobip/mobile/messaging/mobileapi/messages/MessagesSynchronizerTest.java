@@ -5,6 +5,7 @@ import org.infobip.mobile.messaging.api.messages.MessageResponse;
 import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
 import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
 import org.infobip.mobile.messaging.cloud.MobileMessageHandler;
+import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
@@ -15,7 +16,11 @@ import org.mockito.Mockito;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static junit.framework.Assert.assertEquals;
@@ -27,6 +32,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -172,6 +178,47 @@ public class MessagesSynchronizerTest extends MobileMessagingTestCase {
         assertFalse(actualMessages.get(2).isVibrate());
     }
 
+    @Test
+    public void should_keep_unreported_message_ids_when_sync_is_rejected_by_full_queue() throws Exception {
+
+        // Given
+        mobileMessagingCore.getAndRemoveUnreportedMessageIds();
+        mobileMessagingCore.addUnreportedMessageIds("1", "2");
+        final CountDownLatch blocker = new CountDownLatch(1);
+        ThreadPoolExecutor fullExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1));
+        fullExecutor.execute(blockingTask(blocker));
+        fullExecutor.execute(blockingTask(blocker));
+        messagesSynchronizer = new MessagesSynchronizer(mobileMessagingCore, mobileMessagingCore.getStats(),
+                fullExecutor, broadcaster, retryPolicy, mobileMessageHandler, mobileApiMessages);
+
+        // When
+        try {
+            messagesSynchronizer.sync();
+        } finally {
+            blocker.countDown();
+            fullExecutor.shutdown();
+        }
+
+        // Then
+        verify(broadcaster, after(1000).times(1)).error(any(MobileMessagingError.class));
+        verify(mobileApiMessages, never()).sync(any(SyncMessagesBody.class));
+        List<String> unreportedMessageIds = asList(mobileMessagingCore.getAndRemoveUnreportedMessageIds());
+        assertEquals(2, unreportedMessageIds.size());
+        assertTrue(unreportedMessageIds.containsAll(asList("1", "2")));
+    }
+
+    private static Runnable blockingTask(final CountDownLatch blocker) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blocker.await();
+                } catch (InterruptedException ignored) {
+                }
+            }
+        };
+    }
+
     private static List<String> getReportedDLRs(List<SyncMessagesBody> bodies) {
         List<String> ids = new ArrayList<>();
         for (SyncMessagesBody body : bodies) {
@@ -8,6 +8,7 @@ import org.junit.Test;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -29,6 +30,28 @@ public class CryptorTest extends MobileMessagingTestCase {
         assertEquals(data, decrypted);
     }
 
+    @Test
+    public void test_shouldReuseCipherAfterFailedDecryption() throws Exception {
+        final CryptorImpl cryptor = new CryptorImpl("thisIsMySuperSecretKey");
+        String encrypted = cryptor.encrypt("thisIsMyTestData");
+
+        assertEquals(encrypted, cryptor.encrypt("thisIsMyTestData"));
+        assertNull(cryptor.decrypt(Base64.encodeToString("notEncrypted".getBytes(), Base64.NO_WRAP)));
+        assertEquals("thisIsMyTestData", cryptor.decrypt(encrypted));
+
+        final String[] decryptedOnOtherThread = new String[1];
+        final String encryptedOnThisThread = encrypted;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                decryptedOnOtherThread[0] = cryptor.decrypt(encryptedOnThisThread);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertEquals("thisIsMyTestData", decryptedOnOtherThread[0]);
+    }
+
     @Test
     public void test_deprecated_encryptDecrypt() throws Exception {
         String data = "thisIsMyTestData";
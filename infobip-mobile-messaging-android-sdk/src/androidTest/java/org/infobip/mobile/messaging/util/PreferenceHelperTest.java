@@ -4,6 +4,10 @@ import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNull;
@@ -133,4 +137,55 @@ public class PreferenceHelperTest extends MobileMessagingTestCase {
         assertFalse(PreferenceHelper.contains(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
         assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
     }
+
+    @Test
+    public void test_shouldReadPropertiesWrittenThroughSnapshot() throws Exception {
+        final List<MobileMessagingProperty> changedProperties = new ArrayList<>();
+        PreferenceHelper.PropertyChangeListener listener = new PreferenceHelper.PropertyChangeListener() {
+            @Override
+            public void onPropertyChanged(MobileMessagingProperty property) {
+                changedProperties.add(property);
+            }
+        };
+        PreferenceHelper.addPropertyChangeListener(listener);
+
+        try {
+            assertTrue(PreferenceHelper.findBoolean(context, MobileMessagingProperty.PUSH_REGISTRATION_ENABLED));
+            assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+
+            PreferenceHelper.saveBoolean(context, MobileMessagingProperty.PUSH_REGISTRATION_ENABLED, false);
+            PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "StubStringValue");
+            PreferenceHelper.saveLong(context, MobileMessagingProperty.ACTIVE_SESSION_START_TIME_MILLIS, 100L);
+
+            assertFalse(PreferenceHelper.findBoolean(context, MobileMessagingProperty.PUSH_REGISTRATION_ENABLED));
+            assertEquals("StubStringValue", PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+            assertEquals(100L, PreferenceHelper.findLong(context, MobileMessagingProperty.ACTIVE_SESSION_START_TIME_MILLIS));
+
+            PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "");
+            PreferenceHelper.saveLong(context, MobileMessagingProperty.ACTIVE_SESSION_START_TIME_MILLIS.getKey(), 200L);
+
+            assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+            assertEquals(200L, PreferenceHelper.findLong(context, MobileMessagingProperty.ACTIVE_SESSION_START_TIME_MILLIS));
+            assertEquals(Arrays.asList(
+                    MobileMessagingProperty.PUSH_REGISTRATION_ENABLED,
+                    MobileMessagingProperty.INFOBIP_REGISTRATION_ID,
+                    MobileMessagingProperty.ACTIVE_SESSION_START_TIME_MILLIS,
+                    MobileMessagingProperty.INFOBIP_REGISTRATION_ID), changedProperties);
+        } finally {
+            PreferenceHelper.removePropertyChangeListener(listener);
+        }
+    }
+
+    @Test
+    public void test_shouldReloadPropertiesAfterSnapshotReset() throws Exception {
+        PreferenceHelper.saveBoolean(context, MobileMessagingProperty.PUSH_REGISTRATION_ENABLED, false);
+
+        PreferenceHelper.getDefaultMMSharedPreferences(context).edit()
+                .putBoolean(MobileMessagingProperty.PUSH_REGISTRATION_ENABLED.getKey(), true)
+                .commit();
+        assertFalse(PreferenceHelper.findBoolean(context, MobileMessagingProperty.PUSH_REGISTRATION_ENABLED));
+
+        PreferenceHelper.resetPropertySnapshot();
+        assertTrue(PreferenceHelper.findBoolean(context, MobileMessagingProperty.PUSH_REGISTRATION_ENABLED));
+    }
 }
@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import com.google.gson.annotations.SerializedName;
 
 import org.infobip.mobile.messaging.dal.bundle.MessageBundleMapper;
+import org.infobip.mobile.messaging.dal.json.ParsedInternalData;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.util.StringUtils;
 import org.json.JSONObject;
@@ -41,6 +42,7 @@ public class Message implements Comparable<Message> {
     private long inAppExpiryTimestamp;
     private JSONObject customPayload;
     private String internalData;
+    private transient ParsedInternalData parsedInternalData;
     private String contentUrl;
     private String webViewUrl;
     private String browserUrl;
@@ -139,6 +141,32 @@ public class Message implements Comparable<Message> {
 
     public void setInternalData(String internalData) {
         this.internalData = internalData;
+        this.parsedInternalData = null;
+    }
+
+    /**
+     * Sets internal data together with its already parsed view, so that it is not parsed again
+     *
+     * @param parsedInternalData parsed internal data
+     */
+    public void setParsedInternalData(@NonNull ParsedInternalData parsedInternalData) {
+        this.internalData = parsedInternalData.getJson();
+        this.parsedInternalData = parsedInternalData;
+    }
+
+    /**
+     * Returns internal data parsed once and cached until internal data changes
+     *
+     * @return parsed internal data, never null
+     */
+    @NonNull
+    public ParsedInternalData getParsedInternalData() {
+        ParsedInternalData parsed = parsedInternalData;
+        if (parsed == null || parsed.getJson() != internalData) {
+            parsed = ParsedInternalData.parse(internalData);
+            parsedInternalData = parsed;
+        }
+        return parsed;
     }
 
     public String getMessageId() {
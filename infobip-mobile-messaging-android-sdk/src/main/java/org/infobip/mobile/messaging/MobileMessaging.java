@@ -13,6 +13,7 @@ import androidx.annotation.RequiresPermission;
 
 import com.google.firebase.FirebaseOptions;
 
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseMode;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
@@ -503,6 +504,7 @@ public abstract class MobileMessaging {
         private boolean storeAppCodeOnDisk = true;
         private boolean allowUntrustedSSLOnError = false;
         private boolean usePrivateSharedPrefs = true;
+        private DatabaseMode databaseMode = DatabaseMode.WRITE_AHEAD_LOGGING;
         private boolean postNotificationPermissionRequest = true;
         private boolean fullFeaturedInApps = false;
         private ApplicationCodeProvider applicationCodeProvider = null;
@@ -843,6 +845,25 @@ public abstract class MobileMessaging {
             return this;
         }
 
+        /**
+         * Sets journaling mode of the SDK database.
+         * <br>By default {@link DatabaseMode#WRITE_AHEAD_LOGGING} is used which lets message store reads run concurrently with writes,
+         * use {@link DatabaseMode#ROLLBACK_JOURNAL} to keep single connection and rollback journal of previous SDK versions.
+         * <pre>
+         * {@code new MobileMessaging.Builder(application)
+         *       .withDatabaseMode(DatabaseMode.ROLLBACK_JOURNAL)
+         *       .build();}
+         * </pre>
+         *
+         * @param databaseMode mode of the database
+         * @return {@link Builder}
+         */
+        public Builder withDatabaseMode(@NonNull DatabaseMode databaseMode) {
+            validateWithParam(databaseMode);
+            this.databaseMode = databaseMode;
+            return this;
+        }
+
         /**
          * It will migrate all MobileMessaging data from public shared preferences to private storage under `MobileMessagingSDK` name maintaining the
          * new private storage. Old public prefs will be deleted.
@@ -910,6 +931,7 @@ public abstract class MobileMessaging {
             MobileMessagingCore.setShouldSaveAppCode(application, storeAppCodeOnDisk);
             MobileMessagingCore.setAllowUntrustedSSLOnError(application, allowUntrustedSSLOnError);
             MobileMessagingCore.setSharedPrefsStorage(application, usePrivateSharedPrefs);
+            MobileMessagingCore.setDatabaseMode(application, databaseMode);
 
             MobileMessagingCore.Builder mobileMessagingCoreBuilder = new MobileMessagingCore.Builder(application)
                     .withDisplayNotification(notificationSettings)
@@ -9,6 +9,8 @@ import android.app.NotificationChannel;
 import android.app.NotificationManager;
 import android.content.Context;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.TextUtils;
 import android.util.Pair;
 
@@ -29,13 +31,17 @@ import org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler;
 import org.infobip.mobile.messaging.cloud.MobileMessagingCloudService;
 import org.infobip.mobile.messaging.cloud.PlayServicesSupport;
 import org.infobip.mobile.messaging.cloud.firebase.FirebaseAppProvider;
+import org.infobip.mobile.messaging.dal.journal.IdJournal;
+import org.infobip.mobile.messaging.dal.journal.MessageIdIndex;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseMode;
 import org.infobip.mobile.messaging.dal.sqlite.PushDatabaseHelperImpl;
 import org.infobip.mobile.messaging.dal.sqlite.SqliteDatabaseProvider;
 import org.infobip.mobile.messaging.interactive.MobileInteractiveImpl;
 import org.infobip.mobile.messaging.interactive.notification.InteractiveNotificationHandler;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.BatchReporter;
+import org.infobip.mobile.messaging.mobileapi.ReportQueue;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
@@ -61,6 +67,9 @@ import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
 import org.infobip.mobile.messaging.platform.Broadcaster;
 import org.infobip.mobile.messaging.platform.MobileMessagingJobService;
 import org.infobip.mobile.messaging.platform.Platform;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
+import org.infobip.mobile.messaging.platform.SdkExecutor.Priority;
+import org.infobip.mobile.messaging.platform.SdkScheduler;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.storage.MessageStore;
@@ -90,12 +99,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -122,7 +130,7 @@ public class MobileMessagingCore
     private static DatabaseHelper databaseHelper;
     private static MobileMessagingSynchronizationReceiver mobileMessagingSynchronizationReceiver;
     private final MobileMessagingStats stats;
-    private final ExecutorService registrationAlignedExecutor;
+    private final ExecutorService sdkExecutor;
     private final RetryPolicyProvider retryPolicyProvider;
     private final Broadcaster broadcaster;
     private final ModuleLoader moduleLoader;
@@ -154,17 +162,20 @@ public class MobileMessagingCore
     private FirebaseAppProvider firebaseAppProvider;
     private PostNotificationsPermissionRequester postNotificationsPermissionRequester;
     private InAppClickReporter inAppClickReporter;
+    private ReportQueue reportQueue;
+    private final List<BatchReporter> batchReporters = new CopyOnWriteArrayList<>();
+    private MessageIdIndex syncMessageIdIndex;
 
     protected MobileMessagingCore(Context context) {
-        this(context, new AndroidBroadcaster(context), Executors.newSingleThreadExecutor(), new ModuleLoader(context), new FirebaseAppProvider(context));
+        this(context, new AndroidBroadcaster(context), SdkExecutor.getInstance(), new ModuleLoader(context), new FirebaseAppProvider(context));
     }
 
-    protected MobileMessagingCore(Context context, Broadcaster broadcaster, ExecutorService registrationAlignedExecutor, ModuleLoader moduleLoader, FirebaseAppProvider firebaseAppProvider) {
+    protected MobileMessagingCore(Context context, Broadcaster broadcaster, ExecutorService sdkExecutor, ModuleLoader moduleLoader, FirebaseAppProvider firebaseAppProvider) {
         MobileMessagingLogger.init(context);
 
         this.context = context;
         this.broadcaster = broadcaster;
-        this.registrationAlignedExecutor = registrationAlignedExecutor;
+        this.sdkExecutor = sdkExecutor;
         this.stats = new MobileMessagingStats(context);
         this.retryPolicyProvider = new RetryPolicyProvider(context);
         this.moduleLoader = moduleLoader;
@@ -306,11 +317,22 @@ public class MobileMessagingCore
 
     public static DatabaseHelper getDatabaseHelper(Context context) {
         if (null == databaseHelper) {
-            databaseHelper = new PushDatabaseHelperImpl(context.getApplicationContext());
+            databaseHelper = new PushDatabaseHelperImpl(context.getApplicationContext(), getDatabaseMode(context));
         }
         return databaseHelper;
     }
 
+    public static DatabaseMode getDatabaseMode(Context context) {
+        return DatabaseMode.fromName(PreferenceHelper.findString(context, MobileMessagingProperty.DATABASE_MODE));
+    }
+
+    /**
+     * Sets mode of SDK database, takes effect when database is opened next time.
+     */
+    public static void setDatabaseMode(Context context, DatabaseMode databaseMode) {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.DATABASE_MODE, databaseMode.name());
+    }
+
     public static SqliteDatabaseProvider getDatabaseProvider(Context context) {
         return (SqliteDatabaseProvider) getDatabaseHelper(context);
     }
@@ -359,7 +381,7 @@ public class MobileMessagingCore
         }
         if (foreground) {
             lastForegroundSyncMillis = lastSyncTimeMillis;
-            userEventsSynchronizer().reportSessions();
+            reportQueue().flush(ReportQueue.Endpoint.USER_SESSIONS);
             performSyncActions();
             versionChecker().sync();
             return;
@@ -407,10 +429,26 @@ public class MobileMessagingCore
         } else {
             userDataReporter().patch(null, getUnreportedUserData());
         }
-        messagesSynchronizer().sync();
-        moMessageSender().sync();
-        seenStatusReporter().sync();
-        inAppClickReporter().sync();
+        reportQueue().flush(ReportQueue.Endpoint.DELIVERY);
+        reportQueue().flush(ReportQueue.Endpoint.MO_MESSAGES);
+        reportQueue().flush(ReportQueue.Endpoint.SEEN);
+        reportQueue().flush(ReportQueue.Endpoint.IN_APP_CLICK);
+    }
+
+    /**
+     * Checks if stored reports can be sent now, they stay stored and are sent on the next sync otherwise
+     */
+    private boolean isReportingPossible() {
+        if (TextUtils.isEmpty(MobileMessagingCore.getApplicationCode(context)) || isDepersonalizeInProgress()) {
+            return false;
+        }
+
+        if (!MobileNetworkInformation.isNetworkAvailableSafely(context)) {
+            didSyncAtLeastOnce = true;
+            registerForNetworkAvailability();
+            return false;
+        }
+        return true;
     }
 
     protected void syncInstallation() {
@@ -490,9 +528,9 @@ public class MobileMessagingCore
     private void depersonalizeCurrentInstallation(boolean forceDepersonalize) {
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_USER_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.USER_DATA);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).clear();
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).clear();
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS).clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.IS_PRIMARY_UNREPORTED);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
         PreferenceHelper.remove(context, MobileMessagingProperty.CUSTOM_ATTRIBUTES);
@@ -506,6 +544,7 @@ public class MobileMessagingCore
         if (messageStore != null) {
             messageStore.deleteAll(context);
         }
+        mobileApiResourceProvider().clearResponseCache(context);
         getNotificationHandler().cancelAllNotifications();
         for (MessageHandlerModule module : messageHandlerModules.values()) {
             module.depersonalize();
@@ -699,61 +738,45 @@ public class MobileMessagingCore
 
     @NonNull
     public String[] getAndRemoveUnreportedMessageIds() {
-        return PreferenceHelper.findAndRemoveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
+        return IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).drainAll();
     }
 
     public void addUnreportedMessageIds(String... messageIDs) {
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, messageIDs);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).append(messageIDs);
     }
 
     public void addSyncMessagesIds(String... messageIDs) {
-        String[] timestampMessageIdPair = enrichMessageIdsWithTimestamp(messageIDs);
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, timestampMessageIdPair);
+        getSyncMessageIdIndex().add(messageIDs);
     }
 
     public String[] getSyncMessagesIds() {
-        String[] messageIds = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
-        ArrayList<String> messageIdsArrayList = new ArrayList<>(Arrays.asList(messageIds));
-        Set<String> messageIdsToSync = new HashSet<>(Math.min(messageIdsArrayList.size(), MESSAGE_ID_PARAMETER_LIMIT));
-        boolean shouldUpdateMessageIds = false;
-
-        for (int i = 0; i < messageIdsArrayList.size(); i++) {
-            String syncMessage = messageIdsArrayList.get(i);
-            String[] messageIdWithTimestamp = syncMessage.split(StringUtils.COMMA_WITH_SPACE);
-
-            String strTimeMessageReceived = messageIdWithTimestamp[1];
-
-            long timeMessageReceived = Long.parseLong(strTimeMessageReceived);
-            long timeInterval = Time.now() - timeMessageReceived;
-
-            if (timeInterval > MESSAGE_EXPIRY_TIME || i >= MESSAGE_ID_PARAMETER_LIMIT) {
-                messageIdsArrayList.remove(i);
-                shouldUpdateMessageIds = true;
-                i--;
-            } else {
-                messageIdsToSync.add(messageIdWithTimestamp[0]);
-            }
-        }
-
-        if (shouldUpdateMessageIds) {
-            String[] messageIdsToUpdate = new String[messageIdsArrayList.size()];
-            messageIdsToUpdate = messageIdsArrayList.toArray(messageIdsToUpdate);
-            PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
-            PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, messageIdsToUpdate);
-        }
-
-        return messageIdsToSync.toArray(new String[0]);
+        return getSyncMessageIdIndex().toArray();
     }
 
     public boolean isMessageAlreadyProcessed(String messageId) {
-        return Arrays.asList(getSyncMessagesIds()).contains(messageId);
+        return getSyncMessageIdIndex().contains(messageId);
+    }
+
+    private synchronized MessageIdIndex getSyncMessageIdIndex() {
+        if (syncMessageIdIndex == null) {
+            IdJournal journal = IdJournal.get(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+            syncMessageIdIndex = new MessageIdIndex(journal, MESSAGE_EXPIRY_TIME, MESSAGE_ID_PARAMETER_LIMIT);
+        }
+        return syncMessageIdIndex;
     }
 
     public String[] getUnreportedSeenMessageIds() {
-        String[] ids = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
+        String[] ids = IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).toArray();
         return filterOutGeneratedMessageIds(ids);
     }
 
+    /**
+     * @return seen reports from the given ones which are not reported yet
+     */
+    public String[] retainUnreportedSeenMessageIds(String... seenReports) {
+        return IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).retain(seenReports);
+    }
+
     /**
      * Method to update unreported seen ids
      *
@@ -764,26 +787,19 @@ public class MobileMessagingCore
             return;
         }
 
-        PreferenceHelper.runTransaction(new PreferenceHelper.Transaction<Void>() {
-            @Override
-            public Void run() {
-                String[] reports = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-                if (reports.length == 0) {
-                    return null;
-                }
-
-                for (int i = 0; i < reports.length; i++) {
-                    String[] messageIdAndTimestamp = reports[i].split(StringUtils.COMMA_WITH_SPACE);
-                    String newMessageId = messageIdMap.get(messageIdAndTimestamp[0]);
-                    if (newMessageId != null) {
-                        reports[i] = StringUtils.concat(newMessageId, messageIdAndTimestamp[1], StringUtils.COMMA_WITH_SPACE);
-                    }
-                }
-
-                PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, reports);
-                return null;
+        IdJournal journal = IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
+        Map<String, String> replacements = new HashMap<>();
+        for (String report : journal.toArray()) {
+            String[] messageIdAndTimestamp = report.split(StringUtils.COMMA_WITH_SPACE);
+            String newMessageId = messageIdMap.get(messageIdAndTimestamp[0]);
+            if (newMessageId != null) {
+                replacements.put(report, StringUtils.concat(newMessageId, messageIdAndTimestamp[1], StringUtils.COMMA_WITH_SPACE));
             }
-        });
+        }
+
+        if (!replacements.isEmpty()) {
+            journal.replace(replacements);
+        }
     }
 
     public void updateGeneratedMessageIds(final Map<String, String> messageIdMap) {
@@ -819,7 +835,7 @@ public class MobileMessagingCore
 
     private void addUnreportedSeenMessageIds(final String... messageIDs) {
         String[] seenMessages = enrichMessageIdsWithTimestamp(messageIDs);
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, seenMessages);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).append(seenMessages);
     }
 
     public String[] enrichMessageIdsWithTimestamp(String[] messageIDs) {
@@ -892,14 +908,14 @@ public class MobileMessagingCore
     }
 
     public void removeUnreportedSeenMessageIds(final String... messageIDs) {
-        PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, messageIDs);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).remove(messageIDs);
     }
 
     public void setMessagesDelivered(String... messageIds) {
         if (messageIds != null) {
             addUnreportedMessageIds(messageIds);
             addSyncMessagesIds(messageIds);
-            sync();
+            reportQueue().flush(ReportQueue.Endpoint.DELIVERY);
         }
     }
 
@@ -907,14 +923,14 @@ public class MobileMessagingCore
         if (messageIds != null) {
             addUnreportedSeenMessageIds(messageIds);
             updateStoredMessagesWithSeenStatus(messageIds);
-            lazySync();
+            reportQueue().enqueue(ReportQueue.Endpoint.SEEN, messageIds);
         }
     }
 
     public void setMessagesSeenDontStore(String... messageIds) {
         if (messageIds != null) {
             addUnreportedSeenMessageIds(messageIds);
-            lazySync();
+            reportQueue().enqueue(ReportQueue.Endpoint.SEEN, messageIds);
         }
     }
 
@@ -925,31 +941,42 @@ public class MobileMessagingCore
 
         MessageStore messageStore = getMessageStore();
         List<String> messageIdList = Arrays.asList(messageIds);
-        for (Message m : new ArrayList<>(messageStore.findAll(context))) {
+        List<Message> seenMessages = new ArrayList<>();
+        for (Message m : messageStore.findAll(context)) {
             if (messageIdList.contains(m.getMessageId())) {
                 m.setSeenTimestamp(Time.now());
-                messageStore.save(context, m);
+                seenMessages.add(m);
             }
         }
+        if (!seenMessages.isEmpty()) {
+            messageStore.upsertAll(context, seenMessages.toArray(new Message[0]));
+        }
     }
 
     public void reportInAppClick(String... clickUrls) {
         if (clickUrls != null) {
             addUnreportedInAppClicks(clickUrls);
+            reportQueue().enqueue(ReportQueue.Endpoint.IN_APP_CLICK, clickUrls);
         }
-        lazySync();
     }
 
     public void addUnreportedInAppClicks(final String... clickUrls) {
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS, clickUrls);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS).append(clickUrls);
     }
 
     public String[] getUnreportedInAppClickActions() {
-        return PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS);
+        return IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS).toArray();
     }
 
     public void removeUnreportedInAppClickActions(final String... clickUrls) {
-        PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS, clickUrls);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS).remove(clickUrls);
+    }
+
+    /**
+     * @return click reports from the given ones which are not reported yet
+     */
+    public String[] retainUnreportedInAppClickActions(String... clickReports) {
+        return IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS).retain(clickReports);
     }
 
     /**
@@ -1345,6 +1372,7 @@ public class MobileMessagingCore
             mobileMessagingSynchronizationReceiver = null;
         }
         ComponentUtil.setConnectivityComponentsStateEnabled(context, false);
+        Platform.mobileMessagingCore.get(context).mobileApiResourceProvider().clearResponseCache(context);
         resetMobileApi();
 
         PreferenceHelper.remove(context, MobileMessagingProperty.CLOUD_TOKEN);
@@ -1355,14 +1383,14 @@ public class MobileMessagingCore
 
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_USER_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.USER_DATA);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).clear();
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_SYSTEM_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.REPORTED_SYSTEM_DATA_HASH);
         PreferenceHelper.remove(context, MobileMessagingProperty.IS_PRIMARY_UNREPORTED);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
 
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+        IdJournal.get(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS).clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.CUSTOM_ATTRIBUTES);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_CUSTOM_ATTRIBUTES);
         PreferenceHelper.remove(context, MobileMessagingProperty.APP_USER_ID);
@@ -1624,8 +1652,10 @@ public class MobileMessagingCore
 
     @Override
     public void submitEvent(@NonNull CustomEvent customEvent) {
-        addUnreportedUserCustomEvent(customEvent);
-        userEventsSynchronizer().reportCustomEvents();
+        String storedEvent = addUnreportedUserCustomEvent(customEvent);
+        if (storedEvent != null) {
+            reportQueue().enqueue(ReportQueue.Endpoint.CUSTOM_EVENTS, storedEvent);
+        }
     }
 
     @Override
@@ -1637,25 +1667,30 @@ public class MobileMessagingCore
         userEventsSynchronizer().reportCustomEvent(customEvent, listener);
     }
 
-    public void addUnreportedUserCustomEvent(CustomEvent customEvent) {
+    /**
+     * Stores custom event for reporting
+     *
+     * @return stored event or null if event request cannot be created
+     */
+    @Nullable
+    public String addUnreportedUserCustomEvent(CustomEvent customEvent) {
         UserCustomEventBody customEventRequest = UserEventsRequestMapper.createCustomEventRequest(customEvent);
-        if (customEventRequest == null) return;
+        if (customEventRequest == null) return null;
         UserCustomEventBody.CustomEvent customEvents = customEventRequest.getEvents()[0];
         String customEventRequestJsonString = UserEventsRequestMapper.toJson(customEvents);
         PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.USER_CUSTOM_EVENTS, customEventRequestJsonString);
+        return customEventRequestJsonString;
     }
 
-    public UserCustomEventBody.CustomEvent[] getUnreportedUserCustomEvents() {
-        String[] customEventsStringArray = PreferenceHelper.findStringArray(context, MobileMessagingProperty.USER_CUSTOM_EVENTS);
-        List<UserCustomEventBody.CustomEvent> customEvents = new ArrayList<>();
-        for (String eventJsonString : customEventsStringArray) {
-            customEvents.add(UserEventsRequestMapper.fromJson(eventJsonString));
-        }
-        return customEvents.toArray(new UserCustomEventBody.CustomEvent[0]);
+    /**
+     * @return custom events stored by {@link #addUnreportedUserCustomEvent(CustomEvent)} and not reported yet
+     */
+    public String[] getStoredUserCustomEvents() {
+        return PreferenceHelper.findStringArray(context, MobileMessagingProperty.USER_CUSTOM_EVENTS.getKey(), new String[0]);
     }
 
-    public void setUserCustomEventsReported() {
-        PreferenceHelper.remove(context, MobileMessagingProperty.USER_CUSTOM_EVENTS);
+    public void setUserCustomEventsReported(String... storedEvents) {
+        PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.USER_CUSTOM_EVENTS, storedEvents);
     }
 
     public void saveSessionBounds(Context context, long sessionStartTimeMillis, long sessionEndTimeMillis) {
@@ -1671,7 +1706,7 @@ public class MobileMessagingCore
             MobileMessagingLogger.d("Postponing session sync until app code is available");
             return;
         }
-        userEventsSynchronizer().reportSessions();
+        reportQueue().enqueue(ReportQueue.Endpoint.USER_SESSIONS);
     }
 
     public String[] getStoredSessionBounds() {
@@ -1771,7 +1806,7 @@ public class MobileMessagingCore
     @Override
     public void sendMessages(MobileMessaging.ResultListener<Message[]> listener, Message... messages) {
         if (isMessageStoreEnabled()) {
-            getMessageStore().save(context, messages);
+            getMessageStore().upsertAll(context, messages);
         }
         moMessageSender().send(listener, messages);
     }
@@ -1781,7 +1816,9 @@ public class MobileMessagingCore
     }
 
     public void sendMessagesWithRetry(Message... messages) {
-        moMessageSender().sendWithRetry(messages);
+        // messages are sent by the user (e.g. notification replies), only retries wait for the next sync
+        moMessageSender().saveForRetry(messages);
+        reportQueue().flush(ReportQueue.Endpoint.MO_MESSAGES);
     }
 
     public boolean isGeofencingActivated() {
@@ -1901,7 +1938,18 @@ public class MobileMessagingCore
             public void after(Void aVoid) {
                 runnable.run();
             }
-        }.execute();
+        }.execute(executor(Priority.USER_FACING));
+    }
+
+    /**
+     * Requests with application callbacks and those other requests depend on (registration, base URL) run ahead
+     * of message sync, analytics reports run after it
+     */
+    private Executor executor(Priority priority) {
+        if (sdkExecutor instanceof SdkExecutor) {
+            return ((SdkExecutor) sdkExecutor).forPriority(priority);
+        }
+        return sdkExecutor;
     }
 
     @NonNull
@@ -1916,7 +1964,7 @@ public class MobileMessagingCore
     private MoMessageSender moMessageSender() {
         if (moMessageSender == null) {
             moMessageSender = new MoMessageSender(context, this, broadcaster,
-                    registrationAlignedExecutor, stats, retryPolicyProvider.DEFAULT(), mobileApiResourceProvider().getMobileApiMessages(context), getMessageStoreWrapper());
+                    executor(Priority.USER_FACING), stats, retryPolicyProvider.DEFAULT(), mobileApiResourceProvider().getMobileApiMessages(context), getMessageStoreWrapper());
         }
         return moMessageSender;
     }
@@ -1924,7 +1972,7 @@ public class MobileMessagingCore
     @NonNull
     private UserDataReporter userDataReporter() {
         if (userDataReporter == null) {
-            userDataReporter = new UserDataReporter(this, registrationAlignedExecutor,
+            userDataReporter = new UserDataReporter(this, executor(Priority.USER_FACING),
                     broadcaster, retryPolicyProvider, stats, mobileApiResourceProvider().getMobileApiAppInstance(context));
         }
         return userDataReporter;
@@ -1938,8 +1986,8 @@ public class MobileMessagingCore
                     broadcaster,
                     mobileApiResourceProvider().getMobileApiAppInstance(context),
                     retryPolicyProvider.DEFAULT(),
-                    registrationAlignedExecutor,
-                    new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)),
+                    executor(Priority.USER_FACING),
+                    newBatchReporter(),
                     this);
         }
         return personalizeSynchronizer;
@@ -1949,7 +1997,7 @@ public class MobileMessagingCore
     private MessagesSynchronizer messagesSynchronizer() {
         if (messagesSynchronizer == null) {
             MobileMessageHandler mobileMessageHandler = new MobileMessageHandler(this, broadcaster, getNotificationHandler(), getMessageStoreWrapper());
-            messagesSynchronizer = new MessagesSynchronizer(this, stats, registrationAlignedExecutor,
+            messagesSynchronizer = new MessagesSynchronizer(this, stats, executor(Priority.DEFAULT),
                     broadcaster, retryPolicyProvider.DEFAULT(), mobileMessageHandler, mobileApiResourceProvider().getMobileApiMessages(context));
         }
         return messagesSynchronizer;
@@ -1958,8 +2006,8 @@ public class MobileMessagingCore
     @NonNull
     private SeenStatusReporter seenStatusReporter() {
         if (seenStatusReporter == null) {
-            seenStatusReporter = new SeenStatusReporter(this, stats, registrationAlignedExecutor, broadcaster,
-                    mobileApiResourceProvider().getMobileApiMessages(context), new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)));
+            seenStatusReporter = new SeenStatusReporter(this, stats, executor(Priority.ANALYTICS), broadcaster,
+                    mobileApiResourceProvider().getMobileApiMessages(context), reportQueueBatchReporter());
         }
         return seenStatusReporter;
     }
@@ -1967,11 +2015,101 @@ public class MobileMessagingCore
     @NonNull
     private InAppClickReporter inAppClickReporter() {
         if (inAppClickReporter == null) {
-            inAppClickReporter = new InAppClickReporter(this, stats, registrationAlignedExecutor, broadcaster, new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)), retryPolicyProvider.DEFAULT());
+            inAppClickReporter = new InAppClickReporter(this, stats, executor(Priority.ANALYTICS), broadcaster, reportQueueBatchReporter(), retryPolicyProvider.DEFAULT());
         }
         return inAppClickReporter;
     }
 
+    @NonNull
+    private BatchReporter newBatchReporter() {
+        BatchReporter batchReporter = new BatchReporter(
+                PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY),
+                PreferenceHelper.findInt(context, MobileMessagingProperty.REPORT_BATCH_MAX_COUNT));
+        batchReporters.add(batchReporter);
+        return batchReporter;
+    }
+
+    /**
+     * Batch reporter for reporters flushed by {@link ReportQueue}, the queue already waits for more reports
+     * so the reporter only splits them into batches and sends them right away
+     */
+    @NonNull
+    private BatchReporter reportQueueBatchReporter() {
+        return new BatchReporter(0L, PreferenceHelper.findInt(context, MobileMessagingProperty.REPORT_BATCH_MAX_COUNT));
+    }
+
+    /**
+     * Sends reports which are waiting to be batched with later ones, invoked when application goes to background.
+     * Reports are flushed on {@link SdkScheduler}, flushing reads and compacts stored reports which must not block the caller.
+     */
+    public void flushPendingReports() {
+        SdkScheduler.getInstance().schedule("flushPendingReports", new Runnable() {
+            @Override
+            public void run() {
+                ReportQueue queue;
+                synchronized (MobileMessagingCore.this) {
+                    queue = reportQueue;
+                }
+                if (queue != null) {
+                    queue.flushPending();
+                }
+                for (BatchReporter batchReporter : batchReporters) {
+                    batchReporter.flush();
+                }
+            }
+        }, 0);
+    }
+
+    @NonNull
+    private synchronized ReportQueue reportQueue() {
+        if (reportQueue == null) {
+            reportQueue = new ReportQueue(
+                    PreferenceHelper.findInt(context, MobileMessagingProperty.REPORT_BATCH_MAX_COUNT),
+                    PreferenceHelper.findLong(context, MobileMessagingProperty.REPORT_BATCH_MAX_BYTES),
+                    PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY));
+            reportQueue.register(ReportQueue.Endpoint.DELIVERY, onMainThread(() -> {
+                if (isReportingPossible()) messagesSynchronizer().sync();
+            }));
+            reportQueue.register(ReportQueue.Endpoint.MO_MESSAGES, onMainThread(() -> {
+                if (isReportingPossible()) moMessageSender().sync();
+            }));
+            reportQueue.register(ReportQueue.Endpoint.SEEN, onMainThread(() -> {
+                if (isReportingPossible()) seenStatusReporter().sync();
+            }));
+            reportQueue.register(ReportQueue.Endpoint.IN_APP_CLICK, onMainThread(() -> {
+                if (isReportingPossible()) inAppClickReporter().sync();
+            }));
+            reportQueue.register(ReportQueue.Endpoint.USER_SESSIONS, onMainThread(() -> {
+                if (isReportingPossible()) userEventsSynchronizer().reportSessions();
+            }));
+            reportQueue.register(ReportQueue.Endpoint.CUSTOM_EVENTS, onMainThread(() -> {
+                if (isReportingPossible()) userEventsSynchronizer().reportCustomEvents();
+            }));
+        }
+        return reportQueue;
+    }
+
+    /**
+     * Flushes of the report queue may come from the scheduler thread, while reporting checks and synchronizers belong
+     * to the main thread, same as the syncs which call them directly
+     */
+    private Runnable onMainThread(final Runnable flusher) {
+        final Handler mainHandler = new Handler(Looper.getMainLooper());
+        return () -> {
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                flusher.run();
+            } else {
+                mainHandler.post(() -> {
+                    try {
+                        flusher.run();
+                    } catch (Exception e) {
+                        MobileMessagingLogger.e("Failed to flush reports", e);
+                    }
+                });
+            }
+        };
+    }
+
     @NonNull
     private VersionChecker versionChecker() {
         if (versionChecker == null) {
@@ -1983,7 +2121,7 @@ public class MobileMessagingCore
     @NonNull
     private BaseUrlChecker baseUrlChecker() {
         if (baseUrlChecker == null) {
-            baseUrlChecker = new BaseUrlChecker(context, registrationAlignedExecutor, mobileApiResourceProvider().getMobileApiBaseUrl(context));
+            baseUrlChecker = new BaseUrlChecker(context, executor(Priority.USER_FACING), mobileApiResourceProvider().getMobileApiBaseUrl(context));
         }
         return baseUrlChecker;
     }
@@ -1995,7 +2133,7 @@ public class MobileMessagingCore
                     context,
                     this,
                     stats,
-                    registrationAlignedExecutor,
+                    executor(Priority.USER_FACING),
                     broadcaster,
                     retryPolicyProvider,
                     mobileApiResourceProvider().getMobileApiAppInstance(context));
@@ -2011,8 +2149,8 @@ public class MobileMessagingCore
                     broadcaster,
                     mobileApiResourceProvider().getMobileApiAppInstance(context),
                     retryPolicyProvider.DEFAULT(),
-                    registrationAlignedExecutor,
-                    new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)));
+                    executor(Priority.ANALYTICS),
+                    reportQueueBatchReporter());
         }
         return userEventsSynchronizer;
     }
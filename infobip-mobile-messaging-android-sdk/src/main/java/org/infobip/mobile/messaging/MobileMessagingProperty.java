@@ -4,6 +4,8 @@ import android.app.PendingIntent;
 import android.content.Intent;
 import android.os.Build;
 
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseMode;
+
 import java.util.UUID;
 
 /**
@@ -28,6 +30,8 @@ public enum MobileMessagingProperty {
 
     // START: prefs required for keeping up-to-date state of MM SDK
     BATCH_REPORTING_DELAY("org.infobip.mobile.messaging.notification.BATCH_REPORTING_DELAY", 5000L),
+    REPORT_BATCH_MAX_COUNT("org.infobip.mobile.messaging.notification.REPORT_BATCH_MAX_COUNT", 100),
+    REPORT_BATCH_MAX_BYTES("org.infobip.mobile.messaging.notification.REPORT_BATCH_MAX_BYTES", 64 * 1024L),
     VERSION_CHECK_INTERVAL_DAYS("org.infobip.mobile.messaging.notification.VERSION_CHECK_INTERVAL_DAYS", 1),
     VERSION_CHECK_LAST_TIME("org.infobip.mobile.messaging.notification.VERSION_CHECK_LAST_TIME", 0L),
     BASEURL_CHECK_INTERVAL_HOURS("org.infobip.mobile.messaging.notification.BASEURL_CHECK_INTERVAL_HOURS", 24),
@@ -79,6 +83,7 @@ public enum MobileMessagingProperty {
     SAVE_APP_CODE_ON_DISK("org.infobip.mobile.messaging.infobip.SAVE_APP_CODE_ON_DISK", true),
     ALLOW_UNTRUSTED_SSL_ON_ERROR("org.infobip.mobile.messaging.infobip.ALLOW_UNTRUSTED_SSL_ON_ERROR", false),
     APP_CODE_PROVIDER_CANONICAL_CLASS_NAME("org.infobip.mobile.messaging.infobip.APP_CODE_PROVIDER_CANONICAL_CLASS_NAME"),
+    DATABASE_MODE("org.infobip.mobile.messaging.infobip.DATABASE_MODE", DatabaseMode.WRITE_AHEAD_LOGGING.name()),
     // END
 
     // START: installation (primary, app user ID, system, ...) and user related prefs
@@ -99,7 +99,10 @@ public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCa
     public void onActivityPaused(Activity activity) {
         foregroundActivity = null;
         setForeground(null, false);
-        if (activity != null) UserSessionTracker.stopSessionTracking(activity);
+        if (activity != null) {
+            UserSessionTracker.stopSessionTracking(activity);
+            MobileMessagingCore.getInstance(activity).flushPendingReports();
+        }
     }
 
     @Override
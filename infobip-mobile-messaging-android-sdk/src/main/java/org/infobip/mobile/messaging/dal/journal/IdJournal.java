@@ -0,0 +1,453 @@
+package org.infobip.mobile.messaging.dal.journal;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Append-only journal of unique string entries (message ids, seen reports, click urls) waiting to be reported.
+ * <br>
+ * Each change is appended to a file as one record, so adding or removing an entry does not rewrite the whole
+ * queue as string sets in shared preferences do. Entries are kept in memory in insertion order.
+ * The file is compacted to live entries when it holds more obsolete records than live ones.
+ * Compaction uses {@link AtomicFile}, an interrupted compaction is rolled back on the next read,
+ * a partially written record at the end of the file is dropped.
+ * <br>
+ * Entries stored in shared preferences by previous SDK versions are moved to the journal when it is first used.
+ *
+ * @since 17/10/2026.
+ */
+public class IdJournal {
+
+    static final String JOURNAL_DIRECTORY = "mm_journals";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int COMPACTION_MIN_RECORDS = 64;
+
+    private static final char RECORD_ADD = '+';
+    private static final char RECORD_REMOVE = '-';
+    private static final char RECORD_END = '\n';
+
+    private static final Map<String, IdJournal> journals = new HashMap<>();
+
+    private final Context context;
+    private final String key;
+    private final AtomicFile file;
+    private final LinkedHashSet<String> entries = new LinkedHashSet<>();
+    private Writer writer;
+    private int records;
+    private int clears;
+    private boolean loaded;
+
+    IdJournal(Context context, String key, File file) {
+        this.context = context;
+        this.key = key;
+        this.file = new AtomicFile(file);
+    }
+
+    /**
+     * Returns journal for the property, the same instance is returned for the same property
+     *
+     * @param context  context
+     * @param property property which was used to store entries in shared preferences
+     * @return journal
+     */
+    public static IdJournal get(Context context, MobileMessagingProperty property) {
+        synchronized (journals) {
+            IdJournal journal = journals.get(property.getKey());
+            if (journal == null) {
+                Context applicationContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+                journal = new IdJournal(applicationContext, property.getKey(), new File(directory(applicationContext), property.getKey() + JOURNAL_SUFFIX));
+                journals.put(property.getKey(), journal);
+            }
+            return journal;
+        }
+    }
+
+    /**
+     * Removes entries of all journals
+     *
+     * @param context context
+     */
+    public static void clearAll(Context context) {
+        synchronized (journals) {
+            for (IdJournal journal : journals.values()) {
+                journal.clear();
+            }
+            File[] files = directory(context).listFiles();
+            if (files == null) {
+                return;
+            }
+            for (File file : files) {
+                if (!file.delete()) {
+                    MobileMessagingLogger.w("Cannot delete journal " + file.getName());
+                }
+            }
+        }
+    }
+
+    private static File directory(Context context) {
+        return new File(context.getFilesDir(), JOURNAL_DIRECTORY);
+    }
+
+    /**
+     * Adds entries which are not in the journal yet
+     *
+     * @param newEntries entries to add, null entries are ignored
+     */
+    public synchronized void append(String... newEntries) {
+        load();
+        StringBuilder builder = new StringBuilder();
+        int newRecords = 0;
+        for (String entry : newEntries) {
+            if (entry != null && entries.add(entry)) {
+                appendRecord(builder, RECORD_ADD, entry);
+                newRecords++;
+            }
+        }
+        write(builder, newRecords);
+    }
+
+    /**
+     * Removes entries from the journal
+     *
+     * @param oldEntries entries to remove
+     */
+    public synchronized void remove(String... oldEntries) {
+        remove(Arrays.asList(oldEntries));
+    }
+
+    /**
+     * Replaces entries with new values keeping them in the journal
+     *
+     * @param replacements map of existing entries to their new values, absent entries are skipped
+     */
+    public synchronized void replace(Map<String, String> replacements) {
+        load();
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+            if (entries.contains(replacement.getKey()) && replacement.getValue() != null) {
+                removed.add(replacement.getKey());
+                added.add(replacement.getValue());
+            }
+        }
+        replace(removed, added);
+    }
+
+    /**
+     * Removes old entries and adds new ones with a single write.
+     * New entries are recorded before removals, so an interrupted write never drops old entries without their replacements.
+     * Entries present in both collections stay where they are.
+     *
+     * @param oldEntries entries to remove
+     * @param newEntries entries to add, null entries are ignored
+     */
+    public synchronized void replace(Collection<String> oldEntries, Collection<String> newEntries) {
+        load();
+        Set<String> kept = new HashSet<>(newEntries);
+        StringBuilder builder = new StringBuilder();
+        int newRecords = 0;
+        for (String entry : newEntries) {
+            if (entry != null && entries.add(entry)) {
+                appendRecord(builder, RECORD_ADD, entry);
+                newRecords++;
+            }
+        }
+        for (String entry : oldEntries) {
+            if (!kept.contains(entry) && entries.remove(entry)) {
+                appendRecord(builder, RECORD_REMOVE, entry);
+                newRecords++;
+            }
+        }
+        write(builder, newRecords);
+    }
+
+    /**
+     * Removes and returns up to {@code maxCount} oldest entries
+     *
+     * @param maxCount maximum number of entries to return
+     * @return removed entries in insertion order
+     */
+    @NonNull
+    public synchronized String[] drain(int maxCount) {
+        load();
+        if (maxCount >= entries.size()) {
+            String[] drained = entries.toArray(new String[0]);
+            entries.clear();
+            compact();
+            return drained;
+        }
+
+        List<String> drained = new ArrayList<>(maxCount);
+        Iterator<String> iterator = entries.iterator();
+        while (iterator.hasNext() && drained.size() < maxCount) {
+            drained.add(iterator.next());
+        }
+        remove(drained);
+        return drained.toArray(new String[0]);
+    }
+
+    /**
+     * Removes and returns all entries
+     *
+     * @return removed entries in insertion order
+     */
+    @NonNull
+    public synchronized String[] drainAll() {
+        return drain(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return all entries in insertion order
+     */
+    @NonNull
+    public synchronized String[] toArray() {
+        load();
+        return entries.toArray(new String[0]);
+    }
+
+    public synchronized boolean contains(String entry) {
+        load();
+        return entries.contains(entry);
+    }
+
+    /**
+     * @param candidates entries to look for
+     * @return candidates which are in the journal, in the order of candidates
+     */
+    @NonNull
+    public synchronized String[] retain(String... candidates) {
+        load();
+        List<String> retained = new ArrayList<>(candidates.length);
+        for (String candidate : candidates) {
+            if (entries.contains(candidate)) {
+                retained.add(candidate);
+            }
+        }
+        return retained.toArray(new String[0]);
+    }
+
+    public synchronized int size() {
+        load();
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries, including entries left in shared preferences by previous SDK versions
+     */
+    public synchronized void clear() {
+        entries.clear();
+        compact();
+        loaded = true;
+        clears++;
+        PreferenceHelper.remove(context, key);
+    }
+
+    /**
+     * @return number of times the journal was cleared, lets views built on top of the journal detect resets
+     */
+    synchronized int getClearCount() {
+        return clears;
+    }
+
+    /**
+     * Rewrites the journal file so that it contains only live entries
+     */
+    public synchronized void compact() {
+        closeWriter();
+        StringBuilder builder = new StringBuilder();
+        for (String entry : entries) {
+            appendRecord(builder, RECORD_ADD, entry);
+        }
+
+        FileOutputStream outputStream = null;
+        try {
+            ensureDirectory();
+            outputStream = file.startWrite();
+            outputStream.write(builder.toString().getBytes(UTF_8));
+            file.finishWrite(outputStream);
+            records = entries.size();
+        } catch (IOException e) {
+            if (outputStream != null) {
+                file.failWrite(outputStream);
+            }
+            MobileMessagingLogger.e("Cannot compact journal " + key + ": " + Log.getStackTraceString(e));
+        }
+    }
+
+    private void remove(List<String> oldEntries) {
+        load();
+        StringBuilder builder = new StringBuilder();
+        int newRecords = 0;
+        for (String entry : oldEntries) {
+            if (entries.remove(entry)) {
+                appendRecord(builder, RECORD_REMOVE, entry);
+                newRecords++;
+            }
+        }
+        write(builder, newRecords);
+    }
+
+    private void write(StringBuilder builder, int newRecords) {
+        if (newRecords == 0) {
+            return;
+        }
+
+        if (records + newRecords > COMPACTION_MIN_RECORDS && records + newRecords > 2 * entries.size()) {
+            compact();
+            return;
+        }
+
+        try {
+            if (writer == null) {
+                ensureDirectory();
+                writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file.getBaseFile(), true), UTF_8));
+            }
+            writer.append(builder);
+            writer.flush();
+            records += newRecords;
+        } catch (IOException e) {
+            MobileMessagingLogger.e("Cannot append to journal " + key + ": " + Log.getStackTraceString(e));
+            compact();
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        boolean truncated = false;
+        try {
+            String content = new String(file.readFully(), UTF_8);
+            int start = 0;
+            int end;
+            while ((end = content.indexOf(RECORD_END, start)) != -1) {
+                replay(content.substring(start, end));
+                start = end + 1;
+            }
+            truncated = start < content.length();
+        } catch (FileNotFoundException ignored) {
+        } catch (IOException e) {
+            MobileMessagingLogger.e("Cannot read journal " + key + ": " + Log.getStackTraceString(e));
+            truncated = true;
+        }
+
+        boolean migrated = migrateFromSharedPreferences();
+        if (truncated || migrated) {
+            compact();
+        }
+        if (migrated) {
+            PreferenceHelper.remove(context, key);
+        }
+    }
+
+    private void replay(String record) {
+        if (record.isEmpty()) {
+            return;
+        }
+
+        records++;
+        String entry = unescape(record.substring(1));
+        switch (record.charAt(0)) {
+            case RECORD_ADD:
+                entries.add(entry);
+                break;
+            case RECORD_REMOVE:
+                entries.remove(entry);
+                break;
+            default:
+                MobileMessagingLogger.w("Unknown record in journal " + key);
+        }
+    }
+
+    private boolean migrateFromSharedPreferences() {
+        SharedPreferences sharedPreferences = PreferenceHelper.getDefaultMMSharedPreferences(context);
+        Set<String> legacyEntries = sharedPreferences.getStringSet(key, null);
+        if (legacyEntries == null) {
+            return false;
+        }
+        entries.addAll(legacyEntries);
+        return true;
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            MobileMessagingLogger.e("Cannot close journal " + key + ": " + Log.getStackTraceString(e));
+        }
+        writer = null;
+    }
+
+    private void ensureDirectory() {
+        File directory = file.getBaseFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            MobileMessagingLogger.e("Cannot create journal directory " + directory);
+        }
+    }
+
+    private static void appendRecord(StringBuilder builder, char type, String entry) {
+        builder.append(type);
+        for (int i = 0; i < entry.length(); i++) {
+            char c = entry.charAt(i);
+            if (c == '\\') {
+                builder.append("\\\\");
+            } else if (c == '\n') {
+                builder.append("\\n");
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append(RECORD_END);
+    }
+
+    private static String unescape(String escaped) {
+        if (escaped.indexOf('\\') == -1) {
+            return escaped;
+        }
+
+        StringBuilder builder = new StringBuilder(escaped.length());
+        for (int i = 0; i < escaped.length(); i++) {
+            char c = escaped.charAt(i);
+            if (c == '\\' && i + 1 < escaped.length()) {
+                char next = escaped.charAt(++i);
+                builder.append(next == 'n' ? '\n' : next);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,154 @@
+package org.infobip.mobile.messaging.dal.journal;
+
+import androidx.annotation.NonNull;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded index of recently received message ids used to detect duplicate messages.
+ * <br>
+ * Ids are kept in memory in order of arrival together with the time they were received and persisted
+ * in the journal as {@code "messageId, timestamp"} entries, so lookups do not parse the journal.
+ * Ids older than {@code expiryMillis} are treated as absent and only the {@code capacity} newest ids are kept.
+ *
+ * @since 17/10/2026.
+ */
+public class MessageIdIndex {
+
+    private final IdJournal journal;
+    private final long expiryMillis;
+    private final int capacity;
+    private final LinkedHashMap<String, Long> receivedTimestamps = new LinkedHashMap<>();
+    private int journalClears = -1;
+
+    public MessageIdIndex(IdJournal journal, long expiryMillis, int capacity) {
+        this.journal = journal;
+        this.expiryMillis = expiryMillis;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds message ids received now, ids which are already in the index are moved to the newest position
+     *
+     * @param messageIds message ids, null ids are ignored
+     */
+    public synchronized void add(String... messageIds) {
+        load();
+        long now = Time.now();
+        List<String> removed = new ArrayList<>();
+        LinkedHashSet<String> received = new LinkedHashSet<>(messageIds.length);
+        for (String messageId : messageIds) {
+            if (messageId == null) {
+                continue;
+            }
+            Long previousTimestamp = receivedTimestamps.remove(messageId);
+            if (previousTimestamp != null) {
+                removed.add(entry(messageId, previousTimestamp));
+            }
+            received.remove(messageId);
+            received.add(messageId);
+        }
+
+        List<String> added = new ArrayList<>(received.size());
+        for (String messageId : received) {
+            receivedTimestamps.put(messageId, now);
+            added.add(entry(messageId, now));
+        }
+        removed.addAll(evict(now));
+        journal.replace(removed, added);
+    }
+
+    /**
+     * @param messageId message id
+     * @return true if message id was added and has not expired yet
+     */
+    public synchronized boolean contains(String messageId) {
+        load();
+        Long timestamp = receivedTimestamps.get(messageId);
+        return timestamp != null && !isExpired(timestamp, Time.now());
+    }
+
+    /**
+     * @return ids which have not expired yet, from oldest to newest
+     */
+    @NonNull
+    public synchronized String[] toArray() {
+        load();
+        List<String> expired = evict(Time.now());
+        if (!expired.isEmpty()) {
+            journal.remove(expired.toArray(new String[0]));
+        }
+        return receivedTimestamps.keySet().toArray(new String[0]);
+    }
+
+    public synchronized int size() {
+        load();
+        return receivedTimestamps.size();
+    }
+
+    private void load() {
+        int clears = journal.getClearCount();
+        if (clears == journalClears) {
+            return;
+        }
+        journalClears = clears;
+        receivedTimestamps.clear();
+
+        List<String> invalid = new ArrayList<>();
+        for (String entry : journal.toArray()) {
+            int separator = entry.lastIndexOf(StringUtils.COMMA_WITH_SPACE);
+            try {
+                long timestamp = Long.parseLong(entry.substring(separator + StringUtils.COMMA_WITH_SPACE.length()));
+                String messageId = entry.substring(0, separator);
+                Long previousTimestamp = receivedTimestamps.remove(messageId);
+                if (previousTimestamp != null) {
+                    invalid.add(entry(messageId, previousTimestamp));
+                }
+                receivedTimestamps.put(messageId, timestamp);
+            } catch (RuntimeException e) {
+                MobileMessagingLogger.w("Invalid message id entry: " + entry);
+                invalid.add(entry);
+            }
+        }
+        invalid.addAll(evict(Time.now()));
+        if (!invalid.isEmpty()) {
+            journal.remove(invalid.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Removes expired ids and ids over capacity, both are at the beginning of the index
+     *
+     * @return journal entries of removed ids
+     */
+    private List<String> evict(long now) {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = receivedTimestamps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> oldest = iterator.next();
+            if (receivedTimestamps.size() <= capacity && !isExpired(oldest.getValue(), now)) {
+                break;
+            }
+            evicted.add(entry(oldest.getKey(), oldest.getValue()));
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    private boolean isExpired(long timestamp, long now) {
+        return now - timestamp > expiryMillis;
+    }
+
+    private static String entry(String messageId, long timestamp) {
+        return messageId + StringUtils.COMMA_WITH_SPACE + timestamp;
+    }
+}
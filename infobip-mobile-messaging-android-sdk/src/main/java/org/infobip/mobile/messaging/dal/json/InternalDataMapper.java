@@ -21,7 +21,7 @@ public class InternalDataMapper {
     /**
      * @param <VibrateValueType> vibrate comes as String from FCM and as Boolean from Infobip Services
      */
-    private static class Silent<VibrateValueType> {
+    static class Silent<VibrateValueType> {
         String title;
         String body;
         String sound;
@@ -57,7 +57,7 @@ public class InternalDataMapper {
         }
     }
 
-    private static class Attachment {
+    static class Attachment {
         String t;
         String url;
     }
@@ -90,18 +90,24 @@ public class InternalDataMapper {
      * @param internalDataJson json object with internal data
      */
     public static void updateMessageWithInternalData(@NonNull Message message, String internalDataJson) {
-        InternalData internalData = serializer.deserialize(internalDataJson, InternalData.class);
+        updateMessageWithInternalData(message, ParsedInternalData.parse(internalDataJson));
+    }
 
-        if (internalData == null || internalData.silent == null) {
+    /**
+     * Updates message fields based on what is set in already parsed internal data (such as geo data and silent data)
+     *
+     * @param message      message to update
+     * @param internalData parsed internal data
+     */
+    public static void updateMessageWithInternalData(@NonNull Message message, @NonNull ParsedInternalData internalData) {
+        if (!internalData.hasSilentData()) {
             return;
         }
 
-        message.setTitle(internalData.silent.title);
-        message.setBody(internalData.silent.body);
-        message.setSound(internalData.silent.sound);
-        if (internalData.silent.vibrate != null) {
-            message.setVibrate(Boolean.valueOf(internalData.silent.vibrate.toString()));
-        }
+        message.setTitle(internalData.getTitle());
+        message.setBody(internalData.getBody());
+        message.setSound(internalData.getSound());
+        message.setVibrate(internalData.getVibrate(message.isVibrate()));
     }
 
 
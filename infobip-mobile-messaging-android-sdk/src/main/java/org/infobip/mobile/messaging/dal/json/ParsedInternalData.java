@@ -0,0 +1,176 @@
+package org.infobip.mobile.messaging.dal.json;
+
+import androidx.annotation.Nullable;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+
+/**
+ * Immutable view of internal data json which is parsed only once.
+ * <br>
+ * Accessors return the same values as the corresponding {@code InternalDataMapper.getInternalData*} methods,
+ * which parse the whole json on every call. Use {@link Message#getParsedInternalData()} to share one view
+ * between all readers of a message.
+ *
+ * @since 17/10/2026.
+ */
+public final class ParsedInternalData {
+
+    private static final JsonSerializer serializer = new JsonSerializer(false);
+    private static final ParsedInternalData EMPTY = new ParsedInternalData(null, null);
+
+    private final String json;
+    private final String title;
+    private final String body;
+    private final String sound;
+    private final String vibrate;
+    private final String category;
+    private final boolean hasSilentData;
+    private final String contentUrl;
+    private final long sendDateTime;
+    private final String bulkId;
+    private final String initialMessageId;
+    private final Message.InAppStyle inAppStyle;
+    private final long inAppExpiryDateTime;
+    private final String webViewUrl;
+    private final String browserUrl;
+    private final String messageType;
+    private final String deeplink;
+    private final String inAppOpenTitle;
+    private final String inAppDismissTitle;
+
+    private ParsedInternalData(String json, InternalDataMapper.InternalData<?> internalData) {
+        this.json = json;
+        if (internalData == null) {
+            internalData = new InternalDataMapper.InternalData<>();
+        }
+
+        this.hasSilentData = internalData.silent != null;
+        this.title = hasSilentData ? internalData.silent.title : null;
+        this.body = hasSilentData ? internalData.silent.body : null;
+        this.sound = hasSilentData ? internalData.silent.sound : null;
+        this.vibrate = hasSilentData && internalData.silent.vibrate != null ? internalData.silent.vibrate.toString() : null;
+        this.category = hasSilentData ? internalData.silent.category : null;
+        this.contentUrl = internalData.atts != null && internalData.atts.length > 0 && internalData.atts[0] != null ? internalData.atts[0].url : null;
+        this.sendDateTime = internalData.sendDateTime;
+        this.bulkId = internalData.bulkId;
+        this.initialMessageId = internalData.initialMessageId;
+        if (internalData.inAppStyle != null) {
+            this.inAppStyle = internalData.inAppStyle;
+        } else {
+            this.inAppStyle = Boolean.TRUE.equals(internalData.inApp) ? Message.InAppStyle.MODAL : null;
+        }
+        this.inAppExpiryDateTime = internalData.inAppExpiryDateTime;
+        this.webViewUrl = internalData.webViewUrl;
+        this.browserUrl = internalData.browserUrl;
+        this.messageType = internalData.messageType;
+        this.deeplink = internalData.deeplink;
+        this.inAppOpenTitle = internalData.inAppOpenTitle;
+        this.inAppDismissTitle = internalData.inAppDismissTitle;
+    }
+
+    /**
+     * Parses internal data json
+     *
+     * @param json internal data json
+     * @return parsed internal data, view without any values if json is null or invalid
+     */
+    public static ParsedInternalData parse(@Nullable String json) {
+        if (json == null) {
+            return EMPTY;
+        }
+
+        InternalDataMapper.InternalData<?> internalData = null;
+        try {
+            internalData = serializer.deserialize(json, InternalDataMapper.InternalData.class);
+        } catch (Exception ignored) {
+        }
+        return new ParsedInternalData(json, internalData);
+    }
+
+    /**
+     * @return json which this view was parsed from
+     */
+    public String getJson() {
+        return json;
+    }
+
+    /**
+     * @return true if internal data contains data of silent message
+     */
+    public boolean hasSilentData() {
+        return hasSilentData;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getSound() {
+        return sound;
+    }
+
+    /**
+     * @param defaultVibrate value to return if no vibrate set in internal data
+     * @return vibrate if present or defaultVibrate otherwise
+     */
+    public boolean getVibrate(boolean defaultVibrate) {
+        return vibrate != null ? Boolean.valueOf(vibrate) : defaultVibrate;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getContentUrl() {
+        return contentUrl;
+    }
+
+    public long getSendDateTime() {
+        return sendDateTime;
+    }
+
+    public String getBulkId() {
+        return bulkId;
+    }
+
+    public String getInitialMessageId() {
+        return initialMessageId;
+    }
+
+    public Message.InAppStyle getInAppStyle() {
+        return inAppStyle;
+    }
+
+    public long getInAppExpiryDateTime() {
+        return inAppExpiryDateTime;
+    }
+
+    public String getWebViewUrl() {
+        return webViewUrl;
+    }
+
+    public String getBrowserUrl() {
+        return browserUrl;
+    }
+
+    public String getMessageType() {
+        return messageType;
+    }
+
+    public String getDeeplink() {
+        return deeplink;
+    }
+
+    public String getInAppOpenTitle() {
+        return inAppOpenTitle;
+    }
+
+    public String getInAppDismissTitle() {
+        return inAppDismissTitle;
+    }
+}
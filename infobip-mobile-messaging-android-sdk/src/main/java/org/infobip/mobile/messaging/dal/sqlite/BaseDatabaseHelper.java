@@ -1,20 +1,26 @@
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.DatabaseUtils;
 import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 import androidx.annotation.NonNull;
 import android.util.Log;
 
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author sslavin
@@ -23,21 +29,101 @@ import java.util.Map;
 
 public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements DatabaseHelper, SqliteDatabaseProvider {
 
-    private static final Map<Class<? extends DatabaseContract.DatabaseObject>, DatabaseContract.DatabaseObject> databaseObjectsCache = new HashMap<>();
+    private static final Map<Class<? extends DatabaseContract.DatabaseObject>, DatabaseContract.DatabaseObject> databaseObjectsCache = new ConcurrentHashMap<>();
+    private static final Map<Class<? extends DatabaseContract.DatabaseObject>, DatabaseContract.RowFactory<?>> rowFactories = new ConcurrentHashMap<>();
+
+    /**
+     * Number of compiled statements cached per connection
+     */
+    private static final int MAX_SQL_CACHE_SIZE = 50;
+    private static final int MAX_SQL_VARIABLES = 999;
 
     protected final Context context;
-    private SQLiteDatabase sqLiteDatabase;
+    private final DatabaseMode databaseMode;
+    private volatile SQLiteDatabase sqLiteDatabase;
 
     public BaseDatabaseHelper(Context context, String databaseName, int currentVersion) {
+        this(context, databaseName, currentVersion, DatabaseMode.ROLLBACK_JOURNAL);
+    }
+
+    public BaseDatabaseHelper(Context context, String databaseName, int currentVersion, DatabaseMode databaseMode) {
         super(context, databaseName, null, currentVersion);
         this.context = context;
+        this.databaseMode = databaseMode;
+        setWriteAheadLoggingEnabled(databaseMode.isWriteAheadLogging());
+    }
+
+    /**
+     * Registers factory used to create objects of the specified type when reading from database.
+     * Types without a factory are created with their no-argument constructor.
+     * @param cls object class
+     * @param rowFactory factory of empty objects
+     */
+    public static <T extends DatabaseContract.DatabaseObject> void registerRowFactory(Class<T> cls, DatabaseContract.RowFactory<T> rowFactory) {
+        rowFactories.put(cls, rowFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends DatabaseContract.DatabaseObject> DatabaseContract.RowFactory<T> rowFactory(final Class<T> cls) {
+        DatabaseContract.RowFactory<T> rowFactory = (DatabaseContract.RowFactory<T>) rowFactories.get(cls);
+        if (rowFactory != null) {
+            return rowFactory;
+        }
+
+        final Constructor<T> constructor;
+        try {
+            constructor = cls.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (Exception e) {
+            MobileMessagingLogger.e(Log.getStackTraceString(e));
+            throw new RuntimeException(e);
+        }
+        rowFactory = new DatabaseContract.RowFactory<T>() {
+            @Override
+            public T newRow() {
+                try {
+                    return constructor.newInstance();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        rowFactories.put(cls, rowFactory);
+        return rowFactory;
+    }
+
+    public DatabaseMode getDatabaseMode() {
+        return databaseMode;
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        super.onConfigure(db);
+        if (!databaseMode.isWriteAheadLogging()) {
+            return;
+        }
+
+        // applies to the primary connection which performs all writes, read connections keep platform defaults
+        db.setMaxSqlCacheSize(MAX_SQL_CACHE_SIZE);
+        if (databaseMode.getSynchronous() != null) {
+            db.execSQL("PRAGMA synchronous=" + databaseMode.getSynchronous());
+        }
+        if (databaseMode.getCacheSizeKb() > 0) {
+            db.execSQL("PRAGMA cache_size=-" + databaseMode.getCacheSizeKb());
+        }
     }
 
     private SQLiteDatabase db() {
-        if (sqLiteDatabase == null) {
-            sqLiteDatabase = getWritableDatabase();
+        SQLiteDatabase db = sqLiteDatabase;
+        if (db == null) {
+            synchronized (this) {
+                db = sqLiteDatabase;
+                if (db == null) {
+                    db = sqLiteDatabase = getWritableDatabase();
+                }
+            }
         }
-        return sqLiteDatabase;
+        return db;
     }
 
     @Override
@@ -48,6 +134,37 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         return objects;
     }
 
+    @Override
+    public <T extends DatabaseContract.DatabaseObject> List<T> query(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit, int offset) {
+        Cursor cursor = db().rawQuery(selectSql(cls, selection, orderBy, limit, offset), selectionArgs != null ? selectionArgs : new String[0]);
+        List<T> objects = loadFromCursor(cursor, cls);
+        cursor.close();
+        return objects;
+    }
+
+    private String selectSql(Class<? extends DatabaseContract.DatabaseObject> cls, String selection, String orderBy, int limit, int offset) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM ").append(getTableName(cls));
+        if (selection != null) {
+            sql.append(" WHERE ").append(selection);
+        }
+        if (orderBy != null) {
+            sql.append(" ORDER BY ").append(orderBy);
+        }
+        if (limit > 0 || offset > 0) {
+            sql.append(" LIMIT ").append(limit > 0 ? limit : -1);
+        }
+        if (offset > 0) {
+            sql.append(" OFFSET ").append(offset);
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public <T extends DatabaseContract.DatabaseObject> CursorList<T> queryLazily(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit, int offset) {
+        Cursor cursor = db().rawQuery(selectSql(cls, selection, orderBy, limit, offset), selectionArgs != null ? selectionArgs : new String[0]);
+        return new CursorList<>(cursor, rowFactory(cls));
+    }
+
     @Override
     public <T extends DatabaseContract.DatabaseObject> T find(Class<T> cls, @NonNull String primaryKey) {
         Cursor cursor = db().rawQuery("SELECT * FROM " + getTableName(cls) + " WHERE " + getPrimaryKeyColumn(cls) + " = ?", new String[]{primaryKey});
@@ -71,6 +188,58 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         db().insertWithOnConflict(object.getTableName(), null, object.getContentValues(), SQLiteDatabase.CONFLICT_REPLACE);
     }
 
+    @Override
+    public void saveAll(Collection<? extends DatabaseContract.DatabaseObject> objects) {
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        SQLiteDatabase db = db();
+        Map<String, SQLiteStatement> statements = new HashMap<>();
+        // does not lock out readers of a rollback journal until commit, same as exclusive in WAL mode
+        db.beginTransactionNonExclusive();
+        try {
+            for (DatabaseContract.DatabaseObject object : objects) {
+                ContentValues contentValues = object.getContentValues();
+                String[] columns = contentValues.keySet().toArray(new String[0]);
+                String sql = insertOrReplaceSql(object.getTableName(), columns);
+                SQLiteStatement statement = statements.get(sql);
+                if (statement == null) {
+                    statement = db.compileStatement(sql);
+                    statements.put(sql, statement);
+                }
+
+                statement.clearBindings();
+                for (int i = 0; i < columns.length; i++) {
+                    DatabaseUtils.bindObjectToProgram(statement, i + 1, contentValues.get(columns[i]));
+                }
+                try {
+                    statement.executeInsert();
+                } catch (SQLException e) {
+                    MobileMessagingLogger.e("Error saving object to " + object.getTableName() + ": " + e.getMessage());
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            for (SQLiteStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+    }
+
+    private static String insertOrReplaceSql(String tableName, String[] columns) {
+        StringBuilder sql = new StringBuilder("INSERT OR REPLACE INTO ").append(tableName).append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i > 0 ? "," : "").append(columns[i]);
+        }
+        sql.append(") VALUES (");
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+        return sql.append(')').toString();
+    }
+
     @Override
     public void insert(DatabaseContract.DatabaseObject object) throws PrimaryKeyViolationException {
         try {
@@ -92,8 +261,23 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
 
     @Override
     public <T extends DatabaseContract.DatabaseObject> void delete(Class<T> cls, String[] primaryKeys) {
-        db().delete(getTableName(cls), getPrimaryKeyColumn(cls) +
-                " IN (" + new String(new char[primaryKeys.length - 1]).replace("\0", "?,") + "?)", primaryKeys);
+        if (primaryKeys.length == 0) {
+            return;
+        }
+
+        SQLiteDatabase db = db();
+        db.beginTransactionNonExclusive();
+        try {
+            // SQLite binds at most 999 arguments per statement
+            for (int from = 0; from < primaryKeys.length; from += MAX_SQL_VARIABLES) {
+                String[] chunk = Arrays.copyOfRange(primaryKeys, from, Math.min(from + MAX_SQL_VARIABLES, primaryKeys.length));
+                db.delete(getTableName(cls), getPrimaryKeyColumn(cls) +
+                        " IN (" + new String(new char[chunk.length - 1]).replace("\0", "?,") + "?)", chunk);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
     }
 
     private DatabaseContract.DatabaseObject emptyDatabaseObject(Class<? extends DatabaseContract.DatabaseObject> cls) {
@@ -102,12 +286,7 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
             return emptyInstance;
         }
 
-        try {
-            emptyInstance = cls.newInstance();
-        } catch (Exception e) {
-            MobileMessagingLogger.e(Log.getStackTraceString(e));
-            throw new RuntimeException(e);
-        }
+        emptyInstance = rowFactory(cls).newRow();
         databaseObjectsCache.put(cls, emptyInstance);
         return emptyInstance;
     }
@@ -119,11 +298,12 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
             return new ArrayList<>();
         }
 
-        List<T> objects = new ArrayList<>();
+        DatabaseContract.RowFactory<T> rowFactory = rowFactory(cls);
+        List<T> objects = new ArrayList<>(cursor.getCount());
         if (cursor.moveToFirst()) {
             do {
                 try {
-                    T object = cls.newInstance();
+                    T object = rowFactory.newRow();
                     object.fillFromCursor(cursor);
                     objects.add(object);
                 } catch (Exception e) {
@@ -150,7 +330,7 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
     }
 
     @Override
-    public void deleteDatabase() {
+    public synchronized void deleteDatabase() {
         if (sqLiteDatabase != null) {
             sqLiteDatabase.close();
             sqLiteDatabase = null;
@@ -0,0 +1,108 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.Cursor;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.io.Closeable;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list view over query results which decodes rows only when they are accessed.
+ * <br>
+ * Only the cursor window and up to {@code cacheSize} most recently accessed objects are kept in memory,
+ * so the list can be used to display stores of any size.
+ * The list holds an open cursor and must be closed when no longer needed, it is empty after closing.
+ * Returned objects are shared between calls and should not be modified.
+ *
+ * @param <E> element type
+ * @since 17/10/2026.
+ */
+public class CursorList<E> extends AbstractList<E> implements RandomAccess, Closeable {
+
+    public static final int DEFAULT_CACHE_SIZE = 32;
+
+    private final Cursor cursor;
+    private final DatabaseContract.RowFactory<? extends E> rowFactory;
+    private final Map<Integer, E> cache;
+    private int size = -1;
+    private boolean closed;
+
+    public CursorList(Cursor cursor, DatabaseContract.RowFactory<? extends E> rowFactory) {
+        this(cursor, rowFactory, DEFAULT_CACHE_SIZE);
+    }
+
+    public CursorList(Cursor cursor, DatabaseContract.RowFactory<? extends E> rowFactory, final int cacheSize) {
+        this.cursor = cursor;
+        this.rowFactory = rowFactory;
+        this.cache = new LinkedHashMap<Integer, E>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, E> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+
+        E row = cache.get(index);
+        if (row != null) {
+            return row;
+        }
+
+        row = read(index);
+        cache.put(index, row);
+        return row;
+    }
+
+    @Override
+    public synchronized int size() {
+        if (closed) {
+            return 0;
+        }
+        if (size < 0) {
+            size = cursor.getCount();
+        }
+        return size;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cache.clear();
+        cursor.close();
+    }
+
+    private E read(int index) {
+        if (!cursor.moveToPosition(index)) {
+            throw new IndexOutOfBoundsException("Cannot move cursor to " + index);
+        }
+
+        return newRow(rowFactory, cursor);
+    }
+
+    private static <T extends DatabaseContract.DatabaseObject> T newRow(DatabaseContract.RowFactory<T> rowFactory, Cursor cursor) {
+        T row = rowFactory.newRow();
+        try {
+            row.fillFromCursor(cursor);
+        } catch (Exception e) {
+            MobileMessagingLogger.e(Log.getStackTraceString(e));
+        }
+        return row;
+    }
+}
@@ -130,6 +130,60 @@ public interface DatabaseContract {
          *  [TEXT]
          */
         String IN_APP_STYLE = "in_app_style";
+
+        /**
+         * Timestamp when message was sent, "sendDateTime" from internal data
+         *  [INTEGER]
+         */
+        String SENT_TIMESTAMP = "sent_timestamp";
+
+        /**
+         * Timestamp when in-app message expires, "inAppExpiryDateTime" from internal data
+         *  [INTEGER]
+         */
+        String IN_APP_EXPIRY_TIMESTAMP = "in_app_expiry_timestamp";
+
+        /**
+         * Bulk identifier, "bulkId" from internal data
+         *  [TEXT]
+         */
+        String BULK_ID = "bulk_id";
+
+        /**
+         * Type of message, "messageType" from internal data
+         *  [TEXT]
+         */
+        String MESSAGE_TYPE = "message_type";
+
+        /**
+         * url to open in web view, "webViewUrl" from internal data
+         *  [TEXT]
+         */
+        String WEB_VIEW_URL = "web_view_url";
+
+        /**
+         * url to open in browser, "browserUrl" from internal data
+         *  [TEXT]
+         */
+        String BROWSER_URL = "browser_url";
+
+        /**
+         * Deeplink URI, "deeplink" from internal data
+         *  [TEXT]
+         */
+        String DEEPLINK = "deeplink";
+
+        /**
+         * Title of in-app open button, "inAppOpenTitle" from internal data
+         *  [TEXT]
+         */
+        String IN_APP_OPEN_TITLE = "in_app_open_title";
+
+        /**
+         * Title of in-app dismiss button, "inAppDismissTitle" from internal data
+         *  [TEXT]
+         */
+        String IN_APP_DISMISS_TITLE = "in_app_dismiss_title";
     }
 
     interface DatabaseObject {
@@ -158,4 +212,17 @@ public interface DatabaseContract {
          */
         ContentValues getContentValues();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates empty database objects of one type to be filled from database rows
+     * @param <T> object type
+     */
+    interface RowFactory<T extends DatabaseObject> {
+
+        /**
+         * Creates new empty object
+         * @return object to fill from cursor
+         */
+        T newRow();
+    }
+}
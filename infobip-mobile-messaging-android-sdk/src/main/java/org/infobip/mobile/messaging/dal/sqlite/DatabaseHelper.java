@@ -1,5 +1,6 @@
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +17,33 @@ public interface DatabaseHelper {
      */
     <T extends DatabaseContract.DatabaseObject> List<T> findAll(Class<T> cls);
 
+    /**
+     * Finds instances of specified type matching the condition
+     * @param cls object class
+     * @param selection SQL WHERE clause without the keyword, null to match all objects
+     * @param selectionArgs arguments for placeholders in selection
+     * @param orderBy SQL ORDER BY clause without the keyword, null for no ordering
+     * @param limit maximum number of objects to return, 0 for no limit
+     * @param offset number of objects to skip
+     * @param <T> object type
+     * @return list of matching objects
+     */
+    <T extends DatabaseContract.DatabaseObject> List<T> query(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit, int offset);
+
+    /**
+     * Finds instances of specified type matching the condition, objects are read from database only when accessed.
+     * Returned list must be closed.
+     * @param cls object class
+     * @param selection SQL WHERE clause without the keyword, null to match all objects
+     * @param selectionArgs arguments for placeholders in selection
+     * @param orderBy SQL ORDER BY clause without the keyword, null for no ordering
+     * @param limit maximum number of objects to return, 0 for no limit
+     * @param offset number of objects to skip
+     * @param <T> object type
+     * @return lazy list of matching objects
+     */
+    <T extends DatabaseContract.DatabaseObject> CursorList<T> queryLazily(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit, int offset);
+
     /**
      * Finds instance of object by primary key
      * @param cls object class
@@ -48,6 +76,17 @@ public interface DatabaseHelper {
      */
     void save(DatabaseContract.DatabaseObject object);
 
+    /**
+     * Saves objects to database, replaces on conflict.
+     * Default implementation saves objects one by one, implementations should override it to save them in a single transaction.
+     * @param objects objects to save
+     */
+    default void saveAll(Collection<? extends DatabaseContract.DatabaseObject> objects) {
+        for (DatabaseContract.DatabaseObject object : objects) {
+            save(object);
+        }
+    }
+
     /**
      * Inserts object to database, fails on conflict
      * @param object object to insert
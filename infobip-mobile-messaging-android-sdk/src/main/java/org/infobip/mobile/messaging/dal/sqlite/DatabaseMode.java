@@ -0,0 +1,59 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+/**
+ * Journaling and connection mode of SDK database.
+ *
+ * @since 17/10/2026.
+ */
+public enum DatabaseMode {
+
+    /**
+     * Write-ahead logging with {@code synchronous=NORMAL} and larger page cache.
+     * Reads run on separate connections concurrently with a writer, commits do not wait for fsync of the database file.
+     * Default mode.
+     */
+    WRITE_AHEAD_LOGGING(true, "NORMAL", 2048),
+
+    /**
+     * Rollback journal with platform defaults, a single connection shared by readers and writer.
+     * Mode used by SDK versions before write-ahead logging was introduced.
+     */
+    ROLLBACK_JOURNAL(false, null, 0);
+
+    private final boolean writeAheadLogging;
+    private final String synchronous;
+    private final int cacheSizeKb;
+
+    DatabaseMode(boolean writeAheadLogging, String synchronous, int cacheSizeKb) {
+        this.writeAheadLogging = writeAheadLogging;
+        this.synchronous = synchronous;
+        this.cacheSizeKb = cacheSizeKb;
+    }
+
+    public boolean isWriteAheadLogging() {
+        return writeAheadLogging;
+    }
+
+    /**
+     * @return value for {@code PRAGMA synchronous} or null to keep platform default
+     */
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * @return page cache size per connection in KiB or 0 to keep platform default
+     */
+    public int getCacheSizeKb() {
+        return cacheSizeKb;
+    }
+
+    public static DatabaseMode fromName(String name) {
+        for (DatabaseMode mode : values()) {
+            if (mode.name().equals(name)) {
+                return mode;
+            }
+        }
+        return WRITE_AHEAD_LOGGING;
+    }
+}
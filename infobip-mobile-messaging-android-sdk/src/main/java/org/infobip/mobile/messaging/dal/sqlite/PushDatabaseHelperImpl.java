@@ -28,7 +28,9 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
     static final int VER_2017_MAY_15 = 3; // Added "content_url" column to messages/geo_messages table
     static final int VER_2017_AUG_25 = 4; // Added "sendDateTime" to internal data (must be present for all messages)
     static final int VER_2019_JAN_21 = 5; // Added "inAppStyle" to internal data
-    private static final int VER_CURRENT = VER_2019_JAN_21;
+    static final int VER_2026_OCT_17 = 6; // Added indexes for message queries
+    static final int VER_2026_OCT_17_INTERNAL_DATA_COLUMNS = 7; // Added columns for frequently read internal data fields
+    private static final int VER_CURRENT = VER_2026_OCT_17_INTERNAL_DATA_COLUMNS;
 
     @SuppressWarnings("WeakerAccess")
     static final String DATABASE_NAME = "mm_infobip_database.db";
@@ -81,8 +83,64 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
     private static final String SQL_ALTER_TABLE_GEO_MESSAGES_WITH_IN_APP_STYLE  = "ALTER TABLE "
             + Tables.GEO_MESSAGES + " ADD COLUMN " + MessageColumns.IN_APP_STYLE + " TEXT;";
 
+    private static final String[] SQL_CREATE_MESSAGES_INDEXES = {
+            "CREATE INDEX IF NOT EXISTS idx_messages_received_timestamp ON " + Tables.MESSAGES + " (" + MessageColumns.RECEIVED_TIMESTAMP + ")",
+            "CREATE INDEX IF NOT EXISTS idx_messages_seen_timestamp ON " + Tables.MESSAGES + " (" + MessageColumns.SEEN_TIMESTAMP + ")",
+            "CREATE INDEX IF NOT EXISTS idx_messages_status ON " + Tables.MESSAGES + " (" + MessageColumns.STATUS + ")",
+            "CREATE INDEX IF NOT EXISTS idx_messages_category ON " + Tables.MESSAGES + " (" + MessageColumns.CATEGORY + ")"
+    };
+
+    private static final String[][] PROMOTED_INTERNAL_DATA_COLUMNS = {
+            {MessageColumns.SENT_TIMESTAMP, "INTEGER"},
+            {MessageColumns.IN_APP_EXPIRY_TIMESTAMP, "INTEGER"},
+            {MessageColumns.BULK_ID, "TEXT"},
+            {MessageColumns.MESSAGE_TYPE, "TEXT"},
+            {MessageColumns.WEB_VIEW_URL, "TEXT"},
+            {MessageColumns.BROWSER_URL, "TEXT"},
+            {MessageColumns.DEEPLINK, "TEXT"},
+            {MessageColumns.IN_APP_OPEN_TITLE, "TEXT"},
+            {MessageColumns.IN_APP_DISMISS_TITLE, "TEXT"}
+    };
+
+    private static final String[] SQL_CREATE_PROMOTED_INTERNAL_DATA_INDEXES = {
+            "CREATE INDEX IF NOT EXISTS idx_messages_bulk_id ON " + Tables.MESSAGES + " (" + MessageColumns.BULK_ID + ")",
+            "CREATE INDEX IF NOT EXISTS idx_messages_in_app_expiry_timestamp ON " + Tables.MESSAGES + " (" + MessageColumns.IN_APP_EXPIRY_TIMESTAMP + ")"
+    };
+
+    /**
+     * Internal data fields which are stored in separate columns, other keys stay only in internal data json
+     */
+    private static class PromotedInternalData {
+        long sendDateTime;
+        long inAppExpiryDateTime;
+        String bulkId;
+        String messageType;
+        String webViewUrl;
+        String browserUrl;
+        String deeplink;
+        String inAppOpenTitle;
+        String inAppDismissTitle;
+    }
+
+    static {
+        registerRowFactory(SqliteMessage.class, new DatabaseContract.RowFactory<SqliteMessage>() {
+            @Override
+            public SqliteMessage newRow() {
+                return new SqliteMessage();
+            }
+        });
+    }
+
     public PushDatabaseHelperImpl(Context context) {
-        super(context, DATABASE_NAME, VER_CURRENT);
+        this(context, DatabaseMode.WRITE_AHEAD_LOGGING);
+    }
+
+    public PushDatabaseHelperImpl(Context context, DatabaseMode databaseMode) {
+        this(context, DATABASE_NAME, databaseMode);
+    }
+
+    PushDatabaseHelperImpl(Context context, String databaseName, DatabaseMode databaseMode) {
+        super(context, databaseName, VER_CURRENT, databaseMode);
     }
 
     @Override
@@ -94,6 +152,10 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
         db.execSQL(SQL_ALTER_TABLE_GEO_MESSAGES_WITH_CONTENT_URL);
         db.execSQL(SQL_ALTER_TABLE_MESSAGES_WITH_IN_APP_STYLE);
         db.execSQL(SQL_ALTER_TABLE_GEO_MESSAGES_WITH_IN_APP_STYLE);
+        createMessagesIndexes(db);
+        addPromotedInternalDataColumns(db, Tables.MESSAGES);
+        addPromotedInternalDataColumns(db, Tables.GEO_MESSAGES);
+        createPromotedInternalDataIndexes(db);
         db.setTransactionSuccessful();
         db.endTransaction();
         SharedPreferencesMigrator.migrateMessages(context, db);
@@ -124,11 +186,77 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
             version = VER_2019_JAN_21;
         }
 
+        if (version <= VER_2019_JAN_21) {
+            createMessagesIndexes(db);
+            version = VER_2026_OCT_17;
+        }
+
+        if (version <= VER_2026_OCT_17) {
+            addPromotedInternalDataColumns(db, Tables.MESSAGES);
+            addPromotedInternalDataColumns(db, Tables.GEO_MESSAGES);
+            fillPromotedInternalDataColumns(db, Tables.MESSAGES);
+            fillPromotedInternalDataColumns(db, Tables.GEO_MESSAGES);
+            createPromotedInternalDataIndexes(db);
+            version = VER_2026_OCT_17_INTERNAL_DATA_COLUMNS;
+        }
+
         if (version != VER_CURRENT) {
             MobileMessagingLogger.e("SQLite DB version is not what expected: " + VER_CURRENT);
         }
     }
 
+    private static void createMessagesIndexes(SQLiteDatabase db) {
+        for (String sql : SQL_CREATE_MESSAGES_INDEXES) {
+            db.execSQL(sql);
+        }
+    }
+
+    private static void addPromotedInternalDataColumns(SQLiteDatabase db, String table) {
+        for (String[] column : PROMOTED_INTERNAL_DATA_COLUMNS) {
+            db.execSQL("ALTER TABLE " + table + " ADD COLUMN " + column[0] + " " + column[1] + ";");
+        }
+    }
+
+    private static void createPromotedInternalDataIndexes(SQLiteDatabase db) {
+        for (String sql : SQL_CREATE_PROMOTED_INTERNAL_DATA_INDEXES) {
+            db.execSQL(sql);
+        }
+    }
+
+    private static void fillPromotedInternalDataColumns(SQLiteDatabase db, String table) {
+        JsonSerializer serializer = new JsonSerializer(false);
+        String[] whereArgs = new String[1];
+        Cursor cursor = db.rawQuery("SELECT " + MessageColumns.MESSAGE_ID + ", " + MessageColumns.INTERNAL_DATA + " FROM " + table, new String[0]);
+        try {
+            while (cursor.moveToNext()) {
+                PromotedInternalData internalData = null;
+                try {
+                    internalData = serializer.deserialize(cursor.getString(1), PromotedInternalData.class);
+                } catch (Exception e) {
+                    MobileMessagingLogger.e(Log.getStackTraceString(e));
+                }
+                if (internalData == null) {
+                    internalData = new PromotedInternalData();
+                }
+
+                ContentValues contentValues = new ContentValues();
+                contentValues.put(MessageColumns.SENT_TIMESTAMP, internalData.sendDateTime);
+                contentValues.put(MessageColumns.IN_APP_EXPIRY_TIMESTAMP, internalData.inAppExpiryDateTime);
+                contentValues.put(MessageColumns.BULK_ID, internalData.bulkId);
+                contentValues.put(MessageColumns.MESSAGE_TYPE, internalData.messageType);
+                contentValues.put(MessageColumns.WEB_VIEW_URL, internalData.webViewUrl);
+                contentValues.put(MessageColumns.BROWSER_URL, internalData.browserUrl);
+                contentValues.put(MessageColumns.DEEPLINK, internalData.deeplink);
+                contentValues.put(MessageColumns.IN_APP_OPEN_TITLE, internalData.inAppOpenTitle);
+                contentValues.put(MessageColumns.IN_APP_DISMISS_TITLE, internalData.inAppDismissTitle);
+                whereArgs[0] = cursor.getString(0);
+                db.update(table, contentValues, MessageColumns.MESSAGE_ID + " = ?", whereArgs);
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
     private void setSendDateTimeToReceivedTimeIfAbsent(SQLiteDatabase db) {
         // Read existing data from database
         class Message {
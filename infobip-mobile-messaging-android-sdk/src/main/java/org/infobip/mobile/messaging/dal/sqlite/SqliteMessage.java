@@ -5,6 +5,7 @@ import android.database.Cursor;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
+import org.infobip.mobile.messaging.dal.json.ParsedInternalData;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
 import org.json.JSONObject;
@@ -50,6 +51,7 @@ public class SqliteMessage extends Message implements DatabaseContract.DatabaseO
                 m.getInAppOpenTitle(),
                 m.getInAppDismissTitle()
         );
+        setParsedInternalData(m.getParsedInternalData());
     }
 
     public static ContentValues save(Message message) {
@@ -83,14 +85,28 @@ public class SqliteMessage extends Message implements DatabaseContract.DatabaseO
 
         String dataJson = cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.INTERNAL_DATA));
         setInternalData(dataJson);
-        setSentTimestamp(InternalDataMapper.getInternalDataSendDateTime(dataJson));
-        setInAppExpiryTimestamp(InternalDataMapper.getInternalDataInAppExpiryDateTime(dataJson));
-        setWebViewUrl(InternalDataMapper.getInternalDataWebViewUrl(dataJson));
-        setBrowserUrl(InternalDataMapper.getInternalDataBrowserUrl(dataJson));
-        setDeeplink(InternalDataMapper.getInternalDataDeeplinkUri(dataJson));
-        setMessageType(InternalDataMapper.getInternalDataMessageType(dataJson));
-        setInAppOpenTitle(InternalDataMapper.getInternalDataInAppOpenTitle(dataJson));
-        setInAppDismissTitle(InternalDataMapper.getInternalDataInAppDismissTitle(dataJson));
+        int sentTimestampIndex = cursor.getColumnIndex(MessageColumns.SENT_TIMESTAMP);
+        if (sentTimestampIndex != -1 && !cursor.isNull(sentTimestampIndex)) {
+            setSentTimestamp(cursor.getLong(sentTimestampIndex));
+            setInAppExpiryTimestamp(cursor.getLong(cursor.getColumnIndexOrThrow(MessageColumns.IN_APP_EXPIRY_TIMESTAMP)));
+            setWebViewUrl(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.WEB_VIEW_URL)));
+            setBrowserUrl(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.BROWSER_URL)));
+            setDeeplink(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.DEEPLINK)));
+            setMessageType(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.MESSAGE_TYPE)));
+            setInAppOpenTitle(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.IN_APP_OPEN_TITLE)));
+            setInAppDismissTitle(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.IN_APP_DISMISS_TITLE)));
+        } else {
+            // row was not written with promoted columns, read them from internal data
+            ParsedInternalData internalData = getParsedInternalData();
+            setSentTimestamp(internalData.getSendDateTime());
+            setInAppExpiryTimestamp(internalData.getInAppExpiryDateTime());
+            setWebViewUrl(internalData.getWebViewUrl());
+            setBrowserUrl(internalData.getBrowserUrl());
+            setDeeplink(internalData.getDeeplink());
+            setMessageType(internalData.getMessageType());
+            setInAppOpenTitle(internalData.getInAppOpenTitle());
+            setInAppDismissTitle(internalData.getInAppDismissTitle());
+        }
 
         dataJson = cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.CUSTOM_PAYLOAD));
         setCustomPayload(dataJson == null ? null : new JSONObject(dataJson));
@@ -121,13 +137,25 @@ public class SqliteMessage extends Message implements DatabaseContract.DatabaseO
         contentValues.put(MessageColumns.FROM, getFrom());
         contentValues.put(MessageColumns.RECEIVED_TIMESTAMP, getReceivedTimestamp());
         contentValues.put(MessageColumns.SEEN_TIMESTAMP, getSeenTimestamp());
-        contentValues.put(MessageColumns.INTERNAL_DATA, InternalDataMapper.createInternalDataBasedOnMessageContents(this));
+        String internalData = InternalDataMapper.createInternalDataBasedOnMessageContents(this);
+        contentValues.put(MessageColumns.INTERNAL_DATA, internalData);
         contentValues.put(MessageColumns.CUSTOM_PAYLOAD, getCustomPayload() != null ? getCustomPayload().toString() : null);
         contentValues.put(MessageColumns.DESTINATION, getDestination());
         contentValues.put(MessageColumns.STATUS, getStatus() != null ? getStatus().name() : null);
         contentValues.put(MessageColumns.STATUS_MESSAGE, getStatusMessage());
         contentValues.put(MessageColumns.CONTENT_URL, getContentUrl());
         contentValues.put(MessageColumns.IN_APP_STYLE, getInAppStyle() != null ? getInAppStyle().name() : null);
+        // promoted columns mirror the internal data being written, which only adds send date time to parsed one
+        ParsedInternalData parsedInternalData = getParsedInternalData();
+        contentValues.put(MessageColumns.SENT_TIMESTAMP, getSentTimestamp() != 0 ? getSentTimestamp() : parsedInternalData.getSendDateTime());
+        contentValues.put(MessageColumns.IN_APP_EXPIRY_TIMESTAMP, parsedInternalData.getInAppExpiryDateTime());
+        contentValues.put(MessageColumns.BULK_ID, parsedInternalData.getBulkId());
+        contentValues.put(MessageColumns.MESSAGE_TYPE, parsedInternalData.getMessageType());
+        contentValues.put(MessageColumns.WEB_VIEW_URL, parsedInternalData.getWebViewUrl());
+        contentValues.put(MessageColumns.BROWSER_URL, parsedInternalData.getBrowserUrl());
+        contentValues.put(MessageColumns.DEEPLINK, parsedInternalData.getDeeplink());
+        contentValues.put(MessageColumns.IN_APP_OPEN_TITLE, parsedInternalData.getInAppOpenTitle());
+        contentValues.put(MessageColumns.IN_APP_DISMISS_TITLE, parsedInternalData.getInAppDismissTitle());
         return contentValues;
     }
 
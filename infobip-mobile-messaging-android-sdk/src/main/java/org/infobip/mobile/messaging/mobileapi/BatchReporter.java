@@ -1,60 +1,150 @@
 package org.infobip.mobile.messaging.mobileapi;
 
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.SdkScheduler;
 import org.infobip.mobile.messaging.platform.SystemTimeProvider;
 import org.infobip.mobile.messaging.platform.TimeProvider;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Collects items submitted within the reporting delay and reports them together.
+ * <br>
+ * Items submitted after the delay has passed since the last batch are reported right away. Items submitted within
+ * the delay are accumulated without duplicates and reported in batches of at most {@code maxBatchSize} items,
+ * a batch is reported without waiting for the delay once it is full.
+ * Batches of all reporters are scheduled on {@link SdkScheduler}.
+ * With zero delay items are reported right away and items are only split into batches, reporters flushed by {@link ReportQueue}
+ * use it that way so that reports do not wait for two delays.
+ *
  * @author sslavin
  * @since 07/07/16.
  */
 public class BatchReporter {
 
+    public interface BatchHandler {
+        /**
+         * Reports a batch of accumulated items
+         *
+         * @param items at most max batch size items
+         */
+        void report(String[] items);
+    }
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
     private final long delay;
+    private final int maxBatchSize;
     private final TimeProvider timeProvider;
-    private final Timer timer = new Timer();
-    private volatile TimerTask timerTask = null;
-    private volatile long lastSubmitted = 0;
+    private final ScheduledExecutorService scheduler;
+    private final Set<String> pendingItems = new LinkedHashSet<>();
+    private BatchHandler pendingHandler = null;
+    private ScheduledFuture<?> scheduledBatch = null;
+    private long lastSubmitted = 0;
 
-    public BatchReporter(Long batchReportingDelay, TimeProvider timeProvider) {
+    public BatchReporter(Long batchReportingDelay, int maxBatchSize, TimeProvider timeProvider, ScheduledExecutorService scheduler) {
         this.delay = batchReportingDelay;
+        this.maxBatchSize = maxBatchSize;
         this.timeProvider = timeProvider;
+        this.scheduler = scheduler;
+    }
+
+    public BatchReporter(Long batchReportingDelay, int maxBatchSize) {
+        this(batchReportingDelay, maxBatchSize, new SystemTimeProvider(), SdkScheduler.getInstance());
+    }
+
+    public BatchReporter(Long batchReportingDelay, TimeProvider timeProvider) {
+        this(batchReportingDelay, DEFAULT_MAX_BATCH_SIZE, timeProvider, SdkScheduler.getInstance());
     }
 
     public BatchReporter(Long batchReportingDelay) {
         this(batchReportingDelay, new SystemTimeProvider());
     }
 
-    public synchronized void put(final Runnable task) {
-        if (timerTask != null) {
-            timerTask.cancel();
-            timer.purge();
+    /**
+     * Submits items to be reported together with other items submitted within the delay
+     *
+     * @param handler reports a batch of items, the latest handler reports all pending items
+     * @param items   items, null items and items which are already pending are ignored
+     */
+    public void put(BatchHandler handler, String... items) {
+        synchronized (this) {
+            pendingHandler = handler;
+            for (String item : items) {
+                if (item != null) {
+                    pendingItems.add(item);
+                }
+            }
         }
+        submit();
+    }
 
-        long now = timeProvider.now();
-        if (now - lastSubmitted >= delay) {
-            runNow(task);
-            return;
+    /**
+     * Reports pending items now regardless of the delay, e.g. when application goes to background
+     */
+    public void flush() {
+        BatchHandler handler;
+        List<String[]> batches;
+        synchronized (this) {
+            if (scheduledBatch != null) {
+                scheduledBatch.cancel(false);
+                scheduledBatch = null;
+            }
+            if (pendingItems.isEmpty()) {
+                return;
+            }
+
+            handler = pendingHandler;
+            batches = splitIntoBatches(pendingItems);
+            pendingHandler = null;
+            pendingItems.clear();
+            lastSubmitted = timeProvider.now();
         }
 
-        long after = lastSubmitted + delay - now;
-        scheduleWithDelay(task, after);
+        if (handler != null) {
+            for (String[] batch : batches) {
+                handler.report(batch);
+            }
+        }
     }
 
-    private void runNow(Runnable task) {
-        lastSubmitted = timeProvider.now();
-        task.run();
+    private void submit() {
+        boolean runNow;
+        synchronized (this) {
+            long now = timeProvider.now();
+            runNow = now - lastSubmitted >= delay || pendingItems.size() >= maxBatchSize;
+            if (!runNow && scheduledBatch == null) {
+                scheduledBatch = scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            flush();
+                        } catch (RuntimeException e) {
+                            MobileMessagingLogger.e("Failed to run batch", e);
+                        }
+                    }
+                }, lastSubmitted + delay - now, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (runNow) {
+            flush();
+        }
     }
 
-    private void scheduleWithDelay(final Runnable task, long delay) {
-        timerTask = new TimerTask() {
-            @Override
-            public void run() {
-                runNow(task);
-            }
-        };
-        timer.schedule(timerTask, delay);
+    private List<String[]> splitIntoBatches(Set<String> items) {
+        String[] allItems = items.toArray(new String[0]);
+        List<String[]> batches = new ArrayList<>();
+        for (int from = 0; from < allItems.length; from += maxBatchSize) {
+            batches.add(Arrays.copyOfRange(allItems, from, Math.min(from + maxBatchSize, allItems.length)));
+        }
+        return batches;
     }
 }
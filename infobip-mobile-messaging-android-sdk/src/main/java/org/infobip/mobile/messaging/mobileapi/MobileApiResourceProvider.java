@@ -13,6 +13,7 @@ import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.rtc.MobileApiRtc;
 import org.infobip.mobile.messaging.api.support.CustomApiHeaders;
 import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.support.http.client.HttpResponseCache;
 import org.infobip.mobile.messaging.api.support.http.client.Logger;
 import org.infobip.mobile.messaging.api.support.http.client.Request;
 import org.infobip.mobile.messaging.api.support.http.client.RequestInterceptor;
@@ -27,6 +28,7 @@ import org.infobip.mobile.messaging.util.SoftwareInformation;
 import org.infobip.mobile.messaging.util.StringUtils;
 import org.infobip.mobile.messaging.util.SystemInformation;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +42,9 @@ import java.util.Properties;
  */
 public class MobileApiResourceProvider {
 
+    private static final String HTTP_CACHE_DIRECTORY = "mm_http_cache";
+    private static final long HTTP_CACHE_MAX_SIZE_BYTES = 1024 * 1024;
+
     public class BaseUrlManager implements RequestInterceptor, ResponsePreProcessor {
 
         private final Context context;
@@ -241,6 +246,17 @@ public class MobileApiResourceProvider {
         return PreferenceHelper.findBoolean(context, MobileMessagingProperty.ALLOW_UNTRUSTED_SSL_ON_ERROR);
     }
 
+    /**
+     * Removes cached API responses from memory and disk, also the ones stored by previous processes.
+     */
+    public void clearResponseCache(Context context) {
+        HttpResponseCache responseCache = null != generator ? generator.getResponseCache() : null;
+        if (null == responseCache) {
+            responseCache = new HttpResponseCache(new File(context.getCacheDir(), HTTP_CACHE_DIRECTORY), HTTP_CACHE_MAX_SIZE_BYTES);
+        }
+        responseCache.clear();
+    }
+
     private Generator getGenerator(Context context) {
         if (null != generator) {
             return generator;
@@ -259,6 +275,9 @@ public class MobileApiResourceProvider {
                 .withResponseHeaderInterceptors(baseUrlManager(context))
                 .withLogger(new AndroidHTTPLogger())
                 .withAllowUntrustedSSLOnError(shouldAllowUntrustedSSLOnError(context))
+                .withConnectionReuse(true)
+                .withRequestCoalescing(true)
+                .withResponseCache(new File(context.getCacheDir(), HTTP_CACHE_DIRECTORY), HTTP_CACHE_MAX_SIZE_BYTES)
                 .build();
 
         return generator;
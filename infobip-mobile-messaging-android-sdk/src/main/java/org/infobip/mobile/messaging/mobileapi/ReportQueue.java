@@ -0,0 +1,181 @@
+package org.infobip.mobile.messaging.mobileapi;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.SdkScheduler;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound queue of reports for the backend.
+ * <br>
+ * Reported items are stored by reporters in their own persistent storage, so they survive restarts and failed requests.
+ * The queue keeps track of what is pending for each endpoint and decides when to flush it: as soon as pending items
+ * reach {@code maxCount} or {@code maxBytes}, otherwise {@code maxLatencyMillis} after the first pending item.
+ * Flush of an endpoint sends everything stored for it in one request, so a burst of reports results in a single
+ * request per endpoint instead of a request per item.
+ * <br>
+ * Only analytics-like reports should be enqueued. Reports the user or the backend is waiting for, such as mobile originated
+ * messages and delivery reports, should be stored and sent right away with {@link #flush(Endpoint)}.
+ *
+ * @since 17/10/2026.
+ */
+public class ReportQueue {
+
+    public enum Endpoint {
+        DELIVERY,
+        MO_MESSAGES,
+        SEEN,
+        IN_APP_CLICK,
+        USER_SESSIONS,
+        CUSTOM_EVENTS
+    }
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final int maxCount;
+    private final long maxBytes;
+    private final long maxLatencyMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Endpoint, Runnable> flushers = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Pending> pending = new EnumMap<>(Endpoint.class);
+
+    private static class Pending {
+        int count;
+        long bytes;
+        ScheduledFuture<?> scheduledFlush;
+    }
+
+    public ReportQueue(int maxCount, long maxBytes, long maxLatencyMillis) {
+        this(maxCount, maxBytes, maxLatencyMillis, SdkScheduler.getInstance());
+    }
+
+    public ReportQueue(int maxCount, long maxBytes, long maxLatencyMillis, ScheduledExecutorService scheduler) {
+        this.maxCount = maxCount;
+        this.maxBytes = maxBytes;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the action which sends everything stored for the endpoint in one request.
+     * It runs on the thread which flushes, scheduled flushes run on the scheduler thread.
+     *
+     * @param endpoint endpoint
+     * @param flusher  action which reads stored items of the endpoint and reports them
+     */
+    public synchronized void register(Endpoint endpoint, Runnable flusher) {
+        flushers.put(endpoint, flusher);
+    }
+
+    /**
+     * Notifies the queue about items already stored for the endpoint, flushes the endpoint if it has reached
+     * count or size limit or schedules the flush for later otherwise
+     *
+     * @param endpoint endpoint
+     * @param items    stored items, no items only schedule the flush
+     */
+    public void enqueue(final Endpoint endpoint, String... items) {
+        boolean flushNow;
+        synchronized (this) {
+            Pending endpointPending = pending.get(endpoint);
+            if (endpointPending == null) {
+                endpointPending = new Pending();
+                pending.put(endpoint, endpointPending);
+            }
+            for (String item : items) {
+                if (item != null) {
+                    endpointPending.count++;
+                    endpointPending.bytes += item.getBytes(UTF_8).length;
+                }
+            }
+
+            flushNow = endpointPending.count >= maxCount || endpointPending.bytes >= maxBytes;
+            if (!flushNow && endpointPending.scheduledFlush == null) {
+                endpointPending.scheduledFlush = scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush(endpoint);
+                    }
+                }, maxLatencyMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (flushNow) {
+            flush(endpoint);
+        }
+    }
+
+    /**
+     * Sends everything stored for the endpoint now
+     *
+     * @param endpoint endpoint
+     */
+    public void flush(Endpoint endpoint) {
+        Runnable flusher;
+        synchronized (this) {
+            Pending endpointPending = pending.remove(endpoint);
+            if (endpointPending != null && endpointPending.scheduledFlush != null) {
+                endpointPending.scheduledFlush.cancel(false);
+            }
+            flusher = flushers.get(endpoint);
+        }
+
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.run();
+        } catch (RuntimeException e) {
+            MobileMessagingLogger.e("Failed to flush " + endpoint + " reports", e);
+        }
+    }
+
+    /**
+     * Sends everything stored for all registered endpoints now
+     */
+    public void flushAll() {
+        List<Endpoint> endpoints;
+        synchronized (this) {
+            endpoints = new ArrayList<>(flushers.keySet());
+        }
+        for (Endpoint endpoint : endpoints) {
+            flush(endpoint);
+        }
+    }
+
+    /**
+     * Sends now only endpoints which have enqueued items waiting for the flush, e.g. when application goes to background
+     */
+    public void flushPending() {
+        List<Endpoint> endpoints;
+        synchronized (this) {
+            endpoints = new ArrayList<>(pending.keySet());
+        }
+        for (Endpoint endpoint : endpoints) {
+            flush(endpoint);
+        }
+    }
+
+    /**
+     * @return number of items enqueued for the endpoint since its last flush
+     */
+    public synchronized int getPendingCount(Endpoint endpoint) {
+        Pending endpointPending = pending.get(endpoint);
+        return endpointPending != null ? endpointPending.count : 0;
+    }
+
+    /**
+     * @return size in bytes of items enqueued for the endpoint since its last flush
+     */
+    public synchronized long getPendingBytes(Endpoint endpoint) {
+        Pending endpointPending = pending.get(endpoint);
+        return endpointPending != null ? endpointPending.bytes : 0;
+    }
+}
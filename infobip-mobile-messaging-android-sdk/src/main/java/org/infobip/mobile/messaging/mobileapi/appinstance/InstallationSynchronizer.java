@@ -34,6 +34,9 @@ import java.util.concurrent.TimeUnit;
 
 public class InstallationSynchronizer {
 
+    private static final String CREATE_INSTANCE_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "createInstance");
+    private static final String PATCH_INSTANCE_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "patchInstance");
+    private static final String GET_INSTANCE_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "getInstance");
     private static final long SYNC_THROTTLE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(1);
 
     private final Context context;
@@ -146,7 +149,7 @@ public class InstallationSynchronizer {
     }
 
     private void createInstallation(final Installation installation, final MobileMessaging.ResultListener<Installation> actionListener) {
-        new MRetryableTask<Void, AppInstance>() {
+        new MRetryableTask<Void, AppInstance>(CREATE_INSTANCE_ENDPOINT) {
 
             @Override
             public boolean shouldCancel() {
@@ -256,7 +259,7 @@ public class InstallationSynchronizer {
 
         final String pushRegIdToUpdate = pushRegId;
         final Map<String, Object> installationMap = installation.getMap();
-        new MRetryableTask<Void, Void>() {
+        new MRetryableTask<Void, Void>(PATCH_INSTANCE_ENDPOINT) {
 
             @Override
             public Void run(Void[] voids) {
@@ -341,7 +344,7 @@ public class InstallationSynchronizer {
             return;
         }
 
-        new MRetryableTask<Void, AppInstance>() {
+        new MRetryableTask<Void, AppInstance>(GET_INSTANCE_ENDPOINT) {
             @Override
             public AppInstance run(Void[] voids) {
                 MobileMessagingLogger.v("GET INSTALLATION >>>");
@@ -0,0 +1,130 @@
+package org.infobip.mobile.messaging.mobileapi.common;
+
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of one backend endpoint, shared by all tasks calling the endpoint.
+ * <br>
+ * After {@link #FAILURE_THRESHOLD} consecutive failures the circuit opens and requests fail without reaching the backend.
+ * When the open period passes one trial request is let through: success closes the circuit, failure opens it again
+ * for twice as long, up to {@link #MAX_OPEN_MILLIS}. Delay requested by the server with {@code Retry-After}
+ * keeps the circuit open at least that long regardless of the number of failures.
+ *
+ * @since 17/10/2026.
+ */
+public class CircuitBreaker {
+
+    static final int FAILURE_THRESHOLD = 5;
+    static final long MIN_OPEN_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    static final long MAX_OPEN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final Map<String, CircuitBreaker> circuitBreakers = new HashMap<>();
+
+    private final String endpoint;
+    private int consecutiveFailures = 0;
+    private long openMillis = MIN_OPEN_MILLIS;
+    private long openUntil = 0;
+    private long trialStartedAt = 0;
+
+    CircuitBreaker(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @param endpoint endpoint key
+     * @return circuit breaker shared by all callers of the endpoint
+     */
+    public static synchronized CircuitBreaker forEndpoint(String endpoint) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (circuitBreaker == null) {
+            circuitBreaker = new CircuitBreaker(endpoint);
+            circuitBreakers.put(endpoint, circuitBreaker);
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * Closes circuits of all endpoints
+     */
+    public static synchronized void resetAll() {
+        circuitBreakers.clear();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return true if request can be sent now, false if circuit is open or trial request is already in progress
+     */
+    public synchronized boolean allowRequest() {
+        if (openUntil == 0) {
+            return true;
+        }
+
+        long now = Time.now();
+        if (now < openUntil) {
+            return false;
+        }
+
+        // trial request which never finished does not keep the circuit open forever
+        if (trialStartedAt != 0 && now - trialStartedAt < openMillis) {
+            return false;
+        }
+        trialStartedAt = now;
+        return true;
+    }
+
+    /**
+     * @return time until the circuit lets a request through, 0 if it does already
+     */
+    public synchronized long getRemainingOpenMillis() {
+        return openUntil != 0 ? Math.max(0, openUntil - Time.now()) : 0;
+    }
+
+    /**
+     * Records that the request ended without a response, e.g. because of missing network, it is not a failure
+     * of the backend but it ends the trial request
+     */
+    public synchronized void onNoResponse() {
+        trialStartedAt = 0;
+    }
+
+    /**
+     * Records that the backend responded, successful responses and client errors both close the circuit
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        openMillis = MIN_OPEN_MILLIS;
+        openUntil = 0;
+        trialStartedAt = 0;
+    }
+
+    /**
+     * Records failure of a request which is worth retrying
+     *
+     * @param retryAfterMillis delay requested by the server, -1 if not requested
+     */
+    public synchronized void onFailure(long retryAfterMillis) {
+        consecutiveFailures++;
+        long now = Time.now();
+        boolean trialFailed = trialStartedAt != 0;
+        trialStartedAt = 0;
+
+        long openFor = 0;
+        if (trialFailed) {
+            openMillis = Math.min(openMillis * 2, MAX_OPEN_MILLIS);
+            openFor = openMillis;
+        } else if (consecutiveFailures >= FAILURE_THRESHOLD) {
+            openFor = openMillis;
+        }
+        openFor = Math.max(openFor, retryAfterMillis);
+        if (openFor > 0) {
+            openUntil = Math.max(openUntil, now + openFor);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.infobip.mobile.messaging.mobileapi.common;
+
+import org.infobip.mobile.messaging.api.support.ApiBackendException;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+
+/**
+ * Thrown instead of sending a request while circuit of the endpoint is open, it is reported as any other backend error
+ *
+ * @since 17/10/2026.
+ */
+public class CircuitBreakerOpenException extends ApiBackendException {
+    public CircuitBreakerOpenException(String endpoint) {
+        super(DefaultApiClient.ErrorCode.UNKNOWN_API_BACKEND_ERROR.getValue(), "Backend is unavailable, request to " + endpoint + " is not sent");
+    }
+}
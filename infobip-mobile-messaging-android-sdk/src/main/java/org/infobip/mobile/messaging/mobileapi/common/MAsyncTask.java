@@ -2,6 +2,8 @@ package org.infobip.mobile.messaging.mobileapi.common;
 
 import android.annotation.SuppressLint;
 import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 
 import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
@@ -13,10 +15,12 @@ import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunica
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunicationExceptionWithContent;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterException;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterExceptionWithContent;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Wrapper object over native AsyncTask
@@ -81,13 +85,14 @@ public abstract class MAsyncTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
     };
 
     /**
-     * Starts execution of background task
+     * Starts execution of background task on the shared SDK executor.
+     * If the executor rejects the task, error callbacks are called on the main thread with {@link RejectedExecutionException}.
      *
      * @param ins input parametes
      */
     @SuppressWarnings({"unused", "unchecked"})
     public void execute(IN... ins) {
-        asyncTask.execute(ins);
+        execute(SdkExecutor.getInstance(), ins);
     }
 
     /**
@@ -98,7 +103,15 @@ public abstract class MAsyncTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
      */
     @SuppressWarnings({"unused", "unchecked"})
     public void execute(Executor executor, IN... ins) {
-        asyncTask.executeOnExecutor(executor, ins);
+        try {
+            asyncTask.executeOnExecutor(executor, ins);
+        } catch (RejectedExecutionException e) {
+            MobileMessagingLogger.w("Background task rejected: " + e.getMessage());
+            new Handler(Looper.getMainLooper()).post(() -> {
+                error(e);
+                error(ins, e);
+            });
+        }
     }
 
     // region private methods
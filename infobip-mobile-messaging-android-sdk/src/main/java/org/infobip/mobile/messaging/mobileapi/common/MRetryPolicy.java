@@ -5,6 +5,8 @@ import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunica
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author sslavin
@@ -17,19 +19,42 @@ public class MRetryPolicy {
 
     private int maxRetries = 1;
     private int backoffMultiplier = 0;
+    private long maxBackoffMillis = TimeUnit.MINUTES.toMillis(5);
+
     private MRetryPolicy() {
         errorsToRetryOn.add(BackendCommunicationException.class);
     }
 
     boolean shouldRetry(Throwable error, int attemptsDone) {
+        return attemptsDone < maxRetries && isRetryable(error);
+    }
+
+    boolean isRetryable(Throwable error) {
         for (Class cls : errorsToRetryOn) {
-            if (cls.isInstance(error) && attemptsDone < maxRetries) {
+            if (cls.isInstance(error)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Exponential backoff capped at max backoff, randomized between half and full value
+     * so that clients which failed together do not retry together
+     *
+     * @param attempt number of the retry, starting from 1
+     * @return delay before the retry
+     */
+    long getRetryDelayMillis(int attempt) {
+        if (backoffMultiplier <= 0) {
+            return 0;
+        }
+
+        long backoff = TimeUnit.SECONDS.toMillis(backoffMultiplier) << Math.min(attempt, 20);
+        long cappedBackoff = Math.min(backoff, maxBackoffMillis);
+        return ThreadLocalRandom.current().nextLong(cappedBackoff / 2, cappedBackoff + 1);
+    }
+
     public int getMaxRetries() {
         return maxRetries;
     }
@@ -38,6 +63,10 @@ public class MRetryPolicy {
         return backoffMultiplier;
     }
 
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
     public Set<Class<? extends Throwable>> getErrorsToRetryOn() {
         return errorsToRetryOn;
     }
@@ -56,6 +85,11 @@ public class MRetryPolicy {
             return this;
         }
 
+        public Builder withMaxBackoffMillis(long maxBackoffMillis) {
+            retryPolicy.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
         @SafeVarargs
         public final Builder withRetryOn(Class<? extends Throwable>... errorsTypes) {
             retryPolicy.errorsToRetryOn.clear();
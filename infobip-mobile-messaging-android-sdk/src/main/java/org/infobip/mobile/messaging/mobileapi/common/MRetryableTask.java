@@ -1,21 +1,36 @@
 package org.infobip.mobile.messaging.mobileapi.common;
 
-import android.os.Handler;
-import android.os.Looper;
 import androidx.annotation.Nullable;
 
+import org.infobip.mobile.messaging.api.support.ApiIOException;
+import org.infobip.mobile.messaging.api.support.http.HttpRequest;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.SdkScheduler;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
+ * Background task which is retried on failure according to {@link MRetryPolicy}.
+ * <br>
+ * Retries are delayed with capped exponential backoff with jitter, or as long as the server requested with
+ * {@code Retry-After}. Tasks calling the same endpoint, identified by HTTP method and path template
+ * (see {@link #endpointKey(Class, String)}), share a {@link CircuitBreaker}:
+ * while it is open requests fail without being sent and are not retried, so work stays stored until the next sync.
+ * Retries wait on {@link SdkScheduler} and not on the main looper. Tasks rejected by a full executor queue fail without retry.
+ *
  * @author sslavin
  * @since 23/07/2017.
  */
 
 public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
 
-    private final Handler handler = new Handler(Looper.getMainLooper());
+    public static final String RETRY_WORK_PREFIX = "retry:";
 
+    private final String endpointKey;
     private volatile ExecutionContext executionContext;
     private MRetryPolicy retryPolicy;
 
@@ -36,6 +51,63 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
         }
     }
 
+    /**
+     * Creates task with its own circuit breaker
+     */
+    public MRetryableTask() {
+        this(null);
+    }
+
+    /**
+     * @param endpointKey key of the endpoint which the task calls, usually created with {@link #endpointKey(Class, String)}
+     */
+    public MRetryableTask(@Nullable String endpointKey) {
+        this.endpointKey = endpointKey;
+    }
+
+    /**
+     * Creates endpoint key from HTTP method and path template of the API method, e.g. {@code "POST /mobile/{version}/messages/seen"}
+     *
+     * @param api            mobile API interface
+     * @param methodName     name of the API method
+     * @param parameterTypes parameter types of the API method, required only if the method is overloaded
+     * @return endpoint key
+     * @throws IllegalArgumentException if API has no such method annotated with {@link HttpRequest} or method is ambiguous
+     */
+    public static String endpointKey(Class<?> api, String methodName, Class<?>... parameterTypes) {
+        Method apiMethod = null;
+        for (Method method : api.getMethods()) {
+            if (!method.getName().equals(methodName) || method.getAnnotation(HttpRequest.class) == null) {
+                continue;
+            }
+            if (parameterTypes.length > 0 && !Arrays.equals(parameterTypes, method.getParameterTypes())) {
+                continue;
+            }
+            if (apiMethod != null) {
+                throw new IllegalArgumentException("Ambiguous HTTP request " + methodName + " in " + api.getName());
+            }
+            apiMethod = method;
+        }
+        if (apiMethod == null) {
+            throw new IllegalArgumentException("No HTTP request " + methodName + " in " + api.getName());
+        }
+
+        HttpRequest httpRequest = apiMethod.getAnnotation(HttpRequest.class);
+        HttpRequest apiHttpRequest = api.getAnnotation(HttpRequest.class);
+        String path = apiHttpRequest != null ? apiHttpRequest.value() : "";
+        if (!httpRequest.value().isEmpty()) {
+            path = path.isEmpty() ? httpRequest.value() : path + "/" + httpRequest.value();
+        }
+        return httpRequest.method() + " " + path;
+    }
+
+    /**
+     * @return key of the endpoint which the task calls, tasks with the same key share a circuit breaker
+     */
+    protected String getEndpointKey() {
+        return endpointKey != null ? endpointKey : getClass().getName();
+    }
+
     /**
      * Specifies policy to use when performing retries
      *
@@ -79,6 +151,9 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
 
             @Override
             public OUT run(IN[] ins) {
+                if (!circuitBreaker().allowRequest()) {
+                    throw new CircuitBreakerOpenException(circuitBreaker().getEndpoint());
+                }
                 return MRetryableTask.this.run(ins);
             }
 
@@ -89,12 +164,14 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
 
             @Override
             public void after(OUT out) {
+                circuitBreaker().onSuccess();
                 MRetryableTask.this.after(out);
             }
 
             @Override
             public void error(Throwable error) {
-                if (!executionContext.retryPolicy.shouldRetry(error, executionContext.attempts)) {
+                long retryDelayMillis = recordError(error);
+                if (retryDelayMillis < 0) {
                     MRetryableTask.this.error(error);
                     MRetryableTask.this.error(executionContext.args, error);
                     executionContext = null;
@@ -102,12 +179,12 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
                 }
 
                 executionContext.attempts++;
-                handler.postDelayed(new Runnable() {
+                SdkScheduler.getInstance().schedule(RETRY_WORK_PREFIX + getEndpointKey(), new Runnable() {
                     @Override
                     public void run() {
                         MRetryableTask.this.execute();
                     }
-                }, TimeUnit.SECONDS.toMillis(executionContext.attempts * executionContext.attempts * executionContext.retryPolicy.getBackoffMultiplier()));
+                }, retryDelayMillis);
             }
 
             @Override
@@ -122,4 +199,56 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
             asyncTask.execute(executionContext.args);
         }
     }
+
+    private CircuitBreaker circuitBreaker() {
+        return CircuitBreaker.forEndpoint(getEndpointKey());
+    }
+
+    /**
+     * Records the error in the circuit breaker and decides on the retry
+     *
+     * @return delay before the retry or -1 if the task should not be retried
+     */
+    private long recordError(Throwable error) {
+        if (error instanceof RejectedExecutionException) {
+            return -1;
+        }
+
+        ApiIOException apiError = findApiError(error);
+        if (apiError instanceof CircuitBreakerOpenException) {
+            return -1;
+        }
+
+        MRetryPolicy retryPolicy = executionContext.retryPolicy;
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        long retryAfterMillis = apiError != null ? apiError.getRetryAfterMillis() : -1;
+        if (retryPolicy.isRetryable(error)) {
+            circuitBreaker.onFailure(retryAfterMillis);
+        } else if (apiError != null && !DefaultApiClient.ErrorCode.API_IO_ERROR.getValue().equals(apiError.getCode())) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onNoResponse();
+        }
+
+        if (!retryPolicy.shouldRetry(error, executionContext.attempts)) {
+            return -1;
+        }
+
+        long retryDelayMillis = Math.max(retryPolicy.getRetryDelayMillis(executionContext.attempts + 1), retryAfterMillis);
+        if (retryDelayMillis > retryPolicy.getMaxBackoffMillis() || circuitBreaker.getRemainingOpenMillis() > retryDelayMillis) {
+            MobileMessagingLogger.d("Not retrying " + circuitBreaker.getEndpoint() + ", backend is unavailable");
+            return -1;
+        }
+        return retryDelayMillis;
+    }
+
+    @Nullable
+    private static ApiIOException findApiError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiIOException) {
+                return (ApiIOException) cause;
+            }
+        }
+        return null;
+    }
 }
@@ -25,6 +25,8 @@ import java.util.concurrent.Executor;
 
 public class UserEventsSynchronizer {
 
+    private static final String SESSION_REPORT_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "sendUserSessionReport");
+
     private final MobileMessagingCore mobileMessagingCore;
     private final Broadcaster broadcaster;
     private final MobileApiAppInstance mobileApiAppInstance;
@@ -72,7 +74,7 @@ public class UserEventsSynchronizer {
             return;
         }
 
-        new MRetryableTask<Void, Void>() {
+        new MRetryableTask<Void, Void>(SESSION_REPORT_ENDPOINT) {
 
             @Override
             public Void run(Void[] voids) {
@@ -172,36 +174,44 @@ public class UserEventsSynchronizer {
             return;
         }
 
-        batchReporter.put(new Runnable() {
+        batchReporter.put(new BatchReporter.BatchHandler() {
+            @Override
+            public void report(String[] storedEvents) {
+                reportCustomEvents(storedEvents);
+            }
+        }, mobileMessagingCore.getStoredUserCustomEvents());
+    }
+
+    private void reportCustomEvents(final String[] storedEvents) {
+        new MAsyncTask<Void, Void>() {
+
             @Override
-            public void run() {
-                new MAsyncTask<Void, Void>() {
-
-                    @Override
-                    public Void run(Void[] voids) {
-                        final UserCustomEventBody userCustomEventBody = new UserCustomEventBody(mobileMessagingCore.getUnreportedUserCustomEvents());
-                        MobileMessagingLogger.v("CUSTOM EVENT REPORT >>>", userCustomEventBody);
-                        mobileApiAppInstance.sendUserCustomEvents(mobileMessagingCore.getPushRegistrationId(), false, userCustomEventBody);
-                        return null;
-                    }
-
-                    @Override
-                    public void after(Void aVoid) {
-                        MobileMessagingLogger.v("CUSTOM EVENT REPORT DONE <<<");
-                        mobileMessagingCore.setUserCustomEventsReported();
-                        broadcaster.customEventsReported();
-                    }
-
-                    @Override
-                    public void error(Throwable error) {
-                        MobileMessagingLogger.v("CUSTOM EVENT REPORT ERROR <<<", error);
-                        MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
-                        mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
-                        broadcaster.error(mobileMessagingError);
-                    }
-
-                }.execute(executor);
+            public Void run(Void[] voids) {
+                UserCustomEventBody.CustomEvent[] customEvents = new UserCustomEventBody.CustomEvent[storedEvents.length];
+                for (int i = 0; i < storedEvents.length; i++) {
+                    customEvents[i] = UserEventsRequestMapper.fromJson(storedEvents[i]);
+                }
+                final UserCustomEventBody userCustomEventBody = new UserCustomEventBody(customEvents);
+                MobileMessagingLogger.v("CUSTOM EVENT REPORT >>>", userCustomEventBody);
+                mobileApiAppInstance.sendUserCustomEvents(mobileMessagingCore.getPushRegistrationId(), false, userCustomEventBody);
+                return null;
             }
-        });
+
+            @Override
+            public void after(Void aVoid) {
+                MobileMessagingLogger.v("CUSTOM EVENT REPORT DONE <<<");
+                mobileMessagingCore.setUserCustomEventsReported(storedEvents);
+                broadcaster.customEventsReported();
+            }
+
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.v("CUSTOM EVENT REPORT ERROR <<<", error);
+                MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+                mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
+                broadcaster.error(mobileMessagingError);
+            }
+
+        }.execute(executor);
     }
 }
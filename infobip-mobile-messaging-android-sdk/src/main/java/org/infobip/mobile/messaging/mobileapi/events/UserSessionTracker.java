@@ -1,54 +1,62 @@
 package org.infobip.mobile.messaging.mobileapi.events;
 
 import android.content.Context;
-import android.os.Handler;
 import androidx.annotation.NonNull;
 
 import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.app.ActivityLifecycleMonitor;
+import org.infobip.mobile.messaging.platform.SdkScheduler;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 
+import java.util.concurrent.ScheduledFuture;
+
 public class UserSessionTracker {
 
     public static final String SESSION_BOUNDS_DELIMITER = "___";
+    public static final String SESSION_TRACKING_WORK = "session-tracking";
     private static final int sessionTimeoutMillis = 1000 * 30;
     private static final int sessionAlarmIntervalMillis = 1000 * 5;
-    private static Runnable sessionTrackingRunnable;
-    // Handler object is created on the main thread by default
-    private static final Handler handler = new Handler();
+    private static ScheduledFuture<?> sessionTracking;
 
-    public static void startSessionTracking(Context context) {
-        sessionTrackingRunnable = getSessionTrackingRunnable(context);
+    public static synchronized void startSessionTracking(Context context) {
+        if (!ActivityLifecycleMonitor.isForeground()) {
+            cancelSessionTracking();
+            return;
+        }
 
-        if (ActivityLifecycleMonitor.isForeground()) {
-            handler.post(sessionTrackingRunnable);
-        } else {
-            handler.removeCallbacks(sessionTrackingRunnable);
+        if (sessionTracking == null || sessionTracking.isDone()) {
+            // periodic work runs on SDK scheduler thread so it does not wake up the main looper
+            sessionTracking = SdkScheduler.getInstance().scheduleWithFixedDelay(SESSION_TRACKING_WORK,
+                    getSessionTrackingRunnable(context.getApplicationContext()), 0, sessionAlarmIntervalMillis);
         }
     }
 
-    public static void stopSessionTracking(Context context) {
-        if (sessionTrackingRunnable != null) {
-            handler.removeCallbacks(sessionTrackingRunnable);
-            sessionTrackingRunnable = null;
-        }
+    public static synchronized void stopSessionTracking(Context context) {
+        cancelSessionTracking();
         saveActiveSessionEndTime(context, Time.now());
     }
 
+    private static void cancelSessionTracking() {
+        if (sessionTracking != null) {
+            sessionTracking.cancel(false);
+            sessionTracking = null;
+        }
+    }
+
     @NonNull
     private static Runnable getSessionTrackingRunnable(final Context context) {
-        if (sessionTrackingRunnable != null) return sessionTrackingRunnable;
-        else return new Runnable() {
+        return new Runnable() {
             @Override
             public void run() {
                 if (ActivityLifecycleMonitor.isBackground()) {
                     saveActiveSessionEndTime(context, Time.now());
-                    handler.removeCallbacks(this);
+                    synchronized (UserSessionTracker.class) {
+                        cancelSessionTracking();
+                    }
                 } else {
-                    trackCurrentSession(context.getApplicationContext());
-                    handler.postDelayed(this, UserSessionTracker.sessionAlarmIntervalMillis);
+                    trackCurrentSession(context);
                 }
             }
         };
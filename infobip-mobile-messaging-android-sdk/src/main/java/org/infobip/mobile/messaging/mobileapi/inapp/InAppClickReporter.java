@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 
 public class InAppClickReporter {
+    private static final String CLICK_URL_ENDPOINT = "GET {clickUrl}";
+
     private final MobileMessagingCore mobileMessagingCore;
     private final MobileMessagingStats stats;
     private final Executor executor;
@@ -52,14 +54,19 @@ public class InAppClickReporter {
             return;
         }
 
-        batchReporter.put(() -> new MRetryableTask<Void, String[]>() {
+        batchReporter.put(this::reportClicks, unreportedInAppClickIds);
+    }
+
+    private void reportClicks(final String[] batch) {
+        new MRetryableTask<Void, String[]>(CLICK_URL_ENDPOINT) {
             @Override
             public String[] run(Void[] voids) {
                 if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
                     MobileMessagingLogger.w("Push reg ID wasn't fetched upon the click!");
                 }
 
-                String[] clickActions = mobileMessagingCore.getUnreportedInAppClickActions();
+                // batch might have been reported meanwhile by previous task
+                String[] clickActions = mobileMessagingCore.retainUnreportedInAppClickActions(batch);
                 if (clickActions.length == 0) {
                     return clickActions;
                 }
@@ -89,7 +96,7 @@ public class InAppClickReporter {
             }
         }
                 .retryWith(retryPolicy)
-                .execute(executor));
+                .execute(executor);
     }
 
     private @NonNull Map<String, String> getHeaders(String[] payload) {
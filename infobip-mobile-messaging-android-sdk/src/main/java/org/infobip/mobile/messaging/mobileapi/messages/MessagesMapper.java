@@ -3,6 +3,7 @@ package org.infobip.mobile.messaging.mobileapi.messages;
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.api.messages.MessageResponse;
 import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
+import org.infobip.mobile.messaging.dal.json.ParsedInternalData;
 import org.infobip.mobile.messaging.platform.Time;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -41,7 +42,7 @@ class MessagesMapper {
             e.printStackTrace();
         }
 
-        final String internalData = response.getInternalData();
+        final ParsedInternalData internalData = ParsedInternalData.parse(response.getInternalData());
         Message message = new Message(
                 response.getMessageId(),
                 response.getTitle(),
@@ -54,23 +55,24 @@ class MessagesMapper {
                 null,
                 Time.now(),
                 0,
-                InternalDataMapper.getInternalDataSendDateTime(internalData),
+                internalData.getSendDateTime(),
                 customPayload,
-                internalData,
+                internalData.getJson(),
                 null,
                 Message.Status.UNKNOWN,
                 null,
-                InternalDataMapper.getInternalDataContentUrl(internalData),
-                InternalDataMapper.getInternalDataInAppStyle(internalData),
-                InternalDataMapper.getInternalDataInAppExpiryDateTime(internalData),
-                InternalDataMapper.getInternalDataWebViewUrl(internalData),
-                InternalDataMapper.getInternalDataBrowserUrl(internalData),
-                InternalDataMapper.getInternalDataMessageType(internalData),
-                InternalDataMapper.getInternalDataDeeplinkUri(internalData),
-                InternalDataMapper.getInternalDataInAppOpenTitle(internalData),
-                InternalDataMapper.getInternalDataInAppDismissTitle(internalData)
+                internalData.getContentUrl(),
+                internalData.getInAppStyle(),
+                internalData.getInAppExpiryDateTime(),
+                internalData.getWebViewUrl(),
+                internalData.getBrowserUrl(),
+                internalData.getMessageType(),
+                internalData.getDeeplink(),
+                internalData.getInAppOpenTitle(),
+                internalData.getInAppDismissTitle()
         );
 
+        message.setParsedInternalData(internalData);
         InternalDataMapper.updateMessageWithInternalData(message, internalData);
         return message;
     }
@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class MessagesSynchronizer {
 
+    private static final String SYNC_ENDPOINT = MRetryableTask.endpointKey(MobileApiMessages.class, "sync");
     private static final long SYNC_MSGS_THROTTLE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(1);
 
     private final MobileMessagingCore mobileMessagingCore;
@@ -69,7 +70,7 @@ public class MessagesSynchronizer {
         }
         lastSyncTimeMillis = Time.now();
 
-        new MRetryableTask<Void, List<Message>>() {
+        new MRetryableTask<Void, List<Message>>(SYNC_ENDPOINT) {
             @Override
             public List<Message> run(Void[] objects) {
                 String[] messageIds = mobileMessagingCore.getSyncMessagesIds();
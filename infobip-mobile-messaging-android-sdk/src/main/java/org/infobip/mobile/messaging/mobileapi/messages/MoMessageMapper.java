@@ -6,7 +6,7 @@ import org.infobip.mobile.messaging.api.messages.MoMessageDelivery;
 import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
 import org.infobip.mobile.messaging.api.messages.MoMessagesResponse;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
-import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
+import org.infobip.mobile.messaging.dal.json.ParsedInternalData;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.platform.Time;
 import org.json.JSONObject;
@@ -59,8 +59,8 @@ public class MoMessageMapper {
         for (Message message : messages) {
             String customPayloadString = message.getCustomPayload() != null ? message.getCustomPayload().toString() : null;
             Map customPayloadMap = serializer.deserialize(customPayloadString, Map.class);
-            String internalData = message.getInternalData();
-            moMessages.add(new MoMessage(message.getMessageId(), message.getDestination(), message.getBody(), InternalDataMapper.getInternalDataInitialMessageId(internalData), InternalDataMapper.getInternalDataBulkId(internalData), customPayloadMap));
+            ParsedInternalData internalData = message.getParsedInternalData();
+            moMessages.add(new MoMessage(message.getMessageId(), message.getDestination(), message.getBody(), internalData.getInitialMessageId(), internalData.getBulkId(), customPayloadMap));
         }
 
         MoMessagesBody moMessagesBody = new MoMessagesBody();
@@ -123,10 +123,19 @@ public class MoMessageSender {
     }
 
     public void sendWithRetry(Message... messages) {
-        saveMessages(messages);
+        saveForRetry(messages);
         sync();
     }
 
+    /**
+     * Stores messages to be sent with retry on next sync
+     *
+     * @return stored messages in serialized form, outdated messages are not stored
+     */
+    public String[] saveForRetry(Message... messages) {
+        return saveMessages(messages);
+    }
+
     public void sync() {
         Message[] messages = getAndRemoveMessages();
         if (messages.length == 0) {
@@ -149,9 +158,10 @@ public class MoMessageSender {
         .execute(executor, messages);
     }
 
-    private void saveMessages(Message... messages) {
+    private String[] saveMessages(Message... messages) {
         String[] jsons = messagesToJson(excludeOutdatedMessages(messages));
         PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES, jsons);
+        return jsons;
     }
 
     private Message[] getAndRemoveMessages() {
@@ -50,46 +50,51 @@ public class SeenStatusReporter {
             return;
         }
 
-        batchReporter.put(new Runnable() {
+        batchReporter.put(new BatchReporter.BatchHandler() {
             @Override
-            public void run() {
-                new MAsyncTask<Void, String[]>() {
-                    @Override
-                    public String[] run(Void[] voids) {
+            public void report(String[] messageIds) {
+                reportSeen(messageIds);
+            }
+        }, unreportedSeenMessageIds);
+    }
+
+    private void reportSeen(final String[] batch) {
+        new MAsyncTask<Void, String[]>() {
+            @Override
+            public String[] run(Void[] voids) {
 
-                        if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
-                            MobileMessagingLogger.w("Can't report seen status without valid registration");
-                            throw InternalSdkError.NO_VALID_REGISTRATION.getException();
-                        }
+                if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
+                    MobileMessagingLogger.w("Can't report seen status without valid registration");
+                    throw InternalSdkError.NO_VALID_REGISTRATION.getException();
+                }
 
-                        String[] messageIDs = mobileMessagingCore.getUnreportedSeenMessageIds();
-                        if (messageIDs.length == 0) {
-                            return messageIDs;
-                        }
+                // batch might have been reported meanwhile by previous task
+                String[] messageIDs = mobileMessagingCore.retainUnreportedSeenMessageIds(batch);
+                if (messageIDs.length == 0) {
+                    return messageIDs;
+                }
 
-                        SeenMessages seenMessages = SeenMessagesMapper.fromMessageIds(messageIDs);
-                        MobileMessagingLogger.v("SEEN >>>", seenMessages);
-                        mobileApiMessages.reportSeen(seenMessages);
-                        MobileMessagingLogger.v("SEEN DONE <<<");
-                        mobileMessagingCore.removeUnreportedSeenMessageIds(messageIDs);
-                        return messageIDs;
-                    }
+                SeenMessages seenMessages = SeenMessagesMapper.fromMessageIds(messageIDs);
+                MobileMessagingLogger.v("SEEN >>>", seenMessages);
+                mobileApiMessages.reportSeen(seenMessages);
+                MobileMessagingLogger.v("SEEN DONE <<<");
+                mobileMessagingCore.removeUnreportedSeenMessageIds(messageIDs);
+                return messageIDs;
+            }
 
-                    @Override
-                    public void after(String[] messageIdsWithTimestamp) {
-                        String[] seenMessageIdsFromReports = mobileMessagingCore.getSeenMessageIdsFromReports(messageIdsWithTimestamp).toArray(new String[0]);
-                        broadcaster.seenStatusReported(seenMessageIdsFromReports);
-                    }
+            @Override
+            public void after(String[] messageIdsWithTimestamp) {
+                String[] seenMessageIdsFromReports = mobileMessagingCore.getSeenMessageIdsFromReports(messageIdsWithTimestamp).toArray(new String[0]);
+                broadcaster.seenStatusReported(seenMessageIdsFromReports);
+            }
 
-                    @Override
-                    public void error(Throwable error) {
-                        MobileMessagingLogger.e("Error reporting seen status!");
-                        stats.reportError(MobileMessagingStatsError.SEEN_REPORTING_ERROR);
-                        broadcaster.error(MobileMessagingError.createFrom(error));
-                    }
-                }
-                .execute(executor);
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.e("Error reporting seen status!");
+                stats.reportError(MobileMessagingStatsError.SEEN_REPORTING_ERROR);
+                broadcaster.error(MobileMessagingError.createFrom(error));
             }
-        });
+        }
+        .execute(executor);
     }
 }
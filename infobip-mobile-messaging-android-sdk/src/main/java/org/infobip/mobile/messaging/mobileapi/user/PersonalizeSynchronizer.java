@@ -23,6 +23,10 @@ import java.util.concurrent.Executor;
 
 public class PersonalizeSynchronizer {
 
+    private static final String PERSONALIZE_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "personalize");
+    private static final String DEPERSONALIZE_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "depersonalize");
+    private static final String REPERSONALIZE_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "repersonalize");
+
     private final MobileMessagingCore mobileMessagingCore;
     private final Broadcaster broadcaster;
     private final MobileApiAppInstance mobileApiAppInstance;
@@ -64,7 +68,7 @@ public class PersonalizeSynchronizer {
             userPersonalizeBody.setUserAttributes(userAttributes.getMap());
         }
 
-        new MRetryableTask<UserPersonalizeBody, Void>() {
+        new MRetryableTask<UserPersonalizeBody, Void>(PERSONALIZE_ENDPOINT) {
 
             @Override
             public Void run(UserPersonalizeBody[] userPersonalizeBodies) {
@@ -108,47 +112,53 @@ public class PersonalizeSynchronizer {
     }
 
     public void depersonalize() {
-        batchReporter.put(new Runnable() {
+        batchReporter.put(new BatchReporter.BatchHandler() {
             @Override
-            public void run() {
-                new MRetryableTask<String, Void>() {
-
-                    @Override
-                    public Void run(String[] pushRegIds) {
-                        MobileMessagingLogger.v("DEPERSONALIZE >>>");
-                        mobileApiAppInstance.depersonalize(pushRegIds[0]);
-                        return null;
-                    }
-
-                    @Override
-                    public void before() {
-                        serverListener.onServerDepersonalizeStarted();
-                    }
-
-                    @Override
-                    public void after(Void aVoid) {
-                        MobileMessagingLogger.v("DEPERSONALIZE DONE <<<");
-                        serverListener.onServerDepersonalizeCompleted();
-                        broadcaster.depersonalized();
-                    }
-
-                    @Override
-                    public void error(Throwable error) {
-                        MobileMessagingLogger.v("DEPERSONALIZE ERROR <<<", error);
-                        MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
-                        serverListener.onServerDepersonalizeFailed(error);
-                        broadcaster.error(mobileMessagingError);
-                        mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
-                    }
+            public void report(String[] pushRegIds) {
+                for (String pushRegId : pushRegIds) {
+                    depersonalizeOnServer(pushRegId);
                 }
-                        .retryWith(policy)
-                        .execute(executor, mobileMessagingCore.getPushRegistrationId());
             }
-        });
+        }, mobileMessagingCore.getPushRegistrationId());
+    }
+
+    private void depersonalizeOnServer(String pushRegId) {
+        new MRetryableTask<String, Void>(DEPERSONALIZE_ENDPOINT) {
+
+            @Override
+            public Void run(String[] pushRegIds) {
+                MobileMessagingLogger.v("DEPERSONALIZE >>>");
+                mobileApiAppInstance.depersonalize(pushRegIds[0]);
+                return null;
+            }
+
+            @Override
+            public void before() {
+                serverListener.onServerDepersonalizeStarted();
+            }
+
+            @Override
+            public void after(Void aVoid) {
+                MobileMessagingLogger.v("DEPERSONALIZE DONE <<<");
+                serverListener.onServerDepersonalizeCompleted();
+                broadcaster.depersonalized();
+            }
+
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.v("DEPERSONALIZE ERROR <<<", error);
+                MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+                serverListener.onServerDepersonalizeFailed(error);
+                broadcaster.error(mobileMessagingError);
+                mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
+            }
+        }
+                .retryWith(policy)
+                .execute(executor, pushRegId);
     }
 
     public void depersonalize(String unreportedDepersonalizedPushRegId, final DepersonalizeActionListener actionListener) {
-        new MRetryableTask<String, Void>() {
+        new MRetryableTask<String, Void>(DEPERSONALIZE_ENDPOINT) {
 
             @Override
             public Void run(String[] pushRegIds) {
@@ -221,7 +231,7 @@ public class PersonalizeSynchronizer {
             return;
         }
 
-        new MRetryableTask<UserPersonalizeBody, Void>() {
+        new MRetryableTask<UserPersonalizeBody, Void>(REPERSONALIZE_ENDPOINT) {
 
             @Override
             public Void run(UserPersonalizeBody[] userPersonalizeBodies) {
@@ -31,6 +31,9 @@ import static org.infobip.mobile.messaging.UserMapper.filterOutDeletedData;
 @SuppressWarnings("unchecked")
 public class UserDataReporter {
 
+    private static final String PATCH_USER_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "patchUser");
+    private static final String GET_USER_ENDPOINT = MRetryableTask.endpointKey(MobileApiAppInstance.class, "getUser");
+
     private final Executor executor;
     private final Broadcaster broadcaster;
     private final MobileMessagingCore mobileMessagingCore;
@@ -69,7 +72,7 @@ public class UserDataReporter {
             return;
         }
 
-        new MRetryableTask<User, Void>() {
+        new MRetryableTask<User, Void>(PATCH_USER_ENDPOINT) {
 
             @Override
             public Void run(User[] userData) {
@@ -132,7 +135,7 @@ public class UserDataReporter {
             return;
         }
 
-        new MRetryableTask<Void, UserBody>() {
+        new MRetryableTask<Void, UserBody>(GET_USER_ENDPOINT) {
             @Override
             public UserBody run(Void[] aVoid) {
                 MobileMessagingLogger.v("FETCHING USER DATA >>>");
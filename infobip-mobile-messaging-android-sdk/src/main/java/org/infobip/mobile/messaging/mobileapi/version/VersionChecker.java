@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 
 public class VersionChecker {
 
+    private static final String LATEST_RELEASE_ENDPOINT = MRetryableTask.endpointKey(MobileApiVersion.class, "getLatestRelease");
     private static final String TAG = VersionChecker.class.getSimpleName();
 
     private final Context context;
@@ -52,7 +53,7 @@ public class VersionChecker {
             return;
         }
 
-        new MRetryableTask<Void, VersionCheckResult>() {
+        new MRetryableTask<Void, VersionCheckResult>(LATEST_RELEASE_ENDPOINT) {
             @Override
             public VersionCheckResult run(Void[] voids) {
                 MobileMessagingLogger.v("VERSION >>>");
@@ -0,0 +1,318 @@
+package org.infobip.mobile.messaging.platform;
+
+import androidx.annotation.NonNull;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor of SDK background work shared by all synchronizers.
+ * <br>
+ * Work runs one task at a time on a named low priority thread, as it did on the registration aligned executor:
+ * work submitted after registration runs after it and never at the same time. The worker picks waiting work
+ * by {@link Priority} and then in the order it was submitted, so user facing work does not wait behind analytics
+ * and work of the same priority keeps its order.
+ * <br>
+ * Waiting work of each priority is bounded: when it is full, new work of that priority is rejected with
+ * {@link RejectedExecutionException}. Tasks handle the rejection as a failure, so synchronizers put back what they
+ * took from storage and send it with the next sync. Queue depth, wait and run times are available
+ * with {@link #getMetrics(Priority)}.
+ *
+ * @since 17/10/2026.
+ */
+public class SdkExecutor extends ThreadPoolExecutor {
+
+    public enum Priority {
+        /**
+         * Work with callbacks to the application or work which other requests depend on
+         */
+        USER_FACING,
+        DEFAULT,
+        /**
+         * Reports of user activity which are stored until sent
+         */
+        ANALYTICS
+    }
+
+    public static final String THREAD_NAME = "mm-executor";
+    public static final int DEFAULT_CAPACITY = 256;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static SdkExecutor instance;
+
+    private final int capacity;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Priority, Executor> executors = new EnumMap<>(Priority.class);
+    private final Map<Priority, PriorityMetrics> metrics = new EnumMap<>(Priority.class);
+
+    /**
+     * Snapshot of executor metrics for one priority
+     */
+    public static class Metrics {
+        private final int queueDepth;
+        private final long submitted;
+        private final long completed;
+        private final long dropped;
+        private final long averageWaitMillis;
+        private final long maxWaitMillis;
+        private final long averageRunMillis;
+
+        Metrics(int queueDepth, long submitted, long completed, long dropped, long averageWaitMillis, long maxWaitMillis, long averageRunMillis) {
+            this.queueDepth = queueDepth;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.dropped = dropped;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+            this.averageRunMillis = averageRunMillis;
+        }
+
+        /**
+         * @return number of tasks waiting to run
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * @return number of tasks rejected because the queue was full
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        /**
+         * @return average time tasks spent in the queue before they started
+         */
+        public long getAverageWaitMillis() {
+            return averageWaitMillis;
+        }
+
+        public long getMaxWaitMillis() {
+            return maxWaitMillis;
+        }
+
+        public long getAverageRunMillis() {
+            return averageRunMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "queued=" + queueDepth + ", submitted=" + submitted + ", completed=" + completed + ", dropped=" + dropped +
+                    ", avgWait=" + averageWaitMillis + "ms, maxWait=" + maxWaitMillis + "ms, avgRun=" + averageRunMillis + "ms";
+        }
+    }
+
+    private static class PriorityMetrics {
+        final AtomicInteger queueDepth = new AtomicInteger();
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong started = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicLong totalWaitNanos = new AtomicLong();
+        final AtomicLong maxWaitNanos = new AtomicLong();
+        final AtomicLong totalRunNanos = new AtomicLong();
+    }
+
+    private static class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        final Priority priority;
+        final long sequence;
+        final Runnable runnable;
+        final long enqueuedAtNanos = System.nanoTime();
+        long startedAtNanos;
+
+        PrioritizedTask(Priority priority, long sequence, Runnable runnable) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        @Override
+        public int compareTo(@NonNull PrioritizedTask other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * @param capacity maximum number of waiting tasks of each priority
+     */
+    SdkExecutor(int capacity, ThreadFactory threadFactory) {
+        super(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new PriorityBlockingQueue<Runnable>(), threadFactory);
+        allowCoreThreadTimeOut(true);
+        this.capacity = capacity;
+        for (final Priority priority : Priority.values()) {
+            metrics.put(priority, new PriorityMetrics());
+            executors.put(priority, new Executor() {
+                @Override
+                public void execute(@NonNull Runnable command) {
+                    SdkExecutor.this.execute(priority, command);
+                }
+            });
+        }
+    }
+
+    public static synchronized SdkExecutor getInstance() {
+        if (instance == null) {
+            instance = new SdkExecutor(DEFAULT_CAPACITY, newThreadFactory(THREAD_NAME));
+        }
+        return instance;
+    }
+
+    /**
+     * @param priority priority of work
+     * @return executor which runs all work with the given priority
+     */
+    public Executor forPriority(Priority priority) {
+        return executors.get(priority);
+    }
+
+    /**
+     * Runs the work with default priority
+     */
+    @Override
+    public void execute(@NonNull Runnable command) {
+        execute(Priority.DEFAULT, command);
+    }
+
+    /**
+     * Runs the work after waiting work of higher priority and work of the same priority submitted before
+     *
+     * @param priority priority of work
+     * @param command  work
+     * @throws RejectedExecutionException if too much work of the priority is waiting or the executor is shut down
+     */
+    public void execute(Priority priority, Runnable command) {
+        PriorityMetrics priorityMetrics = metrics.get(priority);
+        priorityMetrics.submitted.incrementAndGet();
+        try {
+            if (priorityMetrics.queueDepth.incrementAndGet() > capacity) {
+                throw new RejectedExecutionException("Too much " + priority + " work is waiting");
+            }
+            super.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), command));
+        } catch (RejectedExecutionException e) {
+            priorityMetrics.queueDepth.decrementAndGet();
+            priorityMetrics.dropped.incrementAndGet();
+            MobileMessagingLogger.w("Background queue is full, rejected " + priority + " work, it will be done on next sync");
+            throw e;
+        }
+    }
+
+    /**
+     * @param priority priority of work
+     * @return snapshot of metrics of work with the given priority
+     */
+    public Metrics getMetrics(Priority priority) {
+        PriorityMetrics m = metrics.get(priority);
+        long started = m.started.get();
+        long completed = m.completed.get();
+        return new Metrics(
+                m.queueDepth.get(),
+                m.submitted.get(),
+                completed,
+                m.dropped.get(),
+                started > 0 ? TimeUnit.NANOSECONDS.toMillis(m.totalWaitNanos.get() / started) : 0,
+                TimeUnit.NANOSECONDS.toMillis(m.maxWaitNanos.get()),
+                completed > 0 ? TimeUnit.NANOSECONDS.toMillis(m.totalRunNanos.get() / completed) : 0);
+    }
+
+    /**
+     * @return number of tasks of all priorities waiting to run
+     */
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        if (!(runnable instanceof PrioritizedTask)) {
+            return;
+        }
+
+        PrioritizedTask task = (PrioritizedTask) runnable;
+        task.startedAtNanos = System.nanoTime();
+        long waitNanos = task.startedAtNanos - task.enqueuedAtNanos;
+        PriorityMetrics m = metrics.get(task.priority);
+        m.queueDepth.decrementAndGet();
+        m.started.incrementAndGet();
+        m.totalWaitNanos.addAndGet(waitNanos);
+        long maxWaitNanos;
+        do {
+            maxWaitNanos = m.maxWaitNanos.get();
+        } while (waitNanos > maxWaitNanos && !m.maxWaitNanos.compareAndSet(maxWaitNanos, waitNanos));
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        if (!(runnable instanceof PrioritizedTask)) {
+            return;
+        }
+
+        PrioritizedTask task = (PrioritizedTask) runnable;
+        PriorityMetrics m = metrics.get(task.priority);
+        m.totalRunNanos.addAndGet(System.nanoTime() - task.startedAtNanos);
+        m.completed.incrementAndGet();
+        if (throwable != null) {
+            MobileMessagingLogger.e("Background work failed", throwable);
+        }
+    }
+
+    /**
+     * @param name name of the thread
+     * @return executor which runs work one task at a time on its own low priority thread, the thread stops when idle
+     */
+    public static ExecutorService newSerialExecutor(String name) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), newThreadFactory(name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @param name name of threads
+     * @return factory of named low priority daemon threads for SDK work
+     */
+    static ThreadFactory newThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull final Runnable runnable) {
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        android.os.Process.setThreadPriority(android.os.Process.THREAD_PRIORITY_BACKGROUND);
+                        runnable.run();
+                    }
+                }, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
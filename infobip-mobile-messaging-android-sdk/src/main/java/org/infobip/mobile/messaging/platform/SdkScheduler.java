@@ -0,0 +1,161 @@
+package org.infobip.mobile.messaging.platform;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background scheduler of delayed and periodic SDK work, such as retries, batch reports and session tracking.
+ * <br>
+ * All such work runs on one low priority daemon thread, so it does not wake up the main looper which
+ * is reserved for UI. Pending work can be inspected with {@link #getPendingWork()}, it is listed under the name
+ * it was scheduled with or under the class name of its runnable.
+ *
+ * @since 17/10/2026.
+ */
+public class SdkScheduler extends ScheduledThreadPoolExecutor {
+
+    public static final String THREAD_NAME = "mm-scheduler";
+
+    private static SdkScheduler instance;
+
+    private final Map<Runnable, String> names = Collections.synchronizedMap(new WeakHashMap<Runnable, String>());
+
+    /**
+     * Work which waits in the scheduler
+     */
+    public static class PendingWork {
+        private final String name;
+        private final long delayMillis;
+        private final boolean periodic;
+
+        PendingWork(String name, long delayMillis, boolean periodic) {
+            this.name = name;
+            this.delayMillis = delayMillis;
+            this.periodic = periodic;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return time until the next run, negative if the run is overdue
+         */
+        public long getDelayMillis() {
+            return delayMillis;
+        }
+
+        public boolean isPeriodic() {
+            return periodic;
+        }
+
+        @Override
+        public String toString() {
+            return name + (periodic ? " (periodic)" : "") + " in " + delayMillis + "ms";
+        }
+    }
+
+    private static class NamedRunnable implements Runnable {
+        private final String name;
+        private final Runnable runnable;
+
+        NamedRunnable(String name, Runnable runnable) {
+            this.name = name;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                // exception would silently cancel periodic work
+                MobileMessagingLogger.e("Scheduled work " + name + " failed", e);
+            }
+        }
+    }
+
+    SdkScheduler() {
+        super(1, SdkExecutor.newThreadFactory(THREAD_NAME));
+        setRemoveOnCancelPolicy(true);
+    }
+
+    public static synchronized SdkScheduler getInstance() {
+        if (instance == null) {
+            instance = new SdkScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Runs the work once after the delay
+     *
+     * @param name        name under which the work is listed in pending work
+     * @param work        work to run
+     * @param delayMillis delay
+     * @return future to cancel the work
+     */
+    public ScheduledFuture<?> schedule(String name, Runnable work, long delayMillis) {
+        return schedule(new NamedRunnable(name, work), Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the work repeatedly until cancelled, failure of one run does not stop next runs
+     *
+     * @param name               name under which the work is listed in pending work
+     * @param work               work to run
+     * @param initialDelayMillis delay before the first run
+     * @param delayMillis        delay between the end of one run and start of the next one
+     * @return future to cancel the work
+     */
+    public ScheduledFuture<?> scheduleWithFixedDelay(String name, Runnable work, long initialDelayMillis, long delayMillis) {
+        return scheduleWithFixedDelay(new NamedRunnable(name, work), Math.max(0, initialDelayMillis), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return work waiting for its next run, ordered by time of the run
+     */
+    public List<PendingWork> getPendingWork() {
+        List<PendingWork> pendingWork = new ArrayList<>();
+        for (Runnable task : getQueue().toArray(new Runnable[0])) {
+            if (!(task instanceof RunnableScheduledFuture)) {
+                continue;
+            }
+            RunnableScheduledFuture<?> future = (RunnableScheduledFuture<?>) task;
+            if (future.isDone()) {
+                continue;
+            }
+            pendingWork.add(new PendingWork(names.get(task), future.getDelay(TimeUnit.MILLISECONDS), future.isPeriodic()));
+        }
+        Collections.sort(pendingWork, (left, right) -> Long.compare(left.delayMillis, right.delayMillis));
+        return pendingWork;
+    }
+
+    /**
+     * @param name name of the work
+     * @return true if work with the name waits for its run
+     */
+    public boolean hasPendingWork(String name) {
+        for (PendingWork work : getPendingWork()) {
+            if (name.equals(work.name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        names.put(task, runnable instanceof NamedRunnable ? ((NamedRunnable) runnable).name : runnable.getClass().getName());
+        return task;
+    }
+}
@@ -0,0 +1,521 @@
+package org.infobip.mobile.messaging.storage;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Query over stored messages with conditions, ordering, limit/offset and keyset pagination.
+ * <br>
+ * Queries are immutable, each method returns a new query.
+ * SQLite based stores translate the query to SQL which uses indexes on message columns,
+ * other stores evaluate it over {@link MessageStore#findAll(Context)}.
+ * <pre>
+ * {@code
+ * MessageQuery firstPage = MessageQuery.all()
+ *         .where(MessageQuery.Field.SEEN_TIMESTAMP, MessageQuery.Operator.EQUAL, 0)
+ *         .orderBy(MessageQuery.Field.RECEIVED_TIMESTAMP, MessageQuery.Order.DESC)
+ *         .limit(20);
+ * List<Message> messages = messageStore.find(context, firstPage);
+ * List<Message> nextPage = messageStore.find(context, firstPage.after(messages.get(messages.size() - 1)));
+ *
+ * List<Message> expiredInApps = messageStore.find(context, MessageQuery.all()
+ *         .where(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Operator.GREATER_THAN, 0)
+ *         .where(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Operator.LESS_THAN, System.currentTimeMillis()));
+ * }
+ * </pre>
+ *
+ * @see MessageStore#find(Context, MessageQuery)
+ */
+public class MessageQuery {
+
+    public enum Field {
+        MESSAGE_ID(MessageColumns.MESSAGE_ID, true),
+        RECEIVED_TIMESTAMP(MessageColumns.RECEIVED_TIMESTAMP, true),
+        SEEN_TIMESTAMP(MessageColumns.SEEN_TIMESTAMP, true),
+        STATUS(MessageColumns.STATUS, false),
+        CATEGORY(MessageColumns.CATEGORY, false),
+        SENT_TIMESTAMP(MessageColumns.SENT_TIMESTAMP, true),
+        IN_APP_EXPIRY_TIMESTAMP(MessageColumns.IN_APP_EXPIRY_TIMESTAMP, true),
+        BULK_ID(MessageColumns.BULK_ID, false),
+        MESSAGE_TYPE(MessageColumns.MESSAGE_TYPE, false);
+
+        private final String column;
+        private final boolean sortable;
+
+        Field(String column, boolean sortable) {
+            this.column = column;
+            this.sortable = sortable;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        Object valueOf(Message message) {
+            switch (this) {
+                case MESSAGE_ID:
+                    return message.getMessageId();
+                case RECEIVED_TIMESTAMP:
+                    return message.getReceivedTimestamp();
+                case SEEN_TIMESTAMP:
+                    return message.getSeenTimestamp();
+                case STATUS:
+                    return message.getStatus() != null ? message.getStatus().name() : null;
+                case CATEGORY:
+                    return message.getCategory();
+                case SENT_TIMESTAMP:
+                    return message.getSentTimestamp();
+                case IN_APP_EXPIRY_TIMESTAMP:
+                    return message.getInAppExpiryTimestamp();
+                case BULK_ID:
+                    return message.getParsedInternalData().getBulkId();
+                case MESSAGE_TYPE:
+                    return message.getMessageType();
+                default:
+                    return null;
+            }
+        }
+    }
+
+    public enum Operator {
+        EQUAL("="),
+        NOT_EQUAL("<>"),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUAL("<="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUAL(">="),
+        IN("IN");
+
+        private final String sql;
+
+        Operator(String sql) {
+            this.sql = sql;
+        }
+
+        boolean test(int comparison) {
+            switch (this) {
+                case EQUAL:
+                case IN:
+                    return comparison == 0;
+                case NOT_EQUAL:
+                    return comparison != 0;
+                case LESS_THAN:
+                    return comparison < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return comparison <= 0;
+                case GREATER_THAN:
+                    return comparison > 0;
+                case GREATER_THAN_OR_EQUAL:
+                    return comparison >= 0;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    public enum Order {
+        ASC,
+        DESC
+    }
+
+    /**
+     * Maximum number of bound arguments in one SQLite statement (SQLITE_MAX_VARIABLE_NUMBER).
+     */
+    static final int MAX_SELECTION_ARGS = 999;
+
+    private static final MessageQuery ALL = new MessageQuery(Collections.<Condition>emptyList(), Field.MESSAGE_ID, Order.ASC, null, null, 0, 0);
+
+    private final List<Condition> conditions;
+    private final Field orderField;
+    private final Order order;
+    private final Object afterValue;
+    private final String afterMessageId;
+    private final int limit;
+    private final int offset;
+
+    private MessageQuery(List<Condition> conditions, Field orderField, Order order, Object afterValue, String afterMessageId, int limit, int offset) {
+        this.conditions = conditions;
+        this.orderField = orderField;
+        this.order = order;
+        this.afterValue = afterValue;
+        this.afterMessageId = afterMessageId;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * @return query that matches all messages ordered by message id
+     */
+    public static MessageQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Adds condition, all conditions of a query must match.
+     * Messages with {@code null} in the field never match.
+     *
+     * @param field    message field
+     * @param operator comparison operator, use {@link #whereIn(Field, Collection)} for {@link Operator#IN}
+     * @param value    value to compare with; {@link Message.Status} for {@link Field#STATUS}, numbers for timestamps
+     */
+    public MessageQuery where(@NonNull Field field, @NonNull Operator operator, @NonNull Object value) {
+        if (operator == Operator.IN) {
+            return whereIn(field, Collections.singletonList(value));
+        }
+        List<Condition> newConditions = new ArrayList<>(conditions);
+        newConditions.add(new Condition(field, operator, Collections.singletonList(normalize(value))));
+        return new MessageQuery(newConditions, orderField, order, afterValue, afterMessageId, limit, offset);
+    }
+
+    /**
+     * Adds condition that field is equal to one of the values.
+     */
+    public MessageQuery whereIn(@NonNull Field field, @NonNull Collection<?> values) {
+        List<Object> normalized = new ArrayList<>(values.size());
+        for (Object value : values) {
+            normalized.add(normalize(value));
+        }
+        List<Condition> newConditions = new ArrayList<>(conditions);
+        newConditions.add(new Condition(field, Operator.IN, normalized));
+        return new MessageQuery(newConditions, orderField, order, afterValue, afterMessageId, limit, offset);
+    }
+
+    /**
+     * Sets ordering of results. Message id is always used as a tie breaker.
+     *
+     * @param field one of {@link Field#MESSAGE_ID}, {@link Field#RECEIVED_TIMESTAMP}, {@link Field#SEEN_TIMESTAMP},
+     *              {@link Field#SENT_TIMESTAMP}, {@link Field#IN_APP_EXPIRY_TIMESTAMP}
+     */
+    public MessageQuery orderBy(@NonNull Field field, @NonNull Order order) {
+        if (!field.sortable) {
+            throw new IllegalArgumentException("Cannot order messages by " + field);
+        }
+        return new MessageQuery(conditions, field, order, null, null, limit, offset);
+    }
+
+    /**
+     * Continues the query right after the provided message in the current ordering (keyset pagination).
+     * Unlike {@link #offset(int)} it does not need to skip rows and stays stable when messages are added.
+     *
+     * @param lastMessage last message of the previous page
+     */
+    public MessageQuery after(@NonNull Message lastMessage) {
+        return new MessageQuery(conditions, orderField, order, orderField.valueOf(lastMessage), lastMessage.getMessageId(), limit, offset);
+    }
+
+    /**
+     * @param limit maximum number of messages to return, 0 for no limit
+     */
+    public MessageQuery limit(int limit) {
+        return new MessageQuery(conditions, orderField, order, afterValue, afterMessageId, limit, offset);
+    }
+
+    /**
+     * @param offset number of messages to skip
+     */
+    public MessageQuery offset(int offset) {
+        return new MessageQuery(conditions, orderField, order, afterValue, afterMessageId, limit, offset);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return SQL WHERE clause without the keyword or null if query has no conditions
+     */
+    public String getSelection() {
+        StringBuilder sb = new StringBuilder();
+        for (Condition condition : conditions) {
+            appendAnd(sb).append(condition.field.column).append(' ').append(condition.operator.sql).append(' ');
+            if (condition.operator == Operator.IN) {
+                sb.append('(');
+                for (int i = 0; i < condition.values.size(); i++) {
+                    sb.append(i > 0 ? ",?" : "?");
+                }
+                sb.append(')');
+            } else {
+                sb.append('?');
+            }
+        }
+
+        if (afterMessageId != null) {
+            String comparison = order == Order.ASC ? " > ?" : " < ?";
+            String column = orderField.column;
+            appendAnd(sb);
+            if (orderField == Field.MESSAGE_ID) {
+                sb.append(MessageColumns.MESSAGE_ID).append(comparison);
+            } else if (afterValue == null) {
+                // SQLite sorts NULL first in ascending and last in descending order
+                sb.append("((").append(column).append(" IS NULL AND ").append(MessageColumns.MESSAGE_ID).append(comparison).append(')');
+                sb.append(order == Order.ASC ? " OR " + column + " IS NOT NULL)" : ")");
+            } else {
+                sb.append('(').append(column).append(comparison)
+                        .append(" OR (").append(column).append(" = ? AND ")
+                        .append(MessageColumns.MESSAGE_ID).append(comparison).append(')');
+                sb.append(order == Order.DESC ? " OR " + column + " IS NULL)" : ")");
+            }
+        }
+        return sb.length() > 0 ? sb.toString() : null;
+    }
+
+    /**
+     * @return arguments for placeholders in {@link #getSelection()}
+     */
+    public String[] getSelectionArgs() {
+        List<String> args = new ArrayList<>();
+        for (Condition condition : conditions) {
+            for (Object value : condition.values) {
+                args.add(String.valueOf(value));
+            }
+        }
+
+        if (afterMessageId != null) {
+            if (orderField != Field.MESSAGE_ID && afterValue != null) {
+                args.add(String.valueOf(afterValue));
+                args.add(String.valueOf(afterValue));
+            }
+            args.add(afterMessageId);
+        }
+        return args.toArray(new String[0]);
+    }
+
+    /**
+     * @return SQL ORDER BY clause without the keyword
+     */
+    public String getOrderBy() {
+        if (orderField == Field.MESSAGE_ID) {
+            return MessageColumns.MESSAGE_ID + " " + order.name();
+        }
+        return orderField.column + " " + order.name() + ", " + MessageColumns.MESSAGE_ID + " " + order.name();
+    }
+
+    /**
+     * Evaluates query over messages in memory, used for message stores without native query support.
+     *
+     * @param messages all messages
+     * @return matching messages in query order
+     */
+    public List<Message> apply(@NonNull List<Message> messages) {
+        List<Message> result = new ArrayList<>();
+        for (Message message : messages) {
+            if (matches(message)) {
+                result.add(message);
+            }
+        }
+        return page(result);
+    }
+
+    /**
+     * Splits the query so that each part binds at most {@value #MAX_SELECTION_ARGS} arguments.
+     * The largest {@link Operator#IN} condition is split into disjoint parts, each part keeps all other conditions
+     * and returns up to {@code offset + limit} messages without offset.
+     * Results of all parts have to be merged with {@link #page(List)}.
+     *
+     * @return this query if it fits into one statement, otherwise its parts
+     */
+    public List<MessageQuery> chunks() {
+        int argsCount = getSelectionArgs().length;
+        if (argsCount <= MAX_SELECTION_ARGS) {
+            return Collections.singletonList(this);
+        }
+
+        Condition largest = null;
+        for (Condition condition : conditions) {
+            if (condition.operator == Operator.IN && (largest == null || condition.values.size() > largest.values.size())) {
+                largest = condition;
+            }
+        }
+        int chunkSize = largest != null ? MAX_SELECTION_ARGS - (argsCount - largest.values.size()) : 0;
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Query binds too many arguments: " + argsCount);
+        }
+
+        List<Object> values = new ArrayList<>(new LinkedHashSet<>(largest.values));
+        int chunkLimit = limit > 0 ? offset + limit : 0;
+        List<MessageQuery> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += chunkSize) {
+            List<Condition> chunkConditions = new ArrayList<>(conditions);
+            List<Object> chunkValues = values.subList(from, Math.min(from + chunkSize, values.size()));
+            chunkConditions.set(conditions.indexOf(largest), new Condition(largest.field, Operator.IN, chunkValues));
+            chunks.add(new MessageQuery(chunkConditions, orderField, order, afterValue, afterMessageId, chunkLimit, 0));
+        }
+        return chunks;
+    }
+
+    /**
+     * Orders messages already matching the query and applies limit and offset, used to merge results of {@link #chunks()}.
+     *
+     * @param messages matching messages
+     * @return messages in query order
+     */
+    public List<Message> page(@NonNull List<Message> messages) {
+        List<Message> result = new ArrayList<>(messages);
+        Collections.sort(result, comparator());
+
+        int from = Math.min(offset, result.size());
+        int to = limit > 0 ? Math.min(from + limit, result.size()) : result.size();
+        return new ArrayList<>(result.subList(from, to));
+    }
+
+    /**
+     * Iterates over all matching messages loading at most {@code pageSize} messages at a time.
+     *
+     * @param context  current context
+     * @param store    message store to query
+     * @param pageSize number of messages to load with each query
+     */
+    public Iterable<Message> iterate(@NonNull final Context context, @NonNull final MessageStore store, final int pageSize) {
+        if (pageSize <= 0 || limit > 0 || offset > 0) {
+            throw new IllegalArgumentException("Iteration requires positive page size and query without limit and offset");
+        }
+        return new Iterable<Message>() {
+            @NonNull
+            @Override
+            public Iterator<Message> iterator() {
+                return new PageIterator(context, store, limit(pageSize), pageSize);
+            }
+        };
+    }
+
+    boolean matches(Message message) {
+        for (Condition condition : conditions) {
+            if (!condition.matches(message)) {
+                return false;
+            }
+        }
+
+        if (afterMessageId != null) {
+            int comparison = compareForOrder(message, afterValue, afterMessageId);
+            return order == Order.ASC ? comparison > 0 : comparison < 0;
+        }
+        return true;
+    }
+
+    private Comparator<Message> comparator() {
+        return new Comparator<Message>() {
+            @Override
+            public int compare(Message m1, Message m2) {
+                int comparison = compareForOrder(m1, orderField.valueOf(m2), m2.getMessageId());
+                return order == Order.ASC ? comparison : -comparison;
+            }
+        };
+    }
+
+    private int compareForOrder(Message message, Object value, String messageId) {
+        int comparison = compareValues(orderField.valueOf(message), value);
+        return comparison != 0 ? comparison : compareValues(message.getMessageId(), messageId);
+    }
+
+    private static StringBuilder appendAnd(StringBuilder sb) {
+        return sb.length() > 0 ? sb.append(" AND ") : sb;
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Message.Status) {
+            return ((Message.Status) value).name();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return String.valueOf(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object v1, Object v2) {
+        if (v1 == null || v2 == null) {
+            return v1 == v2 ? 0 : (v1 == null ? -1 : 1);
+        }
+        if (v1.getClass() != v2.getClass()) {
+            return String.valueOf(v1).compareTo(String.valueOf(v2));
+        }
+        return ((Comparable<Object>) v1).compareTo(v2);
+    }
+
+    private static class Condition {
+        final Field field;
+        final Operator operator;
+        final List<Object> values;
+
+        Condition(Field field, Operator operator, List<Object> values) {
+            this.field = field;
+            this.operator = operator;
+            this.values = values;
+        }
+
+        boolean matches(Message message) {
+            Object messageValue = field.valueOf(message);
+            if (messageValue == null) {
+                return false;
+            }
+            for (Object value : values) {
+                if (operator.test(compareValues(messageValue, value))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class PageIterator implements Iterator<Message> {
+        private final Context context;
+        private final MessageStore store;
+        private final int pageSize;
+        private MessageQuery query;
+        private List<Message> page;
+        private int index;
+
+        PageIterator(Context context, MessageStore store, MessageQuery query, int pageSize) {
+            this.context = context;
+            this.store = store;
+            this.query = query;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page == null) {
+                page = store.find(context, query);
+            } else if (index >= page.size() && page.size() == pageSize) {
+                query = query.after(page.get(page.size() - 1));
+                page = store.find(context, query);
+                index = 0;
+            }
+            return index < page.size();
+        }
+
+        @Override
+        public Message next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageQuery{selection=" + getSelection() + ", orderBy=" + getOrderBy() + ", limit=" + limit + ", offset=" + offset + "}";
+    }
+}
@@ -35,6 +35,20 @@ public interface MessageStore {
      */
     List<Message> findAll(Context context);
 
+    /**
+     * Finds stored messages matching the query
+     * <br>
+     * Default implementation evaluates the query over {@link #findAll(Context)},
+     * stores with native query support should override it.
+     *
+     * @param context current context
+     * @param query   conditions, ordering and page of messages to find
+     * @return matching messages in query order
+     */
+    default List<Message> find(Context context, MessageQuery query) {
+        return query.apply(findAll(context));
+    }
+
     /**
      * Counts all stored messages
      *
@@ -50,6 +64,19 @@ public interface MessageStore {
      */
     void save(Context context, Message... messages);
 
+    /**
+     * Saves or replaces multiple messages in the store at once.
+     * <br>
+     * Used by the SDK whenever several messages are stored together, e.g. after messages synchronization.
+     * Stores that support transactions should override it to save all messages in a single transaction.
+     *
+     * @param context current context
+     * @param messages messages to save
+     */
+    default void upsertAll(Context context, Message... messages) {
+        save(context, messages);
+    }
+
     /**
      * Deletes all stored messages
      * <br>
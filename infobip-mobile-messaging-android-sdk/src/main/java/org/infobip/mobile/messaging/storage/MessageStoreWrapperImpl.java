@@ -50,6 +50,6 @@ public class MessageStoreWrapperImpl implements MessageStoreWrapper {
             return;
         }
 
-        messageStore.save(context, messages);
+        messageStore.upsertAll(context, messages);
     }
 }
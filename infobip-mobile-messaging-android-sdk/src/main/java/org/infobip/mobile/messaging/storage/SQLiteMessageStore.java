@@ -1,10 +1,11 @@
 package org.infobip.mobile.messaging.storage;
 
 import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.CursorList;
 import org.infobip.mobile.messaging.dal.sqlite.SqliteMessage;
 
 import java.util.ArrayList;
@@ -31,16 +32,60 @@ import java.util.List;
 public class SQLiteMessageStore implements MessageStore {
 
     public void save(Context context, Message... messages) {
-        DatabaseHelper helper = MobileMessagingCore.getDatabaseHelper(context);
+        upsertAll(context, messages);
+    }
+
+    @Override
+    public void upsertAll(Context context, Message... messages) {
+        List<SqliteMessage> sqliteMessages = new ArrayList<>(messages.length);
         for (Message message : messages) {
-            helper.save(new SqliteMessage(message));
+            sqliteMessages.add(new SqliteMessage(message));
         }
+        MobileMessagingCore.getDatabaseHelper(context).saveAll(sqliteMessages);
     }
 
     public List<Message> findAll(Context context) {
         return new ArrayList<Message>(MobileMessagingCore.getDatabaseHelper(context).findAll(SqliteMessage.class));
     }
 
+    @Override
+    public List<Message> find(Context context, MessageQuery query) {
+        List<Message> messages = new ArrayList<>();
+        List<MessageQuery> chunks = query.chunks();
+        for (MessageQuery chunk : chunks) {
+            messages.addAll(MobileMessagingCore.getDatabaseHelper(context).query(SqliteMessage.class,
+                    chunk.getSelection(), chunk.getSelectionArgs(), chunk.getOrderBy(), chunk.getLimit(), chunk.getOffset()));
+        }
+        return chunks.size() > 1 ? query.page(messages) : messages;
+    }
+
+    /**
+     * Finds messages matching the query without loading them all into memory.
+     * Messages are read from the database when accessed, the list must be closed when no longer needed.
+     * <pre>
+     * {@code
+     * CursorList<Message> messages = messageStore.findLazily(context, MessageQuery.all()
+     *         .orderBy(MessageQuery.Field.RECEIVED_TIMESTAMP, MessageQuery.Order.DESC));
+     * // use messages in adapter, close when replaced or activity is destroyed
+     * messages.close();
+     * }
+     * </pre>
+     *
+     * @param context current context
+     * @param query   conditions and ordering of messages
+     * @return lazy list of messages
+     * @throws IllegalArgumentException if the query binds more arguments than SQLite supports in one statement
+     */
+    @SuppressWarnings("unchecked")
+    public CursorList<Message> findLazily(Context context, MessageQuery query) {
+        if (query.chunks().size() > 1) {
+            throw new IllegalArgumentException("Query is too large to be read lazily: " + query);
+        }
+        // read-only list of SqliteMessage objects can be safely used as list of messages
+        return (CursorList<Message>) (CursorList<? extends Message>) MobileMessagingCore.getDatabaseHelper(context).queryLazily(SqliteMessage.class,
+                query.getSelection(), query.getSelectionArgs(), query.getOrderBy(), query.getLimit(), query.getOffset());
+    }
+
     public Message findById(Context context, String messageId) {
         return MobileMessagingCore.getDatabaseHelper(context).find(SqliteMessage.class, messageId);
     }
@@ -56,4 +101,28 @@ public class SQLiteMessageStore implements MessageStore {
     public void deleteById(Context context, String messageId) {
         MobileMessagingCore.getDatabaseHelper(context).delete(SqliteMessage.class, messageId);
     }
-}
\ No newline at end of file
+
+    public void deleteByIds(Context context, String[] messageIds) {
+        MobileMessagingCore.getDatabaseHelper(context).delete(SqliteMessage.class, messageIds);
+    }
+
+    /**
+     * Deletes messages by ids and saves provided messages in one transaction,
+     * used when message ids (primary keys) change.
+     *
+     * @param context       current context
+     * @param oldMessageIds ids of messages to delete
+     * @param messages      messages to save
+     */
+    public void replace(Context context, String[] oldMessageIds, Message... messages) {
+        SQLiteDatabase db = MobileMessagingCore.getDatabaseProvider(context).getDatabase();
+        db.beginTransactionNonExclusive();
+        try {
+            deleteByIds(context, oldMessageIds);
+            upsertAll(context, messages);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class CryptorImpl extends Cryptor {
     private static final String AES_ALGO = "AES/CBC/PKCS7PADDING";
     private Key key = null;
     private IvParameterSpec ivSpec = null;
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
 
     public CryptorImpl(@NonNull String keySecret) {
         byte[] keyBytes = keySecret.getBytes();
@@ -66,22 +68,29 @@ public class CryptorImpl extends Cryptor {
     }
 
     private byte[] encodeAES128(byte[] data) {
-        try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
-            return cipher.doFinal(data);
-        } catch (Exception e) {
-            MobileMessagingLogger.d(Log.getStackTraceString(e));
-            return null;
-        }
+        return doFinal(encryptCipher, Cipher.ENCRYPT_MODE, data);
     }
 
     private byte[] decodeAES128(byte[] data) {
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, data);
+    }
+
+    /**
+     * Runs the cipher initialized once per thread. Key and IV do not change, and the cipher returns
+     * to its initialized state after {@link Cipher#doFinal(byte[])}, so it is reused for the next operation.
+     */
+    private byte[] doFinal(ThreadLocal<Cipher> threadCipher, int mode, byte[] data) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
+            Cipher cipher = threadCipher.get();
+            if (cipher == null) {
+                cipher = Cipher.getInstance(AES_ALGO);
+                cipher.init(mode, key, ivSpec);
+                threadCipher.set(cipher);
+            }
             return cipher.doFinal(data);
         } catch (Exception e) {
+            // cipher state is undefined after a failure, it will be created again
+            threadCipher.remove();
             MobileMessagingLogger.d(Log.getStackTraceString(e));
             return null;
         }
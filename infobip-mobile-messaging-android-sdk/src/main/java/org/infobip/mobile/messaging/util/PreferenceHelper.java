@@ -10,10 +10,13 @@ import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author mstipanov
@@ -23,7 +26,11 @@ public abstract class PreferenceHelper {
     private static final String MM_PREFS_PREFIX = "org.infobip.mobile.messaging";
     private static final Object LOCK = new Object();
     protected static Cryptor cryptor = null;
+    private static volatile EncryptedKeys encryptedKeys = null;
     private static Boolean usePrivateSharedPrefs = null;
+    private static volatile PropertySnapshot propertySnapshot = null;
+    private static volatile Map<String, MobileMessagingProperty> propertiesByKey = null;
+    private static final List<PropertyChangeListener> propertyChangeListeners = new CopyOnWriteArrayList<>();
 
     protected PreferenceHelper() {
     }
@@ -37,6 +44,108 @@ public abstract class PreferenceHelper {
         return cryptor;
     }
 
+    /**
+     * Encrypts preference key. Keys are encrypted deterministically, so encrypted keys of the current cryptor
+     * are memoized and lookups of encrypted properties do not run the cipher for the key.
+     */
+    private static String encryptKey(Cryptor keyCryptor, String key) {
+        EncryptedKeys keys = encryptedKeys;
+        if (keys == null || keys.cryptor != keyCryptor) {
+            if (keyCryptor != cryptor) {
+                return keyCryptor.encrypt(key);
+            }
+            keys = new EncryptedKeys(keyCryptor);
+            encryptedKeys = keys;
+        }
+
+        String encryptedKey = keys.encryptedKeys.get(key);
+        if (encryptedKey == null) {
+            encryptedKey = keyCryptor.encrypt(key);
+            if (encryptedKey != null) {
+                keys.encryptedKeys.put(key, encryptedKey);
+            }
+        }
+        return encryptedKey;
+    }
+
+    private static class EncryptedKeys {
+        final Cryptor cryptor;
+        final Map<String, String> encryptedKeys = new ConcurrentHashMap<>();
+
+        EncryptedKeys(Cryptor cryptor) {
+            this.cryptor = cryptor;
+        }
+    }
+
+    private static PropertySnapshot propertySnapshot(Context context) {
+        Cryptor currentCryptor = getCryptor(context);
+        PropertySnapshot snapshot = propertySnapshot;
+        if (snapshot == null || snapshot.cryptor != currentCryptor) {
+            snapshot = new PropertySnapshot(currentCryptor);
+            propertySnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops in-memory values of properties, they are read from shared preferences again.
+     * Required only if shared preferences were modified directly and not through this class.
+     */
+    public static void resetPropertySnapshot() {
+        propertySnapshot = null;
+    }
+
+    /**
+     * Updates in-memory value of the property after it was written and notifies listeners
+     */
+    private static void onPropertySaved(Context context, MobileMessagingProperty property, Object value) {
+        propertySnapshot(context).put(property, value);
+        notifyPropertyChanged(property);
+    }
+
+    private static void onPropertyRemoved(Context context, MobileMessagingProperty property) {
+        propertySnapshot(context).invalidate(property);
+        notifyPropertyChanged(property);
+    }
+
+    private static void notifyPropertyChanged(MobileMessagingProperty property) {
+        for (PropertyChangeListener listener : propertyChangeListeners) {
+            listener.onPropertyChanged(property);
+        }
+    }
+
+    /**
+     * Drops in-memory value of the property stored under the key, if any, after it was written by key
+     */
+    private static void invalidateProperty(String key) {
+        PropertySnapshot snapshot = propertySnapshot;
+        if (snapshot == null) {
+            return;
+        }
+
+        Map<String, MobileMessagingProperty> properties = propertiesByKey;
+        if (properties == null) {
+            properties = new HashMap<>();
+            for (MobileMessagingProperty property : MobileMessagingProperty.values()) {
+                properties.put(property.getKey(), property);
+            }
+            propertiesByKey = properties;
+        }
+
+        MobileMessagingProperty property = properties.get(key);
+        if (property != null) {
+            snapshot.invalidate(property);
+        }
+    }
+
+    public static void addPropertyChangeListener(PropertyChangeListener listener) {
+        propertyChangeListeners.add(listener);
+    }
+
+    public static void removePropertyChangeListener(PropertyChangeListener listener) {
+        propertyChangeListeners.remove(listener);
+    }
+
     private static String keySecretForCryptor(Context context) {
         return DeviceInformation.getDeviceID(context);
     }
@@ -60,8 +169,9 @@ public abstract class PreferenceHelper {
         return PreferenceManager.getDefaultSharedPreferences(context);
     }
 
-    public static String findString(Context context, MobileMessagingProperty property) {
-        return findString(context, property.getKey(), (String) property.getDefaultValue(), property.isEncrypted());
+    public static String findString(final Context context, final MobileMessagingProperty property) {
+        return propertySnapshot(context).get(property, String.class,
+                () -> findString(context, property.getKey(), (String) property.getDefaultValue(), property.isEncrypted()));
     }
 
     public static String findString(Context context, String key, String defaultValue) {
@@ -78,13 +188,19 @@ public abstract class PreferenceHelper {
             return sharedPreferences.getString(key, defaultValue);
         }
 
-        String encryptedKey = cryptor.encrypt(key);
+        String encryptedKey = encryptKey(cryptor, key);
         String encryptedValue = sharedPreferences.getString(encryptedKey, defaultValue);
         return cryptor.decrypt(encryptedValue);
     }
 
     public static void saveString(Context context, MobileMessagingProperty property, String value) {
         saveString(context, property.getKey(), value, property.isEncrypted());
+        if (value == null || property.isEncrypted() && StringUtils.isBlank(value)) {
+            // not stored, reads resolve to the default value
+            onPropertyRemoved(context, property);
+        } else {
+            onPropertySaved(context, property, value);
+        }
     }
 
     protected static void saveString(Context context, String key, String value, boolean encrypted) {
@@ -97,9 +213,10 @@ public abstract class PreferenceHelper {
             return;
         }
 
-        String encryptedKey = cryptor.encrypt(key);
+        String encryptedKey = encryptKey(cryptor, key);
         String encryptedValue = cryptor.encrypt(value);
         saveString(context, encryptedKey, encryptedValue);
+        invalidateProperty(key);
     }
 
     public static void saveString(Context context, String key, String value) {
@@ -109,14 +226,17 @@ public abstract class PreferenceHelper {
             return;
         }
         sharedPreferences.edit().putString(key, value).apply();
+        invalidateProperty(key);
     }
 
-    public static long findLong(Context context, MobileMessagingProperty property) {
-        Object defaultValue = property.getDefaultValue();
-        if (null == defaultValue) {
-            defaultValue = 0L;
-        }
-        return findLong(context, property.getKey(), (Long) defaultValue);
+    public static long findLong(final Context context, final MobileMessagingProperty property) {
+        return propertySnapshot(context).get(property, Long.class, () -> {
+            Object defaultValue = property.getDefaultValue();
+            if (null == defaultValue) {
+                defaultValue = 0L;
+            }
+            return findLong(context, property.getKey(), (Long) defaultValue);
+        });
     }
 
     public static long findLong(Context context, String key, long defaultValue) {
@@ -130,11 +250,13 @@ public abstract class PreferenceHelper {
 
     public static void saveLong(Context context, MobileMessagingProperty property, long value) {
         saveLong(context, property.getKey(), value);
+        onPropertySaved(context, property, value);
     }
 
     public static void saveLong(Context context, String key, long value) {
         SharedPreferences sharedPreferences = getDefaultMMSharedPreferences(context);
         sharedPreferences.edit().putString(key, String.valueOf(value)).apply();
+        invalidateProperty(key);
     }
 
     public static <T> Class<T> findClass(Context context, MobileMessagingProperty property) {
@@ -164,8 +286,9 @@ public abstract class PreferenceHelper {
         saveString(context, key, value);
     }
 
-    public static boolean findBoolean(Context context, MobileMessagingProperty property) {
-        return findBoolean(context, property.getKey(), Boolean.TRUE.equals(property.getDefaultValue()));
+    public static boolean findBoolean(final Context context, final MobileMessagingProperty property) {
+        return propertySnapshot(context).get(property, Boolean.class,
+                () -> findBoolean(context, property.getKey(), Boolean.TRUE.equals(property.getDefaultValue())));
     }
 
     public static boolean findBoolean(Context context, String key, boolean defaultValue) {
@@ -180,6 +303,7 @@ public abstract class PreferenceHelper {
 
     public static void saveBoolean(Context context, MobileMessagingProperty property, boolean value) {
         saveBoolean(context, property.getKey(), value, false);
+        onPropertySaved(context, property, value);
     }
 
     public static boolean shouldMigrateToPrivatePrefs(Context context) {
@@ -199,6 +323,7 @@ public abstract class PreferenceHelper {
 
     public static void saveUsePrivateSharedPrefs(Context context, boolean value) {
         usePrivateSharedPrefs = value;
+        resetPropertySnapshot();
         saveBoolean(context, MobileMessagingProperty.USE_PRIVATE_SHARED_PREFS.getKey(), value, true);
     }
 
@@ -212,15 +337,18 @@ public abstract class PreferenceHelper {
         } else {
             getDefaultMMSharedPreferences(context).edit().putBoolean(key, value).apply();
         }
+        invalidateProperty(key);
     }
 
-    public static int findInt(Context context, MobileMessagingProperty property) {
-        Object defaultValue = property.getDefaultValue();
-        int defaultInt = 0;
-        if (null != defaultValue) {
-            defaultInt = (int) defaultValue;
-        }
-        return findInt(context, property.getKey(), defaultInt);
+    public static int findInt(final Context context, final MobileMessagingProperty property) {
+        return propertySnapshot(context).get(property, Integer.class, () -> {
+            Object defaultValue = property.getDefaultValue();
+            int defaultInt = 0;
+            if (null != defaultValue) {
+                defaultInt = (int) defaultValue;
+            }
+            return findInt(context, property.getKey(), defaultInt);
+        });
     }
 
     public static int findInt(Context context, String key, int defaultValue) {
@@ -229,10 +357,12 @@ public abstract class PreferenceHelper {
 
     public static void saveInt(Context context, MobileMessagingProperty property, int value) {
         saveInt(context, property.getKey(), value);
+        onPropertySaved(context, property, value);
     }
 
     public static void saveInt(Context context, String key, int value) {
         getDefaultMMSharedPreferences(context).edit().putInt(key, value).apply();
+        invalidateProperty(key);
     }
 
     @NonNull
@@ -354,12 +484,13 @@ public abstract class PreferenceHelper {
 
     public static void remove(Context context, MobileMessagingProperty property) {
         remove(context, property, getCryptor(context));
+        onPropertyRemoved(context, property);
     }
 
     private static void remove(Context context, MobileMessagingProperty property, Cryptor cryptor) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = cryptor.encrypt(key);
+            key = encryptKey(cryptor, key);
         }
         remove(context, key);
     }
@@ -369,12 +500,13 @@ public abstract class PreferenceHelper {
                 .edit()
                 .remove(key)
                 .apply();
+        invalidateProperty(key);
     }
 
     public static boolean contains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptKey(getCryptor(context), key);
         }
         return contains(context, key);
     }
@@ -386,7 +518,7 @@ public abstract class PreferenceHelper {
     static boolean publicPrefsContains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptKey(getCryptor(context), key);
         }
         return getPublicSharedPreferences(context).contains(key);
     }
@@ -394,7 +526,7 @@ public abstract class PreferenceHelper {
     static boolean privatePrefsContains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptKey(getCryptor(context), key);
         }
         return getPrivateMMSharedPreferences(context).contains(key);
     }
@@ -429,6 +561,7 @@ public abstract class PreferenceHelper {
         }
         publicPrefsEditor.apply();
         privatePrefsEditor.apply();
+        resetPropertySnapshot();
 
         migrateCryptedEntriesFromPublicToPrivatePrefs(context, cryptedProperties());
     }
@@ -436,6 +569,7 @@ public abstract class PreferenceHelper {
     public static void migrateCryptorIfNeeded(Context context, Cryptor oldCryptor) {
         if (oldCryptor != null && shouldMigrateFromCryptor(oldCryptor, context)) {
             migrate(oldCryptor, getCryptor(context), cryptedProperties(), context);
+            resetPropertySnapshot();
         }
     }
 
@@ -473,7 +607,7 @@ public abstract class PreferenceHelper {
     private static void migrateCryptedEntriesFromPublicToPrivatePrefs(Context context, MobileMessagingProperty[] properties) {
         MobileMessagingLogger.d("Migrating preferences from public to private");
         for (MobileMessagingProperty property : properties) {
-            String encryptedKey = getCryptor(context).encrypt(property.getKey());
+            String encryptedKey = encryptKey(getCryptor(context), property.getKey());
             String encryptedValue = getPublicSharedPreferences(context).getString(encryptedKey, (String) property.getDefaultValue());
             saveString(context, encryptedKey, encryptedValue);
             // don't remove required properties to keep backwards compatibility over push reg ID
@@ -490,6 +624,13 @@ public abstract class PreferenceHelper {
         }
     }
 
+    public interface PropertyChangeListener {
+        /**
+         * Called on the writing thread after the property was saved or removed using its {@link MobileMessagingProperty}
+         */
+        void onPropertyChanged(MobileMessagingProperty property);
+    }
+
     public interface SetMutator {
         void mutate(Set<String> set);
     }
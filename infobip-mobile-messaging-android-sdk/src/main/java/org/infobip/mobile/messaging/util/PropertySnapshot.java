@@ -0,0 +1,73 @@
+package org.infobip.mobile.messaging.util;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of property values read through {@link PreferenceHelper}.
+ * <br>
+ * Values are decoded (decrypted, parsed and resolved to property defaults) once when first read and then updated
+ * by writes through {@link PreferenceHelper}, so repeated reads do not touch shared preferences or the cryptor.
+ * Misses and updates are serialized, so a value loaded from shared preferences cannot overwrite a newer write.
+ *
+ * @since 17/10/2026.
+ */
+final class PropertySnapshot {
+
+    interface Loader<T> {
+        T load();
+    }
+
+    private static final Object NULL = new Object();
+
+    final Cryptor cryptor;
+    private final Map<MobileMessagingProperty, Object> values = new ConcurrentHashMap<>();
+
+    PropertySnapshot(Cryptor cryptor) {
+        this.cryptor = cryptor;
+    }
+
+    /**
+     * Returns cached value of the property or loads and caches it if there is no value of the type
+     *
+     * @param property property
+     * @param type     type of the value
+     * @param loader   reads value from shared preferences
+     * @return value of the property
+     */
+    <T> T get(MobileMessagingProperty property, Class<T> type, Loader<T> loader) {
+        Object value = values.get(property);
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (value == NULL && type == String.class) {
+            return null;
+        }
+
+        synchronized (this) {
+            value = values.get(property);
+            if (type.isInstance(value)) {
+                return type.cast(value);
+            }
+            T loaded = loader.load();
+            values.put(property, loaded != null ? loaded : NULL);
+            return loaded;
+        }
+    }
+
+    /**
+     * Updates value of the property, should be called after the value is written to shared preferences
+     */
+    synchronized void put(MobileMessagingProperty property, Object value) {
+        values.put(property, value != null ? value : NULL);
+    }
+
+    /**
+     * Removes value of the property, it will be loaded from shared preferences on next read
+     */
+    synchronized void invalidate(MobileMessagingProperty property) {
+        values.remove(property);
+    }
+}
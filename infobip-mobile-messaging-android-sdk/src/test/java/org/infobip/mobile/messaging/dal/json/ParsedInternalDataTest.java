@@ -0,0 +1,76 @@
+package org.infobip.mobile.messaging.dal.json;
+
+import org.infobip.mobile.messaging.Message;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParsedInternalDataTest {
+
+    private static final String INTERNAL_DATA = "{\"sendDateTime\":1000,\"bulkId\":\"bulk-1\",\"initialMessageId\":\"initial-1\"," +
+            "\"atts\":[{\"url\":\"https://example.com/img1.png\"}],\"inApp\":true," +
+            "\"inAppOpenTitle\":\"Open\",\"inAppDismissTitle\":\"Close\",\"inAppExpiryDateTime\":2000," +
+            "\"deeplink\":\"myapp://orders/1\",\"webViewUrl\":\"https://example.com/web\",\"browserUrl\":\"https://example.com\",\"messageType\":\"mm\"," +
+            "\"silent\":{\"title\":\"Silent\",\"body\":\"Body\",\"sound\":\"default\",\"vibrate\":\"false\",\"category\":\"mm_accept_decline\"}}";
+
+    @Test
+    public void should_return_same_values_as_mapper() {
+        ParsedInternalData internalData = ParsedInternalData.parse(INTERNAL_DATA);
+
+        assertTrue(internalData.hasSilentData());
+        assertEquals(InternalDataMapper.getInternalDataTitle(INTERNAL_DATA), internalData.getTitle());
+        assertEquals(InternalDataMapper.getInternalDataBody(INTERNAL_DATA), internalData.getBody());
+        assertEquals(InternalDataMapper.getInternalDataSound(INTERNAL_DATA), internalData.getSound());
+        assertEquals(InternalDataMapper.getInternalDataVibrate(INTERNAL_DATA, true), internalData.getVibrate(true));
+        assertEquals(InternalDataMapper.getInternalDataCategory(INTERNAL_DATA), internalData.getCategory());
+        assertEquals(InternalDataMapper.getInternalDataContentUrl(INTERNAL_DATA), internalData.getContentUrl());
+        assertEquals(InternalDataMapper.getInternalDataSendDateTime(INTERNAL_DATA), internalData.getSendDateTime());
+        assertEquals(InternalDataMapper.getInternalDataBulkId(INTERNAL_DATA), internalData.getBulkId());
+        assertEquals(InternalDataMapper.getInternalDataInitialMessageId(INTERNAL_DATA), internalData.getInitialMessageId());
+        assertEquals(InternalDataMapper.getInternalDataInAppStyle(INTERNAL_DATA), internalData.getInAppStyle());
+        assertEquals(InternalDataMapper.getInternalDataInAppExpiryDateTime(INTERNAL_DATA), internalData.getInAppExpiryDateTime());
+        assertEquals(InternalDataMapper.getInternalDataWebViewUrl(INTERNAL_DATA), internalData.getWebViewUrl());
+        assertEquals(InternalDataMapper.getInternalDataBrowserUrl(INTERNAL_DATA), internalData.getBrowserUrl());
+        assertEquals(InternalDataMapper.getInternalDataMessageType(INTERNAL_DATA), internalData.getMessageType());
+        assertEquals(InternalDataMapper.getInternalDataDeeplinkUri(INTERNAL_DATA), internalData.getDeeplink());
+        assertEquals(InternalDataMapper.getInternalDataInAppOpenTitle(INTERNAL_DATA), internalData.getInAppOpenTitle());
+        assertEquals(InternalDataMapper.getInternalDataInAppDismissTitle(INTERNAL_DATA), internalData.getInAppDismissTitle());
+        assertEquals(Message.InAppStyle.MODAL, internalData.getInAppStyle());
+        assertFalse(internalData.getVibrate(true));
+    }
+
+    @Test
+    public void should_return_defaults_for_missing_or_invalid_json() {
+        for (String json : new String[]{null, "", "not a json", "{}", "{\"atts\":[]}"}) {
+            ParsedInternalData internalData = ParsedInternalData.parse(json);
+
+            assertFalse(internalData.hasSilentData());
+            assertNull(internalData.getTitle());
+            assertNull(internalData.getContentUrl());
+            assertNull(internalData.getInAppStyle());
+            assertEquals(0, internalData.getSendDateTime());
+            assertTrue(internalData.getVibrate(true));
+        }
+    }
+
+    @Test
+    public void should_parse_message_internal_data_once_until_changed() {
+        Message message = new Message();
+        message.setInternalData(INTERNAL_DATA);
+
+        ParsedInternalData parsed = message.getParsedInternalData();
+
+        assertSame(parsed, message.getParsedInternalData());
+        assertEquals("bulk-1", parsed.getBulkId());
+
+        message.setInternalData("{\"bulkId\":\"bulk-2\"}");
+
+        assertNotSame(parsed, message.getParsedInternalData());
+        assertEquals("bulk-2", message.getParsedInternalData().getBulkId());
+    }
+}
@@ -0,0 +1,114 @@
+package org.infobip.mobile.messaging.mobileapi;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReportQueueTest {
+
+    private ScheduledExecutorService scheduler;
+    private AtomicInteger seenFlushes;
+    private AtomicInteger clickFlushes;
+
+    @Before
+    public void setUp() throws Exception {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        seenFlushes = new AtomicInteger();
+        clickFlushes = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void test_shouldFlushOnceWhenCountLimitIsReached() {
+        ReportQueue reportQueue = givenQueue(200, 1024 * 1024, TimeUnit.HOURS.toMillis(1));
+
+        for (int i = 0; i < 199; i++) {
+            reportQueue.enqueue(ReportQueue.Endpoint.SEEN, "messageId" + i);
+        }
+        assertEquals(0, seenFlushes.get());
+        assertEquals(199, reportQueue.getPendingCount(ReportQueue.Endpoint.SEEN));
+
+        reportQueue.enqueue(ReportQueue.Endpoint.SEEN, "messageId199");
+
+        assertEquals(1, seenFlushes.get());
+        assertEquals(0, clickFlushes.get());
+        assertEquals(0, reportQueue.getPendingCount(ReportQueue.Endpoint.SEEN));
+    }
+
+    @Test
+    public void test_shouldFlushWhenSizeLimitIsReached() {
+        ReportQueue reportQueue = givenQueue(100, 10, TimeUnit.HOURS.toMillis(1));
+
+        reportQueue.enqueue(ReportQueue.Endpoint.IN_APP_CLICK, "12345");
+        assertEquals(5, reportQueue.getPendingBytes(ReportQueue.Endpoint.IN_APP_CLICK));
+        assertEquals(0, clickFlushes.get());
+
+        reportQueue.enqueue(ReportQueue.Endpoint.IN_APP_CLICK, "67890");
+
+        assertEquals(1, clickFlushes.get());
+        assertEquals(0, reportQueue.getPendingBytes(ReportQueue.Endpoint.IN_APP_CLICK));
+    }
+
+    @Test
+    public void test_shouldFlushOnceAfterMaxLatency() throws Exception {
+        final CountDownLatch flushed = new CountDownLatch(1);
+        ReportQueue reportQueue = new ReportQueue(100, 1024 * 1024, 100, scheduler);
+        reportQueue.register(ReportQueue.Endpoint.SEEN, new Runnable() {
+            @Override
+            public void run() {
+                seenFlushes.incrementAndGet();
+                flushed.countDown();
+            }
+        });
+
+        reportQueue.enqueue(ReportQueue.Endpoint.SEEN, "messageId1");
+        reportQueue.enqueue(ReportQueue.Endpoint.SEEN, "messageId2", "messageId3");
+
+        assertTrue(flushed.await(1, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertEquals(1, seenFlushes.get());
+    }
+
+    @Test
+    public void test_shouldCancelScheduledFlushWhenFlushedExplicitly() throws Exception {
+        ReportQueue reportQueue = givenQueue(100, 1024 * 1024, 100);
+
+        reportQueue.enqueue(ReportQueue.Endpoint.SEEN, "messageId1");
+        reportQueue.enqueue(ReportQueue.Endpoint.IN_APP_CLICK, "clickUrl1");
+        reportQueue.flushAll();
+        Thread.sleep(300);
+
+        assertEquals(1, seenFlushes.get());
+        assertEquals(1, clickFlushes.get());
+    }
+
+    private ReportQueue givenQueue(int maxCount, long maxBytes, long maxLatencyMillis) {
+        ReportQueue reportQueue = new ReportQueue(maxCount, maxBytes, maxLatencyMillis, scheduler);
+        reportQueue.register(ReportQueue.Endpoint.SEEN, new Runnable() {
+            @Override
+            public void run() {
+                seenFlushes.incrementAndGet();
+            }
+        });
+        reportQueue.register(ReportQueue.Endpoint.IN_APP_CLICK, new Runnable() {
+            @Override
+            public void run() {
+                clickFlushes.incrementAndGet();
+            }
+        });
+        return reportQueue;
+    }
+}
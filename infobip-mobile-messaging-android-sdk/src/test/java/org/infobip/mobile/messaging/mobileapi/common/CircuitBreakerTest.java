@@ -0,0 +1,119 @@
+package org.infobip.mobile.messaging.mobileapi.common;
+
+import org.infobip.mobile.messaging.platform.SystemTimeProvider;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.platform.TimeProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CircuitBreakerTest {
+
+    private class StubTimeProvider implements TimeProvider {
+
+        private long time = 1000;
+
+        @Override
+        public long now() {
+            return time;
+        }
+
+        private void advance(long millis) {
+            this.time += millis;
+        }
+    }
+
+    private StubTimeProvider timeProvider;
+    private CircuitBreaker circuitBreaker;
+
+    @Before
+    public void setUp() throws Exception {
+        timeProvider = new StubTimeProvider();
+        Time.reset(timeProvider);
+        circuitBreaker = new CircuitBreaker("endpoint");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Time.reset(new SystemTimeProvider());
+        CircuitBreaker.resetAll();
+    }
+
+    @Test
+    public void test_shouldShareCircuitBreakerOfEndpoint() {
+        assertSame(CircuitBreaker.forEndpoint("a"), CircuitBreaker.forEndpoint("a"));
+    }
+
+    @Test
+    public void test_shouldOpenAfterConsecutiveFailures() {
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD - 1; i++) {
+            circuitBreaker.onFailure(-1);
+        }
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.onFailure(-1);
+
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(CircuitBreaker.MIN_OPEN_MILLIS, circuitBreaker.getRemainingOpenMillis());
+    }
+
+    @Test
+    public void test_shouldLetSingleTrialThroughAndCloseOnSuccess() {
+        givenOpenCircuit();
+        timeProvider.advance(CircuitBreaker.MIN_OPEN_MILLIS);
+
+        assertTrue(circuitBreaker.allowRequest());
+        assertFalse(circuitBreaker.allowRequest());
+
+        circuitBreaker.onSuccess();
+
+        assertTrue(circuitBreaker.allowRequest());
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void test_shouldDoubleOpenPeriodWhenTrialFails() {
+        givenOpenCircuit();
+        timeProvider.advance(CircuitBreaker.MIN_OPEN_MILLIS);
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.onFailure(-1);
+
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(2 * CircuitBreaker.MIN_OPEN_MILLIS, circuitBreaker.getRemainingOpenMillis());
+    }
+
+    @Test
+    public void test_shouldStayOpenForRetryAfter() {
+        circuitBreaker.onFailure(120_000);
+
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(120_000, circuitBreaker.getRemainingOpenMillis());
+
+        timeProvider.advance(120_000);
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void test_shouldEndTrialWithoutResponse() {
+        givenOpenCircuit();
+        timeProvider.advance(CircuitBreaker.MIN_OPEN_MILLIS);
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.onNoResponse();
+
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    private void givenOpenCircuit() {
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure(-1);
+        }
+        assertFalse(circuitBreaker.allowRequest());
+    }
+}
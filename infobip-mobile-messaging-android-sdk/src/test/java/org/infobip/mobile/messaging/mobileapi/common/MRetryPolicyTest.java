@@ -0,0 +1,55 @@
+package org.infobip.mobile.messaging.mobileapi.common;
+
+import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunicationException;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MRetryPolicyTest {
+
+    @Test
+    public void test_shouldJitterExponentialBackoff() {
+        MRetryPolicy retryPolicy = new MRetryPolicy.Builder()
+                .withBackoffMultiplier(1)
+                .build();
+
+        for (int attempt = 1; attempt <= 4; attempt++) {
+            long backoff = TimeUnit.SECONDS.toMillis(1) << attempt;
+            for (int i = 0; i < 50; i++) {
+                long delay = retryPolicy.getRetryDelayMillis(attempt);
+                assertTrue(delay >= backoff / 2);
+                assertTrue(delay <= backoff);
+            }
+        }
+    }
+
+    @Test
+    public void test_shouldCapBackoff() {
+        MRetryPolicy retryPolicy = new MRetryPolicy.Builder()
+                .withBackoffMultiplier(1)
+                .withMaxBackoffMillis(10_000)
+                .build();
+
+        for (int i = 0; i < 50; i++) {
+            long delay = retryPolicy.getRetryDelayMillis(30);
+            assertTrue(delay >= 5_000);
+            assertTrue(delay <= 10_000);
+        }
+    }
+
+    @Test
+    public void test_shouldRetryWithoutDelayWhenNoMultiplier() {
+        MRetryPolicy retryPolicy = new MRetryPolicy.Builder()
+                .withMaxRetries(2)
+                .build();
+
+        assertEquals(0, retryPolicy.getRetryDelayMillis(1));
+        assertTrue(retryPolicy.shouldRetry(new BackendCommunicationException("error", null), 1));
+        assertFalse(retryPolicy.shouldRetry(new BackendCommunicationException("error", null), 2));
+        assertFalse(retryPolicy.shouldRetry(new IllegalStateException(), 0));
+    }
+}
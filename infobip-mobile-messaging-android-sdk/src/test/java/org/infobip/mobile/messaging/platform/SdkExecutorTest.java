@@ -0,0 +1,193 @@
+package org.infobip.mobile.messaging.platform;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SdkExecutorTest {
+
+    private SdkExecutor sdkExecutor;
+    private CountDownLatch blocker;
+    private CountDownLatch blocking;
+    private List<String> executed;
+
+    @Before
+    public void setUp() throws Exception {
+        sdkExecutor = new SdkExecutor(4, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                return new Thread(runnable, SdkExecutor.THREAD_NAME);
+            }
+        });
+        blocker = new CountDownLatch(1);
+        blocking = new CountDownLatch(1);
+        executed = Collections.synchronizedList(new ArrayList<String>());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        blocker.countDown();
+        sdkExecutor.shutdownNow();
+    }
+
+    @Test
+    public void test_shouldRunUserFacingWorkBeforeOtherWaitingWork() throws Exception {
+        givenBlockedWorker(SdkExecutor.Priority.DEFAULT);
+
+        sdkExecutor.execute(SdkExecutor.Priority.ANALYTICS, task("seen"));
+        sdkExecutor.execute(SdkExecutor.Priority.DEFAULT, task("sync"));
+        sdkExecutor.execute(SdkExecutor.Priority.USER_FACING, task("user1"));
+        sdkExecutor.forPriority(SdkExecutor.Priority.USER_FACING).execute(task("user2"));
+        blocker.countDown();
+
+        awaitIdle();
+        assertEquals(Arrays.asList("user1", "user2", "sync", "seen"), executed);
+    }
+
+    @Test
+    public void test_shouldNotRunOtherWorkWhileRegistrationIsRunning() throws Exception {
+        givenBlockedWorker(SdkExecutor.Priority.USER_FACING);
+
+        sdkExecutor.execute(SdkExecutor.Priority.DEFAULT, task("sync"));
+        sdkExecutor.execute(SdkExecutor.Priority.ANALYTICS, task("seen"));
+        Thread.sleep(50);
+
+        assertTrue(executed.isEmpty());
+        blocker.countDown();
+
+        awaitIdle();
+        assertEquals(Arrays.asList("sync", "seen"), executed);
+    }
+
+    @Test
+    public void test_shouldRunWorkOfSamePriorityInSubmissionOrder() throws Exception {
+        givenBlockedWorker(SdkExecutor.Priority.USER_FACING);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sdkExecutor.execute(SdkExecutor.Priority.USER_FACING, task("user" + i));
+            expected.add("user" + i);
+        }
+        blocker.countDown();
+
+        awaitIdle();
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    public void test_shouldRejectWorkWhenQueueIsFull() throws Exception {
+        givenBlockedWorker(SdkExecutor.Priority.DEFAULT);
+
+        for (int i = 0; i < 4; i++) {
+            sdkExecutor.execute(SdkExecutor.Priority.ANALYTICS, task("seen" + i));
+        }
+        try {
+            sdkExecutor.execute(SdkExecutor.Priority.ANALYTICS, task("seen4"));
+            fail("Work should be rejected when queue is full");
+        } catch (RejectedExecutionException ignored) {
+        }
+        sdkExecutor.execute(SdkExecutor.Priority.DEFAULT, task("sync"));
+        assertEquals(4, sdkExecutor.getMetrics(SdkExecutor.Priority.ANALYTICS).getQueueDepth());
+        assertEquals(5, sdkExecutor.getQueueDepth());
+        blocker.countDown();
+
+        awaitIdle();
+        assertEquals(Arrays.asList("sync", "seen0", "seen1", "seen2", "seen3"), executed);
+        assertEquals(1, sdkExecutor.getMetrics(SdkExecutor.Priority.ANALYTICS).getDropped());
+        assertEquals(0, sdkExecutor.getMetrics(SdkExecutor.Priority.DEFAULT).getDropped());
+    }
+
+    @Test
+    public void test_shouldRejectUserFacingWorkWhenQueueIsFull() throws Exception {
+        givenBlockedWorker(SdkExecutor.Priority.DEFAULT);
+
+        for (int i = 0; i < 4; i++) {
+            sdkExecutor.execute(SdkExecutor.Priority.USER_FACING, task("user" + i));
+        }
+        try {
+            sdkExecutor.execute(SdkExecutor.Priority.USER_FACING, task("user4"));
+            fail("Work should be rejected when queue is full");
+        } catch (RejectedExecutionException ignored) {
+        }
+        blocker.countDown();
+
+        awaitIdle();
+        assertEquals(4, executed.size());
+        assertEquals(1, sdkExecutor.getMetrics(SdkExecutor.Priority.USER_FACING).getDropped());
+    }
+
+    @Test
+    public void test_shouldCollectMetrics() throws Exception {
+        givenBlockedWorker(SdkExecutor.Priority.DEFAULT);
+
+        sdkExecutor.execute(SdkExecutor.Priority.ANALYTICS, task("seen"));
+        assertEquals(1, sdkExecutor.getMetrics(SdkExecutor.Priority.ANALYTICS).getQueueDepth());
+        Thread.sleep(50);
+        blocker.countDown();
+
+        awaitIdle();
+        SdkExecutor.Metrics metrics = sdkExecutor.getMetrics(SdkExecutor.Priority.ANALYTICS);
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(1, metrics.getSubmitted());
+        assertEquals(1, metrics.getCompleted());
+        assertTrue(metrics.getMaxWaitMillis() >= 50);
+        assertEquals(1, sdkExecutor.getMetrics(SdkExecutor.Priority.DEFAULT).getCompleted());
+    }
+
+    private void givenBlockedWorker(SdkExecutor.Priority priority) throws InterruptedException {
+        sdkExecutor.execute(priority, new Runnable() {
+            @Override
+            public void run() {
+                blocking.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException ignored) {
+                }
+            }
+        });
+        assertTrue(blocking.await(1, TimeUnit.SECONDS));
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (hasUnfinishedWork() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(hasUnfinishedWork());
+    }
+
+    private boolean hasUnfinishedWork() {
+        for (SdkExecutor.Priority priority : SdkExecutor.Priority.values()) {
+            SdkExecutor.Metrics metrics = sdkExecutor.getMetrics(priority);
+            if (metrics.getCompleted() + metrics.getDropped() < metrics.getSubmitted()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Runnable task(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                executed.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package org.infobip.mobile.messaging.storage;
+
+import android.content.Context;
+
+import org.infobip.mobile.messaging.Message;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MessageQueryTest {
+
+    @Test
+    public void should_filter_order_and_page_messages_in_memory() {
+        List<Message> messages = Arrays.asList(
+                message("m1", 100, 0),
+                message("m2", 300, 0),
+                message("m3", 200, 50),
+                message("m4", 300, 0),
+                message("m5", 400, 0));
+
+        MessageQuery query = MessageQuery.all()
+                .where(MessageQuery.Field.SEEN_TIMESTAMP, MessageQuery.Operator.EQUAL, 0)
+                .orderBy(MessageQuery.Field.RECEIVED_TIMESTAMP, MessageQuery.Order.DESC)
+                .limit(2);
+
+        List<Message> firstPage = query.apply(messages);
+        List<Message> secondPage = query.after(firstPage.get(1)).apply(messages);
+
+        assertEquals(Arrays.asList("m5", "m4"), ids(firstPage));
+        assertEquals(Arrays.asList("m2", "m1"), ids(secondPage));
+        assertEquals(Arrays.asList("m4", "m2"), ids(query.offset(1).apply(messages)));
+    }
+
+    @Test
+    public void should_match_status_and_ids() {
+        Message delivered = message("m1", 100, 0);
+        delivered.setStatus(Message.Status.SUCCESS);
+        Message failed = message("m2", 100, 0);
+        failed.setStatus(Message.Status.ERROR);
+
+        MessageQuery query = MessageQuery.all()
+                .whereIn(MessageQuery.Field.MESSAGE_ID, Arrays.asList("m1", "m2", "m3"))
+                .where(MessageQuery.Field.STATUS, MessageQuery.Operator.EQUAL, Message.Status.ERROR);
+
+        assertEquals(Arrays.asList("m2"), ids(query.apply(Arrays.asList(delivered, failed))));
+    }
+
+    @Test
+    public void should_match_fields_from_internal_data() {
+        Message expired = message("m1", 100, 0);
+        expired.setInAppExpiryTimestamp(500);
+        expired.setInternalData("{\"bulkId\":\"bulk1\"}");
+        Message active = message("m2", 100, 0);
+        active.setInAppExpiryTimestamp(2000);
+        active.setInternalData("{\"bulkId\":\"bulk1\"}");
+        Message other = message("m3", 100, 0);
+        other.setInternalData("{\"bulkId\":\"bulk2\"}");
+        List<Message> messages = Arrays.asList(expired, active, other);
+
+        MessageQuery expiredQuery = MessageQuery.all()
+                .where(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Operator.GREATER_THAN, 0)
+                .where(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Operator.LESS_THAN, 1000);
+        MessageQuery bulkQuery = MessageQuery.all()
+                .where(MessageQuery.Field.BULK_ID, MessageQuery.Operator.EQUAL, "bulk1")
+                .orderBy(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Order.DESC);
+
+        assertEquals(Arrays.asList("m1"), ids(expiredQuery.apply(messages)));
+        assertEquals(Arrays.asList("m2", "m1"), ids(bulkQuery.apply(messages)));
+        assertEquals("bulk_id = ?", bulkQuery.getSelection());
+        assertEquals("in_app_expiry_timestamp DESC, id DESC", bulkQuery.getOrderBy());
+    }
+
+    @Test
+    public void should_build_keyset_selection() {
+        MessageQuery query = MessageQuery.all()
+                .where(MessageQuery.Field.CATEGORY, MessageQuery.Operator.EQUAL, "chat")
+                .orderBy(MessageQuery.Field.RECEIVED_TIMESTAMP, MessageQuery.Order.ASC)
+                .after(message("m1", 100, 0));
+
+        assertEquals("category = ? AND (received_timestamp > ? OR (received_timestamp = ? AND id > ?))", query.getSelection());
+        assertArrayEquals(new String[]{"chat", "100", "100", "m1"}, query.getSelectionArgs());
+        assertEquals("received_timestamp ASC, id ASC", query.getOrderBy());
+        assertNull(MessageQuery.all().getSelection());
+    }
+
+    @Test
+    public void should_include_null_values_in_descending_keyset_selection() {
+        MessageQuery byExpiry = MessageQuery.all()
+                .orderBy(MessageQuery.Field.IN_APP_EXPIRY_TIMESTAMP, MessageQuery.Order.DESC)
+                .after(message("m1", 100, 0));
+
+        assertEquals("(in_app_expiry_timestamp < ? OR (in_app_expiry_timestamp = ? AND id < ?) OR in_app_expiry_timestamp IS NULL)", byExpiry.getSelection());
+        assertArrayEquals(new String[]{"0", "0", "m1"}, byExpiry.getSelectionArgs());
+    }
+
+    @Test
+    public void should_split_large_in_condition_into_chunks() {
+        List<String> messageIds = new ArrayList<>();
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            String messageId = String.format("m%04d", i);
+            messageIds.add(messageId);
+            messages.add(message(messageId, i, 0));
+        }
+        MessageQuery query = MessageQuery.all()
+                .whereIn(MessageQuery.Field.MESSAGE_ID, messageIds)
+                .where(MessageQuery.Field.SEEN_TIMESTAMP, MessageQuery.Operator.EQUAL, 0)
+                .orderBy(MessageQuery.Field.RECEIVED_TIMESTAMP, MessageQuery.Order.DESC)
+                .offset(10)
+                .limit(5);
+
+        List<MessageQuery> chunks = query.chunks();
+        List<Message> merged = new ArrayList<>();
+        for (MessageQuery chunk : chunks) {
+            assertTrue(chunk.getSelectionArgs().length <= MessageQuery.MAX_SELECTION_ARGS);
+            assertEquals(15, chunk.getLimit());
+            assertEquals(0, chunk.getOffset());
+            merged.addAll(chunk.apply(messages));
+        }
+
+        assertEquals(3, chunks.size());
+        assertEquals(ids(query.apply(messages)), ids(query.page(merged)));
+        assertEquals(Arrays.asList("m2489", "m2488", "m2487", "m2486", "m2485"), ids(query.page(merged)));
+    }
+
+    @Test
+    public void should_iterate_over_all_pages() {
+        final List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            messages.add(message(String.format("m%02d", i), i, 0));
+        }
+        final List<MessageQuery> queries = new ArrayList<>();
+        MessageStore store = new InMemoryStore(messages) {
+            @Override
+            public List<Message> find(Context context, MessageQuery query) {
+                queries.add(query);
+                return super.find(context, query);
+            }
+        };
+
+        List<String> iterated = new ArrayList<>();
+        for (Message message : MessageQuery.all().iterate(null, store, 10)) {
+            iterated.add(message.getMessageId());
+        }
+
+        assertEquals(ids(messages), iterated);
+        assertEquals(3, queries.size());
+    }
+
+    private static Message message(String id, long receivedTimestamp, long seenTimestamp) {
+        Message message = new Message();
+        message.setMessageId(id);
+        message.setReceivedTimestamp(receivedTimestamp);
+        message.setSeenTimestamp(seenTimestamp);
+        return message;
+    }
+
+    private static List<String> ids(List<Message> messages) {
+        List<String> ids = new ArrayList<>();
+        for (Message message : messages) {
+            ids.add(message.getMessageId());
+        }
+        return ids;
+    }
+
+    private static class InMemoryStore implements MessageStore {
+        private final List<Message> messages;
+
+        InMemoryStore(List<Message> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public List<Message> findAll(Context context) {
+            return messages;
+        }
+
+        @Override
+        public long countAll(Context context) {
+            return messages.size();
+        }
+
+        @Override
+        public void save(Context context, Message... messages) {
+        }
+
+        @Override
+        public void deleteAll(Context context) {
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.infobip.mobile.messaging.api.appinstance;
 
+import com.google.gson.annotations.JsonAdapter;
+
 import java.util.Map;
 
 import lombok.AllArgsConstructor;
@@ -7,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
+@JsonAdapter(AppInstanceTypeAdapterFactory.class)
 @AllArgsConstructor
 @NoArgsConstructor
 public class AppInstance {
@@ -0,0 +1,147 @@
+package org.infobip.mobile.messaging.api.appinstance;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.nextBooleanOrNull;
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.nextEnumOrNull;
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.nextStringOrNull;
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.writeEnum;
+
+/**
+ * Reflection-free adapter for {@link AppInstance}. Custom attributes are free-form, so they are bound with Gson's map adapter.
+ *
+ * @since 17.10.2026.
+ */
+public class AppInstanceTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final TypeToken<Map<String, Object>> CUSTOM_ATTRIBUTES_TYPE = new TypeToken<Map<String, Object>>() {
+    };
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!AppInstance.class.equals(type.getRawType())) {
+            return null;
+        }
+        //noinspection unchecked
+        return (TypeAdapter<T>) new Adapter(gson.getAdapter(CUSTOM_ATTRIBUTES_TYPE));
+    }
+
+    private static class Adapter extends TypeAdapter<AppInstance> {
+
+        private final TypeAdapter<Map<String, Object>> customAttributesAdapter;
+
+        Adapter(TypeAdapter<Map<String, Object>> customAttributesAdapter) {
+            this.customAttributesAdapter = customAttributesAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, AppInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("pushRegId").value(value.getPushRegId());
+            out.name("regEnabled").value(value.getRegEnabled());
+            out.name("notificationsEnabled").value(value.getNotificationsEnabled());
+            out.name("geoEnabled").value(value.getGeoEnabled());
+            out.name("sdkVersion").value(value.getSdkVersion());
+            out.name("appVersion").value(value.getAppVersion());
+            out.name("os").value(value.getOs());
+            out.name("osVersion").value(value.getOsVersion());
+            out.name("deviceManufacturer").value(value.getDeviceManufacturer());
+            out.name("deviceModel").value(value.getDeviceModel());
+            out.name("deviceSecure").value(value.getDeviceSecure());
+            out.name("language").value(value.getLanguage());
+            out.name("deviceTimezoneOffset").value(value.getDeviceTimezoneOffset());
+            out.name("applicationUserId").value(value.getApplicationUserId());
+            out.name("deviceName").value(value.getDeviceName());
+            out.name("customAttributes");
+            customAttributesAdapter.write(out, value.getCustomAttributes());
+            out.name("isPrimary").value(value.getIsPrimary());
+            out.name("pushServiceType");
+            writeEnum(out, value.getPushServiceType());
+            out.name("pushServiceToken").value(value.getPushServiceToken());
+            out.endObject();
+        }
+
+        @Override
+        public AppInstance read(JsonReader in) throws IOException {
+            AppInstance value = new AppInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "pushRegId":
+                        value.setPushRegId(nextStringOrNull(in));
+                        break;
+                    case "regEnabled":
+                        value.setRegEnabled(nextBooleanOrNull(in));
+                        break;
+                    case "notificationsEnabled":
+                        value.setNotificationsEnabled(nextBooleanOrNull(in));
+                        break;
+                    case "geoEnabled":
+                        value.setGeoEnabled(nextBooleanOrNull(in));
+                        break;
+                    case "sdkVersion":
+                        value.setSdkVersion(nextStringOrNull(in));
+                        break;
+                    case "appVersion":
+                        value.setAppVersion(nextStringOrNull(in));
+                        break;
+                    case "os":
+                        value.setOs(nextStringOrNull(in));
+                        break;
+                    case "osVersion":
+                        value.setOsVersion(nextStringOrNull(in));
+                        break;
+                    case "deviceManufacturer":
+                        value.setDeviceManufacturer(nextStringOrNull(in));
+                        break;
+                    case "deviceModel":
+                        value.setDeviceModel(nextStringOrNull(in));
+                        break;
+                    case "deviceSecure":
+                        value.setDeviceSecure(nextBooleanOrNull(in));
+                        break;
+                    case "language":
+                        value.setLanguage(nextStringOrNull(in));
+                        break;
+                    case "deviceTimezoneOffset":
+                        value.setDeviceTimezoneOffset(nextStringOrNull(in));
+                        break;
+                    case "applicationUserId":
+                        value.setApplicationUserId(nextStringOrNull(in));
+                        break;
+                    case "deviceName":
+                        value.setDeviceName(nextStringOrNull(in));
+                        break;
+                    case "customAttributes":
+                        value.setCustomAttributes(customAttributesAdapter.read(in));
+                        break;
+                    case "isPrimary":
+                        value.setIsPrimary(nextBooleanOrNull(in));
+                        break;
+                    case "pushServiceType":
+                        value.setPushServiceType(nextEnumOrNull(in, PushServiceType.class));
+                        break;
+                    case "pushServiceToken":
+                        value.setPushServiceToken(nextStringOrNull(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
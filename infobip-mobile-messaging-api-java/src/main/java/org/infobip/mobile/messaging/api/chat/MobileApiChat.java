@@ -2,6 +2,7 @@ package org.infobip.mobile.messaging.api.chat;
 
 import org.infobip.mobile.messaging.api.support.Generator;
 import org.infobip.mobile.messaging.api.support.http.ApiKey;
+import org.infobip.mobile.messaging.api.support.http.Cacheable;
 import org.infobip.mobile.messaging.api.support.http.HttpRequest;
 import org.infobip.mobile.messaging.api.support.http.Version;
 import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
@@ -22,6 +23,7 @@ import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
 @Version("1")
 public interface MobileApiChat {
 
+    @Cacheable
     @HttpRequest(method = HttpMethod.GET, value = "widget")
     WidgetInfo getWidgetConfiguration();
 }
\ No newline at end of file
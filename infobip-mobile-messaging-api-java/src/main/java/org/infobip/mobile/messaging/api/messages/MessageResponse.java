@@ -1,6 +1,7 @@
 package org.infobip.mobile.messaging.api.messages;
 
 import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
 import lombok.AllArgsConstructor;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  * @author pandric on 09/09/16.
  */
 @Data
+@JsonAdapter(MessageResponseTypeAdapter.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageResponse {
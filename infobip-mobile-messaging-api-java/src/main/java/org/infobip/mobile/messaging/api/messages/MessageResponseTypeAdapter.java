@@ -0,0 +1,77 @@
+package org.infobip.mobile.messaging.api.messages;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.nextStringOrNull;
+
+/**
+ * Reflection-free adapter for {@link MessageResponse}, field names follow its {@code @SerializedName} annotations.
+ *
+ * @since 17.10.2026.
+ */
+public class MessageResponseTypeAdapter extends TypeAdapter<MessageResponse> {
+
+    @Override
+    public void write(JsonWriter out, MessageResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("gcm.notification.messageId").value(value.getMessageId());
+        out.name("gcm.notification.title").value(value.getTitle());
+        out.name("gcm.notification.body").value(value.getBody());
+        out.name("gcm.notification.sound").value(value.getSound());
+        out.name("gcm.notification.vibrate").value(value.getVibrate());
+        out.name("gcm.notification.silent").value(value.getSilent());
+        out.name("gcm.notification.category").value(value.getCategory());
+        out.name("customPayload").value(value.getCustomPayload());
+        out.name("internalData").value(value.getInternalData());
+        out.endObject();
+    }
+
+    @Override
+    public MessageResponse read(JsonReader in) throws IOException {
+        MessageResponse value = new MessageResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "gcm.notification.messageId":
+                    value.setMessageId(nextStringOrNull(in));
+                    break;
+                case "gcm.notification.title":
+                    value.setTitle(nextStringOrNull(in));
+                    break;
+                case "gcm.notification.body":
+                    value.setBody(nextStringOrNull(in));
+                    break;
+                case "gcm.notification.sound":
+                    value.setSound(nextStringOrNull(in));
+                    break;
+                case "gcm.notification.vibrate":
+                    value.setVibrate(nextStringOrNull(in));
+                    break;
+                case "gcm.notification.silent":
+                    value.setSilent(nextStringOrNull(in));
+                    break;
+                case "gcm.notification.category":
+                    value.setCategory(nextStringOrNull(in));
+                    break;
+                case "customPayload":
+                    value.setCustomPayload(nextStringOrNull(in));
+                    break;
+                case "internalData":
+                    value.setInternalData(nextStringOrNull(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+}
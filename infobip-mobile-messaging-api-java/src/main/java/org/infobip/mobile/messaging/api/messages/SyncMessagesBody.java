@@ -1,5 +1,7 @@
 package org.infobip.mobile.messaging.api.messages;
 
+import com.google.gson.annotations.JsonAdapter;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,6 +10,7 @@ import lombok.NoArgsConstructor;
  * @author pandric on 09/09/16.
  */
 @Data
+@JsonAdapter(SyncMessagesBodyTypeAdapter.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SyncMessagesBody {
@@ -0,0 +1,52 @@
+package org.infobip.mobile.messaging.api.messages;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.nextStringArrayOrNull;
+import static org.infobip.mobile.messaging.api.support.http.serialization.JsonStreams.writeStringArray;
+
+/**
+ * Reflection-free adapter for {@link SyncMessagesBody}.
+ *
+ * @since 17.10.2026.
+ */
+public class SyncMessagesBodyTypeAdapter extends TypeAdapter<SyncMessagesBody> {
+
+    @Override
+    public void write(JsonWriter out, SyncMessagesBody value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("mIDs");
+        writeStringArray(out, value.getMIDs());
+        out.name("drIDs");
+        writeStringArray(out, value.getDrIDs());
+        out.endObject();
+    }
+
+    @Override
+    public SyncMessagesBody read(JsonReader in) throws IOException {
+        SyncMessagesBody value = new SyncMessagesBody();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "mIDs":
+                    value.setMIDs(nextStringArrayOrNull(in));
+                    break;
+                case "drIDs":
+                    value.setDrIDs(nextStringArrayOrNull(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+}
@@ -1,5 +1,7 @@
 package org.infobip.mobile.messaging.api.messages;
 
+import com.google.gson.annotations.JsonAdapter;
+
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -10,6 +12,7 @@ import lombok.NoArgsConstructor;
  * @author pandric on 09/09/16.
  */
 @Data
+@JsonAdapter(SyncMessagesResponseTypeAdapter.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SyncMessagesResponse {
@@ -0,0 +1,71 @@
+package org.infobip.mobile.messaging.api.messages;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection-free adapter for {@link SyncMessagesResponse}, payloads are bound with {@link MessageResponseTypeAdapter}.
+ *
+ * @since 17.10.2026.
+ */
+public class SyncMessagesResponseTypeAdapter extends TypeAdapter<SyncMessagesResponse> {
+
+    private final MessageResponseTypeAdapter messageAdapter = new MessageResponseTypeAdapter();
+
+    @Override
+    public void write(JsonWriter out, SyncMessagesResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("payloads");
+        List<MessageResponse> payloads = value.getPayloads();
+        if (payloads == null) {
+            out.nullValue();
+        } else {
+            out.beginArray();
+            for (MessageResponse payload : payloads) {
+                messageAdapter.write(out, payload);
+            }
+            out.endArray();
+        }
+        out.endObject();
+    }
+
+    @Override
+    public SyncMessagesResponse read(JsonReader in) throws IOException {
+        SyncMessagesResponse value = new SyncMessagesResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!"payloads".equals(in.nextName())) {
+                in.skipValue();
+                continue;
+            }
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            List<MessageResponse> payloads = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    payloads.add(null);
+                } else {
+                    payloads.add(messageAdapter.read(in));
+                }
+            }
+            in.endArray();
+            value.setPayloads(payloads);
+        }
+        in.endObject();
+        return value;
+    }
+}
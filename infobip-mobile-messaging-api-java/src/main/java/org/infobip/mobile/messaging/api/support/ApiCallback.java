@@ -0,0 +1,22 @@
+package org.infobip.mobile.messaging.api.support;
+
+/**
+ * Callback for asynchronous Mobile API calls.
+ * <p>
+ * Declare it as the last parameter of an API method returning {@code void} and {@link Generator} will run the call
+ * on its I/O executor and deliver the result here:
+ * <pre>{@code
+ * @HttpRequest(method = HttpMethod.POST)
+ * void sync(@Body SyncMessagesBody body, ApiCallback<SyncMessagesResponse> callback);
+ * }</pre>
+ * Callbacks are invoked on the I/O executor thread.
+ *
+ * @param <T> response type
+ * @see Generator.Builder#withAsyncExecutor(java.util.concurrent.ExecutorService)
+ */
+public interface ApiCallback<T> {
+
+    void onSuccess(T result);
+
+    void onError(Throwable error);
+}
@@ -8,6 +8,7 @@ import org.infobip.mobile.messaging.api.support.util.StringUtils;
  */
 public class ApiIOException extends RuntimeException {
     private final String code;
+    private long retryAfterMillis = -1;
 
     public ApiIOException(String code, String message) {
         super(message);
@@ -23,6 +24,17 @@ public class ApiIOException extends RuntimeException {
         return code;
     }
 
+    /**
+     * @return delay before the next attempt requested by the server with {@code Retry-After} header, -1 if not requested
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    public void setRetryAfterMillis(long retryAfterMillis) {
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
     public String toString() {
         String s = getClass().getName();
         String message = getLocalizedMessage();
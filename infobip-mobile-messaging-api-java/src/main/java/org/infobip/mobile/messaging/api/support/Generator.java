@@ -2,6 +2,7 @@ package org.infobip.mobile.messaging.api.support;
 
 import org.infobip.mobile.messaging.api.support.http.ApiKey;
 import org.infobip.mobile.messaging.api.support.http.Body;
+import org.infobip.mobile.messaging.api.support.http.Cacheable;
 import org.infobip.mobile.messaging.api.support.http.Credentials;
 import org.infobip.mobile.messaging.api.support.http.Header;
 import org.infobip.mobile.messaging.api.support.http.Headers;
@@ -11,25 +12,44 @@ import org.infobip.mobile.messaging.api.support.http.Paths;
 import org.infobip.mobile.messaging.api.support.http.Queries;
 import org.infobip.mobile.messaging.api.support.http.Query;
 import org.infobip.mobile.messaging.api.support.http.Version;
+import org.infobip.mobile.messaging.api.support.http.client.CompressionSettings;
 import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
 import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.infobip.mobile.messaging.api.support.http.client.HttpResponseCache;
+import org.infobip.mobile.messaging.api.support.http.client.HttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.HttpURLConnectionTransport;
 import org.infobip.mobile.messaging.api.support.http.client.Logger;
 import org.infobip.mobile.messaging.api.support.http.client.RequestInterceptor;
 import org.infobip.mobile.messaging.api.support.http.client.ResponsePreProcessor;
 import org.infobip.mobile.messaging.api.support.util.StringUtils;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.Data;
 import lombok.NonNull;
@@ -41,6 +61,9 @@ import static org.infobip.mobile.messaging.api.support.util.ReflectionUtils.load
  * <pre>{@code
  * MobileApiRegistration mobileApiRegistration = new Generator.Builder().build().create(MobileApiRegistration.class);
  * }</pre>
+ * <p>
+ * Methods returning {@link Future} or taking {@link ApiCallback} as the last parameter are executed asynchronously
+ * on a bounded I/O executor.
  *
  * @author mstipanov
  * @see Builder
@@ -60,22 +83,62 @@ public class Generator {
     private ResponsePreProcessor[] responsePreProcessors = new ResponsePreProcessor[0];
     private Logger logger = new Logger();
     private boolean allowUntrustedSSLOnError = false;
+    public static final int DEFAULT_ASYNC_THREADS = 4;
+    public static final int DEFAULT_ASYNC_QUEUE_SIZE = 64;
+
+    private boolean reuseConnections;
+    private CompressionSettings compressionSettings;
+    private HttpTransport transport;
+    private HttpResponseCache responseCache;
+    private ExecutorService asyncExecutor;
+    private SingleFlight singleFlight;
 
     private DefaultApiClient getApiClient() {
         if (null != apiClient) {
             return apiClient;
         }
         String libraryVersion = properties.getProperty("library.version");
-        apiClient = new DefaultApiClient(connectTimeout, readTimeout, libraryVersion, requestInterceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, userAgentAdditions);
+        apiClient = new DefaultApiClient(connectTimeout, readTimeout, libraryVersion, requestInterceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, getTransport(), compressionSettings, responseCache, userAgentAdditions);
         return apiClient;
     }
 
+    private HttpTransport getTransport() {
+        if (null != transport) {
+            return transport;
+        }
+        transport = new HttpURLConnectionTransport(reuseConnections);
+        return transport;
+    }
+
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (null != asyncExecutor) {
+            return asyncExecutor;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_ASYNC_THREADS, DEFAULT_ASYNC_THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(DEFAULT_ASYNC_QUEUE_SIZE), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "mm-api-io-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+        asyncExecutor = executor;
+        return asyncExecutor;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T create(@NonNull Class<T> type) {
         CachingInvocationHandler<?> cachingInvocationHandler = proxyCacheMap.get(type);
         if (null == cachingInvocationHandler) {
-            cachingInvocationHandler = new CachingInvocationHandler<>(type);
-            proxyCacheMap.put(type, cachingInvocationHandler);
+            CachingInvocationHandler<?> created = new CachingInvocationHandler<>(type);
+            cachingInvocationHandler = proxyCacheMap.putIfAbsent(type, created);
+            if (null == cachingInvocationHandler) {
+                cachingInvocationHandler = created;
+            }
         }
         return (T) cachingInvocationHandler.getProxy();
     }
@@ -193,6 +256,12 @@ public class Generator {
      * @see Builder#withConnectTimeout(int)
      * @see Builder#withReadTimeout(int)
      * @see Builder#withUserAgentAdditions(String...)
+     * @see Builder#withConnectionReuse(boolean)
+     * @see Builder#withGzip(int)
+     * @see Builder#withTransport(HttpTransport)
+     * @see Builder#withResponseCache(File, long)
+     * @see Builder#withAsyncExecutor(ExecutorService)
+     * @see Builder#withRequestCoalescing(boolean)
      */
     public static class Builder {
         private final Generator generator;
@@ -300,6 +369,85 @@ public class Generator {
             return this;
         }
 
+        /**
+         * Will keep connections alive between calls, so that consecutive Mobile API calls reuse warm connections
+         * instead of doing a new TCP and TLS handshake each time. Disabled by default.
+         * <p>
+         * Responses are fully read and closed without disconnecting, so the connection can go back to the keep-alive pool
+         * of {@link java.net.HttpURLConnection}. Process-wide pool settings are not changed.
+         *
+         * @param reuseConnections setting
+         * @return {@link Builder}
+         */
+        public Builder withConnectionReuse(boolean reuseConnections) {
+            generator.reuseConnections = reuseConnections;
+            return this;
+        }
+
+        /**
+         * Will accept gzip-compressed responses and compress request bodies which are at least the given size. Disabled by default.
+         *
+         * @param minRequestBodySize minimum size of a serialized request body in bytes to send it compressed
+         * @return {@link Builder}
+         */
+        public Builder withGzip(int minRequestBodySize) {
+            generator.compressionSettings = new CompressionSettings(minRequestBodySize);
+            return this;
+        }
+
+        /**
+         * Will set the transport which executes HTTP exchanges. By default {@link HttpURLConnectionTransport} is used,
+         * {@link org.infobip.mobile.messaging.api.support.http.client.OkHttpTransport} can be supplied to multiplex calls over HTTP/2.
+         * Connection reuse applies only to the default transport.
+         *
+         * @param transport transport to use
+         * @return {@link Builder}
+         */
+        public Builder withTransport(@NonNull HttpTransport transport) {
+            generator.transport = transport;
+            return this;
+        }
+
+        /**
+         * Will cache GET responses on disk and revalidate them with {@code ETag}/{@code Last-Modified},
+         * so that unchanged resources cost a {@code 304 Not Modified} without deserialization. Disabled by default.
+         * Only methods annotated with {@link Cacheable} are cached.
+         *
+         * @param directory    directory to keep cached responses in
+         * @param maxSizeBytes maximum size of cached response bodies, least recently used ones are evicted above it
+         * @return {@link Builder}
+         */
+        public Builder withResponseCache(@NonNull File directory, long maxSizeBytes) {
+            generator.responseCache = new HttpResponseCache(directory, maxSizeBytes);
+            return this;
+        }
+
+        /**
+         * Will set the executor for asynchronous API methods, the ones returning {@link Future} or accepting {@link ApiCallback}.
+         * By default a pool of {@value #DEFAULT_ASYNC_THREADS} daemon threads with a queue of {@value #DEFAULT_ASYNC_QUEUE_SIZE} calls is used,
+         * calls above that are rejected with {@link java.util.concurrent.RejectedExecutionException}.
+         *
+         * @param asyncExecutor executor to run asynchronous calls on
+         * @return {@link Builder}
+         */
+        public Builder withAsyncExecutor(@NonNull ExecutorService asyncExecutor) {
+            generator.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        /**
+         * Will make concurrent identical GET calls (same API method and equal arguments) share one network round trip and its result.
+         * Callers of a shared call receive the same response instance, so it should not be modified.
+         * Other HTTP methods are never coalesced. Disabled by default.
+         *
+         * @param requestCoalescing setting
+         * @return {@link Builder}
+         */
+        public Builder withRequestCoalescing(boolean requestCoalescing) {
+            generator.singleFlight = requestCoalescing ? new SingleFlight() : null;
+            return this;
+        }
+
         public Generator build() {
             if (StringUtils.isBlank(generator.getBaseUrl())) {
                 throw new IllegalArgumentException("baseUrl is mandatory");
@@ -312,112 +460,348 @@ public class Generator {
     @Data
     private class CachingInvocationHandler<T> implements InvocationHandler {
         private final Class<T> type;
-        private ConcurrentHashMap<Method, ProxyCache> proxyCacheMap = new ConcurrentHashMap<>();
+        private ConcurrentHashMap<Method, RequestTemplate> requestTemplateMap = new ConcurrentHashMap<>();
+        private volatile T proxy;
 
         @SuppressWarnings("unchecked")
         public T getProxy() {
-            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, this);
+            T result = proxy;
+            if (null != result) {
+                return result;
+            }
+            synchronized (this) {
+                if (null == proxy) {
+                    proxy = (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, this);
+                }
+                return proxy;
+            }
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            ProxyCache proxyCache = getProxyCache(method);
-            String uri = StringUtils.join("/", baseUrl, proxyCache.getUri());
-
-            Map<String, Collection<Object>> queryParams = new HashMap<>(proxyCache.getDefaultQueryParams());
-            Map<String, Collection<Object>> headerMap = new HashMap<>(proxyCache.getDefaultHeaderMap());
-            String apiKey = proxyCache.getApiKey();
-            Tuple<String, String> credentials = proxyCache.getCredentials();
-
-            Parameter[] parameters = proxyCache.getParameters();
-            Object body = null;
-            for (int i = 0, parametersLength = parameters.length; i < parametersLength; i++) {
-                Parameter parameter = parameters[i];
-                Object arg = args[i];
-                if (null != parameter.getBody()) {
-                    body = arg;
-                }
+            RequestTemplate template = getRequestTemplate(method);
+            if (template.isAsync()) {
+                return submit(template, args);
+            }
+            return execute(template, args);
+        }
 
-                Version version = parameter.getVersion();
-                if (null != version) {
-                    uri = uri.replace("{version}", arg.toString());
-                }
+        private Object execute(final RequestTemplate template, final Object[] args) {
+            // only idempotent reads are safe to share, every other call has to reach the server
+            if (null == singleFlight || template.getHttpMethod() != HttpMethod.GET) {
+                return executeHTTP(template, args);
+            }
 
-                Path p = parameter.getPath();
-                if (null != p) {
-                    uri = uri.replace("{" + p.name() + "}", arg.toString());
+            return singleFlight.execute(template.coalescingKey(args), new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return executeHTTP(template, args);
                 }
-
-                Query q = parameter.getQuery();
-                if (null != q) {
-                    String name = q.name();
-                    Collection<Object> value = toCollection(arg);
-                    if (value != null) {
-                        queryParams.put(name, value);
-                    }
+            });
+        }
+
+        private Object executeHTTP(RequestTemplate template, Object[] args) {
+            return getApiClient().execute(
+                    template.getHttpMethod(),
+                    template.bindUri(baseUrl, args),
+                    template.bindApiKey(),
+                    template.bindCredentials(),
+                    template.bindQueryParams(args),
+                    template.bindHeaders(args),
+                    template.bindBody(args),
+                    template.getResponseType(),
+                    template.isCacheable());
+        }
+
+        private Future<Object> submit(final RequestTemplate template, final Object[] args) {
+            @SuppressWarnings("unchecked")
+            final ApiCallback<Object> callback = template.getCallbackIndex() == RequestTemplate.NONE ? null : (ApiCallback<Object>) args[template.getCallbackIndex()];
+            AsyncCall task = new AsyncCall(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return execute(template, args);
                 }
+            }, callback);
 
-                Header h = parameter.getHeader();
-                if (null != h) {
-                    String name = h.name();
-                    headerMap.put(name, toCollection(arg));
+            try {
+                getAsyncExecutor().execute(task);
+            } catch (RejectedExecutionException e) {
+                if (null == callback) {
+                    throw e;
                 }
+                // completes the returned future and reports the rejection through the callback
+                task.reject(e);
             }
+            return task;
+        }
 
-            if (uri.endsWith("/")) {
-                uri = uri.substring(0, uri.length() - 1);
+        private RequestTemplate getRequestTemplate(Method method) {
+            RequestTemplate template = requestTemplateMap.get(method);
+            if (null != template) {
+                return template;
             }
 
-            return getApiClient().execute(getHttpRequestMethod(proxyCache.httpRequests), uri, apiKey, credentials, queryParams, headerMap, body, method.getReturnType());
+            template = new RequestTemplate(method);
+            RequestTemplate existing = requestTemplateMap.putIfAbsent(method, template);
+            return null != existing ? existing : template;
         }
+    }
 
-        private HttpMethod getHttpRequestMethod(HttpRequest[] httpRequests) {
-            HttpMethod method = HttpMethod.GET;
-            for (HttpRequest httpRequest : httpRequests) {
-                method = httpRequest.method();
-            }
-            return method;
+    /**
+     * Asynchronous API call which reports its outcome to an optional callback once completed.
+     */
+    private static class AsyncCall extends FutureTask<Object> {
+        private final ApiCallback<Object> callback;
+
+        AsyncCall(Callable<Object> callable, ApiCallback<Object> callback) {
+            super(callable);
+            this.callback = callback;
         }
 
-        private ProxyCache getProxyCache(Method method) {
-            ProxyCache proxyCache = proxyCacheMap.get(method);
-            if (null != proxyCache) {
-                return proxyCache;
-            }
+        void reject(RejectedExecutionException e) {
+            setException(e);
+        }
 
-            proxyCache = new ProxyCache(method);
-            proxyCacheMap.put(method, proxyCache);
-            return proxyCache;
+        @Override
+        protected void done() {
+            if (null == callback) {
+                return;
+            }
+            try {
+                callback.onSuccess(get());
+            } catch (ExecutionException e) {
+                callback.onError(e.getCause());
+            } catch (Exception e) {
+                callback.onError(e);
+            }
         }
     }
 
+    /**
+     * Request metadata of a single API method, resolved once from annotations, so that invocation only binds arguments.
+     * API key and credentials may refer to properties, they are resolved on every call.
+     */
     @Data
-    private class Parameter {
-        private final Body body;
-        private final Path path;
-        private final Query query;
-        private final Header header;
-        private final Version version;
-    }
+    private class RequestTemplate {
+        private static final int NONE = -1;
 
-    @Data
-    private class ProxyCache {
+        private final Method method;
         private final HttpRequest[] httpRequests;
+        private final HttpMethod httpMethod;
         private final String uri;
+        private final Object[] uriSegments;
         private final HashMap<String, Collection<Object>> defaultQueryParams;
         private final HashMap<String, Collection<Object>> defaultHeaderMap;
-        private final Parameter[] parameters;
-        private final String apiKey;
-        private final Tuple<String, String> credentials;
-
-        public ProxyCache(Method method) {
+        private final int bodyIndex;
+        private final int[] queryIndexes;
+        private final String[] queryNames;
+        private final int[] headerIndexes;
+        private final String[] headerNames;
+        private final String rawApiKey;
+        private final Tuple<String, String> rawCredentials;
+        private final Class<?> responseType;
+        private final int callbackIndex;
+        private final boolean async;
+        private final boolean cacheable;
+
+        public RequestTemplate(Method method) {
+            this.method = method;
             this.httpRequests = createHttpRequest(method);
+            this.httpMethod = createHttpMethod(httpRequests);
             this.uri = createUri(method);
             this.defaultQueryParams = createDefaultQueryParams(method);
             this.defaultHeaderMap = createDefaultHeaderMap(method);
-            this.parameters = createParameters(method);
-            this.apiKey = findApiKey(method);
-            this.credentials = findCredentials(method);
+            this.rawApiKey = findApiKey(method);
+            this.rawCredentials = findCredentials(method);
+            this.callbackIndex = findCallbackIndex(method);
+            this.async = callbackIndex != NONE || Future.class.equals(method.getReturnType());
+            this.responseType = findResponseType(method, callbackIndex);
+            this.cacheable = null != method.getAnnotation(Cacheable.class);
+
+            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+            Map<String, Integer> placeholderIndexes = new HashMap<>();
+            List<Integer> queryIndexList = new ArrayList<>();
+            List<String> queryNameList = new ArrayList<>();
+            List<Integer> headerIndexList = new ArrayList<>();
+            List<String> headerNameList = new ArrayList<>();
+            int bodyIndex = NONE;
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                Annotation[] annotations = parameterAnnotations[i];
+                if (null != getAnnotation(annotations, Body.class)) {
+                    bodyIndex = i;
+                }
+                if (null != getAnnotation(annotations, Version.class) && !placeholderIndexes.containsKey("version")) {
+                    placeholderIndexes.put("version", i);
+                }
+                Path path = getAnnotation(annotations, Path.class);
+                if (null != path && !placeholderIndexes.containsKey(path.name())) {
+                    placeholderIndexes.put(path.name(), i);
+                }
+                Query query = getAnnotation(annotations, Query.class);
+                if (null != query) {
+                    queryIndexList.add(i);
+                    queryNameList.add(query.name());
+                }
+                Header header = getAnnotation(annotations, Header.class);
+                if (null != header) {
+                    headerIndexList.add(i);
+                    headerNameList.add(header.name());
+                }
+            }
+            this.bodyIndex = bodyIndex;
+            this.uriSegments = compileUriSegments(uri, placeholderIndexes);
+            this.queryIndexes = toIntArray(queryIndexList);
+            this.queryNames = queryNameList.toArray(new String[0]);
+            this.headerIndexes = toIntArray(headerIndexList);
+            this.headerNames = headerNameList.toArray(new String[0]);
+        }
+
+        String bindUri(String baseUrl, Object[] args) {
+            StringBuilder sb = new StringBuilder(uri.length() + 16);
+            for (Object segment : uriSegments) {
+                if (segment instanceof Integer) {
+                    sb.append(args[(Integer) segment].toString());
+                } else {
+                    sb.append((String) segment);
+                }
+            }
+
+            String boundUri = StringUtils.join("/", baseUrl, sb.toString());
+            if (boundUri.endsWith("/")) {
+                boundUri = boundUri.substring(0, boundUri.length() - 1);
+            }
+            return boundUri;
+        }
+
+        Map<String, Collection<Object>> bindQueryParams(Object[] args) {
+            Map<String, Collection<Object>> queryParams = new HashMap<>(defaultQueryParams);
+            for (int i = 0; i < queryIndexes.length; i++) {
+                Collection<Object> value = toCollection(args[queryIndexes[i]]);
+                if (value != null) {
+                    queryParams.put(queryNames[i], value);
+                }
+            }
+            return queryParams;
+        }
+
+        Map<String, Collection<Object>> bindHeaders(Object[] args) {
+            Map<String, Collection<Object>> headerMap = new HashMap<>(defaultHeaderMap);
+            for (int i = 0; i < headerIndexes.length; i++) {
+                headerMap.put(headerNames[i], toCollection(args[headerIndexes[i]]));
+            }
+            return headerMap;
+        }
+
+        Object coalescingKey(Object[] args) {
+            if (null == args || callbackIndex == NONE) {
+                return SingleFlight.key(method, args);
+            }
+            Object[] keyArgs = args.clone();
+            keyArgs[callbackIndex] = null;
+            return SingleFlight.key(method, keyArgs);
+        }
+
+        Object bindBody(Object[] args) {
+            return bodyIndex == NONE ? null : args[bodyIndex];
+        }
+
+        String bindApiKey() {
+            return injectProperty(rawApiKey);
+        }
+
+        Tuple<String, String> bindCredentials() {
+            if (null == rawCredentials) {
+                return null;
+            }
+            return new Tuple<>(injectProperty(rawCredentials.getLeft()), injectProperty(rawCredentials.getRight()));
+        }
+
+        /**
+         * Splits URI into literal strings and argument indexes of {@code {placeholder}} segments bound from method parameters.
+         * Placeholders without a matching parameter stay in the URI as they are.
+         */
+        private Object[] compileUriSegments(String uri, Map<String, Integer> placeholderIndexes) {
+            List<Object> segments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int position = 0;
+            while (position < uri.length()) {
+                int start = uri.indexOf('{', position);
+                int end = start < 0 ? -1 : uri.indexOf('}', start);
+                if (start < 0 || end < 0) {
+                    literal.append(uri, position, uri.length());
+                    break;
+                }
+
+                Integer index = placeholderIndexes.get(uri.substring(start + 1, end));
+                if (null == index) {
+                    literal.append(uri, position, end + 1);
+                } else {
+                    literal.append(uri, position, start);
+                    if (literal.length() > 0) {
+                        segments.add(literal.toString());
+                        literal.setLength(0);
+                    }
+                    segments.add(index);
+                }
+                position = end + 1;
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+            }
+            return segments.toArray();
+        }
+
+        private int findCallbackIndex(Method method) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            int last = parameterTypes.length - 1;
+            if (last >= 0 && ApiCallback.class.equals(parameterTypes[last])) {
+                return last;
+            }
+            return NONE;
+        }
+
+        /**
+         * Response type is the return type for synchronous methods,
+         * or the type argument of {@link Future} return type or of {@link ApiCallback} parameter for asynchronous ones.
+         */
+        private Class<?> findResponseType(Method method, int callbackIndex) {
+            if (callbackIndex != NONE) {
+                return typeArgument(method.getGenericParameterTypes()[callbackIndex]);
+            }
+            if (Future.class.equals(method.getReturnType())) {
+                return typeArgument(method.getGenericReturnType());
+            }
+            return method.getReturnType();
+        }
+
+        private Class<?> typeArgument(Type type) {
+            if (!(type instanceof ParameterizedType)) {
+                return Void.class;
+            }
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+            if (argument instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+            return Object.class;
+        }
+
+        private HttpMethod createHttpMethod(HttpRequest[] httpRequests) {
+            HttpMethod method = HttpMethod.GET;
+            for (HttpRequest httpRequest : httpRequests) {
+                method = httpRequest.method();
+            }
+            return method;
+        }
+
+        private int[] toIntArray(List<Integer> list) {
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
         }
 
         private String findApiKey(Method method) {
@@ -425,7 +809,7 @@ public class Generator {
             if (null == apiKeyAnotation) {
                 return null;
             }
-            return injectProperty(apiKeyAnotation.value());
+            return apiKeyAnotation.value();
         }
 
         private Tuple<String, String> findCredentials(Method method) {
@@ -433,24 +817,7 @@ public class Generator {
             if (null == credentialsAnnotation) {
                 return null;
             }
-            return new Tuple<>(injectProperty(credentialsAnnotation.user()), injectProperty(credentialsAnnotation.password()));
-        }
-
-        private Parameter[] createParameters(Method method) {
-            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-            Parameter[] parameters = new Parameter[parameterAnnotations.length];
-            int i = 0;
-            for (Annotation[] annotations : parameterAnnotations) {
-                Parameter parameter = new Parameter(
-                        getAnnotation(annotations, Body.class)
-                        , getAnnotation(annotations, Path.class)
-                        , getAnnotation(annotations, Query.class)
-                        , getAnnotation(annotations, Header.class)
-                        , getAnnotation(annotations, Version.class)
-                );
-                parameters[i++] = parameter;
-            }
-            return parameters;
+            return new Tuple<>(credentialsAnnotation.user(), credentialsAnnotation.password());
         }
 
         private HttpRequest[] createHttpRequest(Method method) {
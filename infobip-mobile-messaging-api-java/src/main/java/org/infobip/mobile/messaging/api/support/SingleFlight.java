@@ -0,0 +1,103 @@
+package org.infobip.mobile.messaging.api.support;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight,
+ * other callers with an equal key wait for it and get the same result or exception instead of starting their own.
+ * Nothing is cached once the call completes.
+ *
+ * @since 17.10.2026.
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<Object, FutureTask<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public Object execute(Object key, Callable<Object> call) {
+        FutureTask<Object> task = new FutureTask<>(call);
+        FutureTask<Object> existing = inFlight.putIfAbsent(key, task);
+        if (null != existing) {
+            onJoined(key);
+            return getResult(existing);
+        }
+
+        try {
+            task.run();
+        } finally {
+            inFlight.remove(key, task);
+        }
+        return getResult(task);
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Called when a caller starts waiting for a call which is already in flight.
+     */
+    protected void onJoined(Object key) {
+    }
+
+    private Object getResult(FutureTask<Object> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Key of a call made with the given arguments, compared by value.
+     */
+    public static Object key(Object target, Object... args) {
+        return new Key(target, args);
+    }
+
+    private static class Key {
+        private final Object target;
+        private final Object[] args;
+        private final int hashCode;
+
+        Key(Object target, Object[] args) {
+            this.target = target;
+            this.args = args;
+            this.hashCode = 31 * target.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hashCode == key.hashCode && target.equals(key.target) && Arrays.deepEquals(args, key.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.infobip.mobile.messaging.api.support.http;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Allows the GET response to be stored in the response cache, if one is configured.
+ * Only for responses without personal data, since cached responses are kept on disk unencrypted.
+ */
+@Documented
+@Target({METHOD})
+@Retention(RUNTIME)
+public @interface Cacheable {
+}
@@ -0,0 +1,36 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+/**
+ * Gzip settings for {@link DefaultApiClient}.
+ * <p>
+ * When enabled, client asks for gzip responses and decompresses them transparently.
+ * Request bodies are compressed only when they are at least {@link #getMinRequestBodySize()} bytes long,
+ * since for small bodies gzip header overhead outweighs the savings.
+ *
+ * @since 17.10.2026.
+ */
+public class CompressionSettings {
+    public static final int DEFAULT_MIN_REQUEST_BODY_SIZE = 1024;
+
+    private final int minRequestBodySize;
+
+    public CompressionSettings() {
+        this(DEFAULT_MIN_REQUEST_BODY_SIZE);
+    }
+
+    public CompressionSettings(int minRequestBodySize) {
+        if (minRequestBodySize < 0) {
+            throw new IllegalArgumentException("minRequestBodySize must not be negative");
+        }
+        this.minRequestBodySize = minRequestBodySize;
+    }
+
+    public int getMinRequestBodySize() {
+        return minRequestBodySize;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionSettings{minRequestBodySize=" + minRequestBodySize + "}";
+    }
+}
@@ -5,6 +5,7 @@ import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
 import org.infobip.mobile.messaging.api.support.ApiException;
 import org.infobip.mobile.messaging.api.support.ApiIOException;
 import org.infobip.mobile.messaging.api.support.Tuple;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiError;
 import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
 import org.infobip.mobile.messaging.api.support.util.Base64Encoder;
@@ -12,19 +13,28 @@ import org.infobip.mobile.messaging.api.support.util.StreamUtils;
 import org.infobip.mobile.messaging.api.support.util.StringUtils;
 import org.infobip.mobile.messaging.api.support.util.UserAgentUtil;
 
-import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.Writer;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLHandshakeException;
 
 /**
@@ -36,6 +46,8 @@ public class DefaultApiClient implements ApiClient {
 
     public static final int DEFAULT_READ_TIMEOUT = 60000;
 
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
     public static final JsonSerializer JSON_SERIALIZER = new JsonSerializer();
     private static final JsonSerializer JSON_SERIALIZER_WITH_NULLS = new JsonSerializer(true);
 
@@ -47,6 +59,9 @@ public class DefaultApiClient implements ApiClient {
     private final ResponsePreProcessor[] responsePreProcessors;
     private final Logger logger;
     private final boolean allowUntrustedSSLOnError;
+    private final HttpTransport transport;
+    private final CompressionSettings compressionSettings;
+    private final HttpResponseCache responseCache;
     private UserAgentUtil userAgentUtil = new UserAgentUtil();
 
     public DefaultApiClient() {
@@ -54,6 +69,30 @@ public class DefaultApiClient implements ApiClient {
     }
 
     public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, false, userAgentAdditions);
+    }
+
+    /**
+     * @param reuseConnections true to keep connections alive between calls, see {@link HttpURLConnectionTransport#HttpURLConnectionTransport(boolean)}
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, boolean reuseConnections, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, new HttpURLConnectionTransport(reuseConnections), null, userAgentAdditions);
+    }
+
+    /**
+     * @param transport           transport to execute HTTP exchanges with, or {@code null} for {@link HttpURLConnectionTransport}
+     * @param compressionSettings gzip settings, or {@code null} to send and receive uncompressed bodies
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, HttpTransport transport, CompressionSettings compressionSettings, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, transport, compressionSettings, null, userAgentAdditions);
+    }
+
+    /**
+     * @param transport           transport to execute HTTP exchanges with, or {@code null} for {@link HttpURLConnectionTransport}
+     * @param compressionSettings gzip settings, or {@code null} to send and receive uncompressed bodies
+     * @param responseCache       cache for conditional GET requests, or {@code null} to always fetch the full response
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, HttpTransport transport, CompressionSettings compressionSettings, HttpResponseCache responseCache, String... userAgentAdditions) {
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
         this.libraryVersion = libraryVersion;
@@ -62,10 +101,28 @@ public class DefaultApiClient implements ApiClient {
         this.userAgentAdditions = userAgentAdditions;
         this.logger = logger;
         this.allowUntrustedSSLOnError = allowUntrustedSSLOnError;
+        this.transport = null != transport ? transport : new HttpURLConnectionTransport();
+        this.compressionSettings = compressionSettings;
+        this.responseCache = responseCache;
+    }
+
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    public HttpResponseCache getResponseCache() {
+        return responseCache;
     }
 
     @Override
     public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+        return execute(method, uri, apiKey, credentials, queryParams, headers, body, responseType, false);
+    }
+
+    /**
+     * @param cacheable whether a GET response may be served from and stored in the response cache
+     */
+    public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType, boolean cacheable) {
         Request request = new Request(method, uri, apiKey, credentials, headers, queryParams, body);
         for (RequestInterceptor interceptor : requestInterceptors) {
             try {
@@ -84,12 +141,12 @@ public class DefaultApiClient implements ApiClient {
             }
 
             try {
-                return executeHTTP(request, responseType, false);
+                return executeHTTP(request, responseType, cacheable, false);
             } catch (SSLHandshakeException ex) {
                 logger.w("Got SSL handshake exception " + ex);
                 if (allowUntrustedSSLOnError) {
                     logger.w("Will re-try in untrusted mode");
-                    return executeHTTP(request, responseType, true);
+                    return executeHTTP(request, responseType, cacheable, true);
                 } else {
                     throw ex;
                 }
@@ -103,113 +160,139 @@ public class DefaultApiClient implements ApiClient {
         }
     }
 
-    private <R> R executeHTTP(Request request, Class<R> responseType, boolean tryUntrustedSSL) throws IOException {
-        HttpURLConnection urlConnection = null;
-        try {
-            StringBuilder sb = new StringBuilder();
-            for (Map.Entry<String, Collection<Object>> entry : request.queryParams.entrySet()) {
-                appendValue(sb, entry);
-            }
+    private <R> R executeHTTP(Request request, Class<R> responseType, boolean cacheable, boolean tryUntrustedSSL) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Collection<Object>> entry : request.queryParams.entrySet()) {
+            appendValue(sb, entry);
+        }
 
-            urlConnection = (HttpURLConnection) new URL(request.uri + sb.toString()).openConnection();
+        TransportRequest transportRequest;
+        if (request.httpMethod == HttpMethod.PATCH) {
+            transportRequest = new TransportRequest(HttpMethod.POST.name(), request.uri + sb.toString(), connectTimeout, readTimeout);
+            transportRequest.setHeader("X-HTTP-Method-Override", HttpMethod.PATCH.name());
+        } else {
+            transportRequest = new TransportRequest(request.httpMethod.name(), request.uri + sb.toString(), connectTimeout, readTimeout);
+        }
 
-            if (request.httpMethod == HttpMethod.PATCH) {
-                urlConnection.setRequestProperty("X-HTTP-Method-Override", HttpMethod.PATCH.name());
-                urlConnection.setRequestMethod(HttpMethod.POST.name());
-            } else {
-                urlConnection.setRequestMethod(request.httpMethod.name());
-            }
+        if (null != request.headers) {
+            for (Map.Entry<String, Collection<Object>> entry : request.headers.entrySet()) {
+                Collection<Object> value = entry.getValue();
+                if (null == value || value.isEmpty()) {
+                    continue;
+                }
 
-            if (request.httpMethod != HttpMethod.GET) {
-                urlConnection.setDoOutput(true);
+                String key = entry.getKey().trim();
+                if (key.equalsIgnoreCase("Content-Length")) {
+                    continue;
+                }
+                for (Object v : value) {
+                    if (v == null) continue;
+                    transportRequest.setHeader(key, v.toString());
+                }
             }
+        }
+        if (StringUtils.isNotBlank(request.apiKey)) {
+            transportRequest.setHeader("Authorization", "App " + request.apiKey);
+        } else if (request.credentials != null && StringUtils.isNotBlank(request.credentials.getLeft()) && StringUtils.isNotBlank(request.credentials.getRight())) {
+            String basicApiKey = Base64Encoder.encode(request.credentials.getLeft() + ":" + request.credentials.getRight());
+            transportRequest.setHeader("Authorization", "Basic " + basicApiKey);
+        }
+        transportRequest.setHeader("Accept", "application/json");
+        if (null != compressionSettings) {
+            transportRequest.setHeader("Accept-Encoding", "gzip");
+        }
+        if (null == transportRequest.getHeader("User-Agent")) {
+            transportRequest.setHeader("User-Agent", userAgentUtil.getUserAgent(libraryVersion, userAgentAdditions));
+        }
 
-            urlConnection.setUseCaches(false);
-            urlConnection.setDoInput(true);
-            urlConnection.setConnectTimeout(connectTimeout);
-            urlConnection.setReadTimeout(readTimeout);
-
-            if (tryUntrustedSSL && urlConnection instanceof HttpsURLConnection) {
-                UntrustedSSLHelper.trustAllCerts(((HttpsURLConnection) urlConnection));
+        if (null != request.body) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            Writer bodyWriter = new OutputStreamWriter(body, UTF_8);
+            jsonSerializer(request.httpMethod).serialize(request.body, bodyWriter);
+            bodyWriter.flush();
+            if (null != compressionSettings && body.size() >= compressionSettings.getMinRequestBodySize()) {
+                body = gzip(body);
+                transportRequest.setHeader("Content-Encoding", "gzip");
             }
+            transportRequest.setHeader("Content-Type", "application/json");
+            transportRequest.setBody(body);
+        }
 
-            if (null != request.headers) {
-                for (Map.Entry<String, Collection<Object>> entry : request.headers.entrySet()) {
-                    Collection<Object> value = entry.getValue();
-                    if (null == value || value.isEmpty()) {
-                        continue;
-                    }
-
-                    String key = entry.getKey().trim();
-                    if (key.equalsIgnoreCase("Content-Length")) {
-                        continue;
-                    }
-                    for (Object v : value) {
-                        if (v == null) continue;
-                        urlConnection.setRequestProperty(key, v.toString());
-                    }
-                }
-            }
-            if (StringUtils.isNotBlank(request.apiKey)) {
-                urlConnection.setRequestProperty("Authorization", "App " + request.apiKey);
-            } else if (request.credentials != null && StringUtils.isNotBlank(request.credentials.getLeft()) && StringUtils.isNotBlank(request.credentials.getRight())) {
-                String basicApiKey = Base64Encoder.encode(request.credentials.getLeft() + ":" + request.credentials.getRight());
-                urlConnection.setRequestProperty("Authorization", "Basic " + basicApiKey);
+        JsonSerializer serializer = jsonSerializer(request.httpMethod);
+        String cacheKey = null;
+        HttpResponseCache.Entry cacheEntry = null;
+        if (cacheable && isCacheable(request, responseType)) {
+            cacheKey = HttpResponseCache.key(transportRequest);
+            cacheEntry = responseCache.get(cacheKey);
+            if (null != cacheEntry && cacheEntry.isFresh(System.currentTimeMillis())) {
+                logger.d("Serving " + request.uri + " from cache");
+                return cachedResponse(cacheEntry, serializer, responseType);
             }
-            urlConnection.setRequestProperty("Accept", "application/json");
-            String userAgent = urlConnection.getRequestProperty("User-Agent");
-            if (null == userAgent) {
-                urlConnection.setRequestProperty("User-Agent", userAgentUtil.getUserAgent(libraryVersion, userAgentAdditions));
+            if (null != cacheEntry) {
+                cacheEntry.addValidators(transportRequest);
             }
+        }
 
-            if (null != request.body) {
-                byte[] bytes = jsonSerializer(request.httpMethod).serialize(request.body).getBytes("UTF-8");
-                urlConnection.setRequestProperty("Content-Length", "" + bytes.length);
-                urlConnection.setRequestProperty("Content-Type", "application/json");
-                OutputStream outputStream = null;
-                try {
-                    outputStream = new BufferedOutputStream(urlConnection.getOutputStream());
-                    outputStream.write(bytes);
-                    outputStream.flush();
-                } finally {
-                    StreamUtils.closeSafely(outputStream);
-                }
+        TransportResponse transportResponse = transport.execute(transportRequest, tryUntrustedSSL);
+        try {
+            int responseCode = transportResponse.getCode();
+            interceptResponse(responseCode, transportResponse.getHeaders());
+            if (responseCode == 304 && null != cacheEntry) {
+                StreamUtils.drainAndClose(transportResponse.getBody());
+                responseCache.revalidated(cacheEntry, transportResponse);
+                return cachedResponse(cacheEntry, serializer, responseType);
             }
-
-            int responseCode = urlConnection.getResponseCode();
-            interceptResponse(responseCode, urlConnection.getHeaderFields());
-            int contentLength = urlConnection.getContentLength();
             if (responseCode >= 400) {
-                ApiResponse apiResponse = new ApiResponse(ErrorCode.UNKNOWN_ERROR.value, ErrorCode.UNKNOWN_ERROR.description);
-                if (contentLength > 0) {
-                    InputStream inputStream = urlConnection.getErrorStream();
-                    String s = StreamUtils.readToString(inputStream, "UTF-8", contentLength);
-                    apiResponse = jsonSerializer(request.httpMethod).deserialize(s, ApiResponse.class);
-                    inputStream.close();
+                // too many requests is temporary like server errors, so it is reported and retried the same way
+                boolean backendError = responseCode >= 500 || responseCode == 429;
+                ApiResponse apiResponse = backendError
+                        ? new ApiResponse(ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description)
+                        : new ApiResponse(ErrorCode.UNKNOWN_ERROR.value, ErrorCode.UNKNOWN_ERROR.description);
+                InputStream errorStream = decode(transportResponse);
+                if (transportResponse.getContentLength() > 0 && errorStream != null) {
+                    apiResponse = jsonSerializer(request.httpMethod).deserialize(reader(errorStream), ApiResponse.class);
                 }
+                StreamUtils.drainAndClose(errorStream);
 
-                if (responseCode >= 500) {
+                ApiIOException error;
+                if (backendError) {
                     Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description);
-                    throw new ApiBackendException(tuple.getLeft(), tuple.getRight());
+                    error = new ApiBackendException(tuple.getLeft(), tuple.getRight());
+                } else {
+                    Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_ERROR.value, ErrorCode.UNKNOWN_API_ERROR.description);
+                    error = new ApiException(tuple.getLeft(), tuple.getRight());
                 }
-
-                Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_ERROR.value, ErrorCode.UNKNOWN_API_ERROR.description);
-                throw new ApiException(tuple.getLeft(), tuple.getRight());
+                error.setRetryAfterMillis(parseRetryAfterMillis(transportResponse.getHeader("Retry-After"), System.currentTimeMillis()));
+                throw error;
             }
 
-            if (Void.class.equals(responseType) || void.class.equals(responseType) || responseType == null) {
+            InputStream inputStream = decode(transportResponse);
+            if (Void.class.equals(responseType) || void.class.equals(responseType) || responseType == null || inputStream == null) {
+                StreamUtils.drainAndClose(inputStream);
                 return null;
             }
 
-            InputStream inputStream = urlConnection.getInputStream();
-            String s = StreamUtils.readToString(inputStream, "UTF-8", contentLength);
-            inputStream.close();
+            // keep the raw body only if it may end up in the cache
+            byte[] cacheBody = null;
+            if (null != cacheKey) {
+                try {
+                    cacheBody = StreamUtils.readFully(inputStream);
+                } finally {
+                    StreamUtils.closeSafely(inputStream);
+                }
+                inputStream = new ByteArrayInputStream(cacheBody);
+            }
+
+            // bind the response and a possible top-level request error reading the body once
+            JsonSerializer.FieldCapture<ApiError> requestError = new JsonSerializer.FieldCapture<>("requestError", ApiError.class);
+            R response = serializer.deserialize(reader(inputStream), responseType, requestError);
+            StreamUtils.drainAndClose(inputStream);
 
-            R response = jsonSerializer(request.httpMethod).deserialize(s, responseType);
             ApiResponse apiResponse = null;
-            try {
-                apiResponse = jsonSerializer(request.httpMethod).deserialize(s, ApiResponse.class);
-            } catch (Exception ignored) {
+            if (response instanceof ApiResponse) {
+                apiResponse = (ApiResponse) response;
+            } else if (requestError.getValue() != null) {
+                apiResponse = new ApiResponse(requestError.getValue());
             }
 
             if (apiResponse != null && apiResponse.getRequestError() != null) {
@@ -217,16 +300,60 @@ public class DefaultApiClient implements ApiClient {
                 throw new ApiBackendExceptionWithContent(tuple.getLeft(), tuple.getRight(), response);
             }
 
+            if (null != cacheBody) {
+                responseCache.put(cacheKey, transportResponse, cacheBody);
+            }
             return response;
         } finally {
-            try {
-                if (urlConnection != null) {
-                    urlConnection.disconnect();
-                }
-            } catch (Exception ignored) {
+            transportResponse.close();
+        }
+    }
 
-            }
+    /**
+     * Parses {@code Retry-After} header given either as delay in seconds or as HTTP date
+     *
+     * @return delay in milliseconds or -1 if there is no valid header
+     */
+    static long parseRetryAfterMillis(String retryAfter, long now) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return -1;
+        }
+
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException ignored) {
+        }
+
+        SimpleDateFormat httpDateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        httpDateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+        try {
+            return Math.max(0, httpDateFormat.parse(value).getTime() - now);
+        } catch (ParseException e) {
+            return -1;
+        }
+    }
+
+    private boolean isCacheable(Request request, Class<?> responseType) {
+        return null != responseCache
+                && request.httpMethod == HttpMethod.GET
+                && null != responseType
+                && !Void.class.equals(responseType)
+                && !void.class.equals(responseType);
+    }
+
+    /**
+     * Deserializes the cached body, every call returns a new object so callers may modify it.
+     */
+    private <R> R cachedResponse(HttpResponseCache.Entry entry, JsonSerializer serializer, Class<R> responseType) throws IOException {
+        byte[] body;
+        try {
+            body = responseCache.readBody(entry);
+        } catch (IOException e) {
+            responseCache.remove(entry);
+            throw e;
         }
+        return serializer.deserialize(reader(new ByteArrayInputStream(body)), responseType);
     }
 
     private void interceptErrorResponse(Exception error) {
@@ -284,6 +411,29 @@ public class DefaultApiClient implements ApiClient {
         }
     }
 
+    private static ByteArrayOutputStream gzip(ByteArrayOutputStream body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.size() / 2);
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed);
+        body.writeTo(gzipOutputStream);
+        gzipOutputStream.close();
+        return compressed;
+    }
+
+    private InputStream decode(TransportResponse transportResponse) throws IOException {
+        InputStream inputStream = transportResponse.getBody();
+        if (null == inputStream || null == compressionSettings || transportResponse.getContentLength() == 0) {
+            return inputStream;
+        }
+        if ("gzip".equalsIgnoreCase(transportResponse.getHeader("Content-Encoding"))) {
+            return new GZIPInputStream(inputStream);
+        }
+        return inputStream;
+    }
+
+    private static Reader reader(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+    }
+
     private static JsonSerializer jsonSerializer(HttpMethod httpMethod) {
         if (httpMethod == HttpMethod.PATCH) {
             return JSON_SERIALIZER_WITH_NULLS;
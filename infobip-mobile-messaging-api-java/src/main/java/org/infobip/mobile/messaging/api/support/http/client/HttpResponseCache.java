@@ -0,0 +1,469 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.ref.SoftReference;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Disk cache of GET responses for {@link DefaultApiClient}, bounded by size with LRU eviction.
+ * <p>
+ * Only requests marked as cacheable are considered, see {@link org.infobip.mobile.messaging.api.support.http.Cacheable}.
+ * Responses are stored when they carry {@code ETag}, {@code Last-Modified} or a positive {@code Cache-Control: max-age}
+ * and are not marked {@code no-store}. Fresh entries are served without a network call, stale ones are revalidated
+ * with {@code If-None-Match}/{@code If-Modified-Since}, and a {@code 304 Not Modified} reuses the stored body.
+ * Bodies of recently used entries are kept in memory to avoid reading the file, every caller gets its own
+ * deserialized object.
+ * <p>
+ * The in-memory index is guarded by this object, file reads and writes happen outside of the lock.
+ *
+ * @since 17.10.2026.
+ */
+public class HttpResponseCache {
+
+    private static final String FILE_SUFFIX = ".cache";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Request headers which change between calls but do not change the response, not part of the cache key.
+     */
+    private static final Set<String> IGNORED_KEY_HEADERS = new HashSet<>(Arrays.asList(
+            "user-agent", "accept-encoding", "foreground", "sessionid"));
+
+    private final File directory;
+    private final long maxSizeBytes;
+    private final Object initializationLock = new Object();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+    private volatile boolean initialized;
+
+    public HttpResponseCache(File directory, long maxSizeBytes) {
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeBytes must be positive");
+        }
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public long getSizeBytes() {
+        initialize();
+        synchronized (this) {
+            return sizeBytes;
+        }
+    }
+
+    public int getEntryCount() {
+        initialize();
+        synchronized (this) {
+            return entries.size();
+        }
+    }
+
+    static String key(TransportRequest request) {
+        StringBuilder sb = new StringBuilder(request.getMethod()).append(' ').append(request.getUrl());
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (IGNORED_KEY_HEADERS.contains(header.getKey().toLowerCase(Locale.US))) {
+                continue;
+            }
+            sb.append('\n').append(header.getKey().toLowerCase(Locale.US)).append(':').append(header.getValue());
+        }
+        return sha256Hex(sb.toString());
+    }
+
+    Entry get(String key) {
+        initialize();
+        synchronized (this) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Stores response body if response headers allow it.
+     */
+    void put(String key, TransportResponse response, byte[] body) {
+        initialize();
+        CacheControl cacheControl = CacheControl.parse(response.getHeader("Cache-Control"));
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+        if (cacheControl.noStore || (etag == null && lastModified == null && cacheControl.maxAgeSeconds <= 0)) {
+            remove(key);
+            return;
+        }
+
+        Entry entry = new Entry(key, etag, lastModified, cacheControl.expiresAt(System.currentTimeMillis()), body.length);
+        entry.setBody(body);
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile(key + "-", TEMP_FILE_SUFFIX, directory);
+            write(tempFile, entry, body);
+        } catch (IOException e) {
+            delete(tempFile);
+            remove(key);
+            return;
+        }
+
+        List<String> evicted;
+        synchronized (this) {
+            // rename under the lock, so that the file always matches the indexed entry
+            if (!tempFile.renameTo(file(key))) {
+                delete(tempFile);
+                return;
+            }
+            Entry previous = entries.put(key, entry);
+            if (null != previous) {
+                sizeBytes -= previous.size;
+            }
+            sizeBytes += entry.size;
+            evicted = trimToSize();
+        }
+        deleteFiles(evicted);
+    }
+
+    /**
+     * Updates freshness of an entry after {@code 304 Not Modified}, only the expiration time is rewritten on disk.
+     */
+    void revalidated(Entry entry, TransportResponse response) {
+        CacheControl cacheControl = CacheControl.parse(response.getHeader("Cache-Control"));
+        entry.expiresAt = cacheControl.expiresAt(System.currentTimeMillis());
+        File entryFile = file(entry.key);
+        if (!entryFile.isFile()) {
+            remove(entry);
+            return;
+        }
+        try {
+            RandomAccessFile file = new RandomAccessFile(entryFile, "rw");
+            try {
+                file.writeLong(entry.expiresAt);
+            } finally {
+                file.close();
+            }
+        } catch (IOException e) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Returns body kept in memory for the entry, reading it from disk only if it was collected.
+     */
+    byte[] readBody(Entry entry) throws IOException {
+        byte[] body = entry.getBody();
+        if (null != body) {
+            return body;
+        }
+
+        body = readBodyFromDisk(entry);
+        entry.setBody(body);
+        return body;
+    }
+
+    private byte[] readBodyFromDisk(Entry entry) throws IOException {
+        DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file(entry.key))));
+        try {
+            readHeader(inputStream);
+            byte[] body = new byte[inputStream.readInt()];
+            inputStream.readFully(body);
+            return body;
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    void remove(String key) {
+        synchronized (this) {
+            Entry entry = entries.remove(key);
+            if (null != entry) {
+                sizeBytes -= entry.size;
+            }
+        }
+        delete(file(key));
+    }
+
+    /**
+     * Removes the entry only if it was not replaced in the meantime.
+     */
+    void remove(Entry entry) {
+        synchronized (this) {
+            if (entries.get(entry.key) != entry) {
+                return;
+            }
+            entries.remove(entry.key);
+            sizeBytes -= entry.size;
+        }
+        delete(file(entry.key));
+    }
+
+    /**
+     * Removes all cached responses, including files of entries which were not loaded yet.
+     */
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            sizeBytes = 0;
+        }
+
+        File[] files = directory.listFiles();
+        if (null == files) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(FILE_SUFFIX) || name.endsWith(TEMP_FILE_SUFFIX)) {
+                delete(file);
+            }
+        }
+    }
+
+    /**
+     * Drops least recently used entries above the size limit.
+     *
+     * @return keys of evicted entries whose files are to be deleted outside of the lock
+     */
+    private List<String> trimToSize() {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            sizeBytes -= eldest.size;
+            evicted.add(eldest.key);
+        }
+        return evicted;
+    }
+
+    /**
+     * Loads index of entries stored by previous instances, least recently written first.
+     */
+    private void initialize() {
+        if (initialized) {
+            return;
+        }
+
+        synchronized (initializationLock) {
+            if (initialized) {
+                return;
+            }
+
+            List<Entry> loaded = load();
+            List<String> evicted;
+            synchronized (this) {
+                for (Entry entry : loaded) {
+                    entries.put(entry.key, entry);
+                    sizeBytes += entry.size;
+                }
+                evicted = trimToSize();
+            }
+            deleteFiles(evicted);
+            initialized = true;
+        }
+    }
+
+    private List<Entry> load() {
+        List<Entry> loaded = new ArrayList<>();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return loaded;
+        }
+
+        File[] files = directory.listFiles();
+        if (null == files) {
+            return loaded;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File f1, File f2) {
+                return Long.valueOf(f1.lastModified()).compareTo(f2.lastModified());
+            }
+        });
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(TEMP_FILE_SUFFIX)) {
+                delete(file);
+                continue;
+            }
+            if (!name.endsWith(FILE_SUFFIX)) {
+                continue;
+            }
+            String key = name.substring(0, name.length() - FILE_SUFFIX.length());
+            try {
+                DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                try {
+                    Entry entry = readHeader(inputStream);
+                    loaded.add(new Entry(key, entry.etag, entry.lastModified, entry.expiresAt, inputStream.readInt()));
+                } finally {
+                    inputStream.close();
+                }
+            } catch (IOException e) {
+                delete(file);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Writes an entry file. Expiration time goes first, so that revalidation can update it in place.
+     */
+    private static void write(File file, Entry entry, byte[] body) throws IOException {
+        DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            outputStream.writeLong(entry.expiresAt);
+            outputStream.writeUTF(entry.etag == null ? "" : entry.etag);
+            outputStream.writeUTF(entry.lastModified == null ? "" : entry.lastModified);
+            outputStream.writeInt(body.length);
+            outputStream.write(body);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static Entry readHeader(DataInputStream inputStream) throws IOException {
+        long expiresAt = inputStream.readLong();
+        String etag = inputStream.readUTF();
+        String lastModified = inputStream.readUTF();
+        return new Entry(null, etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified, expiresAt, 0);
+    }
+
+    private void deleteFiles(List<String> keys) {
+        for (String key : keys) {
+            delete(file(key));
+        }
+    }
+
+    private static void delete(File file) {
+        if (null != file) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+    }
+
+    private File file(String key) {
+        return new File(directory, key + FILE_SUFFIX);
+    }
+
+    private static String sha256Hex(String value) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = digest.digest(value.getBytes(UTF_8));
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    static class Entry {
+        final String key;
+        final String etag;
+        final String lastModified;
+        final long size;
+        volatile long expiresAt;
+        volatile SoftReference<byte[]> body = new SoftReference<>(null);
+
+        Entry(String key, String etag, String lastModified, long expiresAt, long size) {
+            this.key = key;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+            this.size = size;
+        }
+
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        void addValidators(TransportRequest request) {
+            if (null != etag) {
+                request.setHeader("If-None-Match", etag);
+            }
+            if (null != lastModified) {
+                request.setHeader("If-Modified-Since", lastModified);
+            }
+        }
+
+        byte[] getBody() {
+            return body.get();
+        }
+
+        void setBody(byte[] bytes) {
+            body = new SoftReference<>(bytes);
+        }
+    }
+
+    private static class CacheControl {
+        private static final CacheControl NONE = new CacheControl(false, false, 0);
+
+        final boolean noStore;
+        final boolean noCache;
+        final long maxAgeSeconds;
+
+        CacheControl(boolean noStore, boolean noCache, long maxAgeSeconds) {
+            this.noStore = noStore;
+            this.noCache = noCache;
+            this.maxAgeSeconds = maxAgeSeconds;
+        }
+
+        long expiresAt(long now) {
+            return noCache || maxAgeSeconds <= 0 ? 0 : now + maxAgeSeconds * 1000;
+        }
+
+        static CacheControl parse(String header) {
+            if (null == header) {
+                return NONE;
+            }
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = 0;
+            for (String directive : header.split(",")) {
+                String d = directive.trim().toLowerCase(Locale.US);
+                if (d.equals("no-store")) {
+                    noStore = true;
+                } else if (d.equals("no-cache")) {
+                    noCache = true;
+                } else if (d.startsWith("max-age=")) {
+                    try {
+                        maxAge = Long.parseLong(d.substring("max-age=".length()).replace("\"", ""));
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, maxAge);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HttpResponseCache{directory=" + directory + ", maxSizeBytes=" + maxSizeBytes + "}";
+    }
+}
@@ -0,0 +1,24 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+
+/**
+ * Performs a single HTTP exchange for {@link DefaultApiClient}.
+ * <p>
+ * Client takes care of interceptors, serialization, compression and error mapping,
+ * transport only sends prepared request and hands back status, headers and body stream.
+ *
+ * @since 17.10.2026.
+ * @see HttpURLConnectionTransport
+ * @see OkHttpTransport
+ */
+public interface HttpTransport {
+
+    /**
+     * @param request      prepared request
+     * @param trustAllCerts whether server certificate should not be validated, used only for retry after a failed handshake
+     * @return response, caller must close it
+     * @throws IOException if exchange failed
+     */
+    TransportResponse execute(TransportRequest request, boolean trustAllCerts) throws IOException;
+}
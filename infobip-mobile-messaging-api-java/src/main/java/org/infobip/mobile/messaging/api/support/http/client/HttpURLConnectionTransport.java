@@ -0,0 +1,121 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HttpsURLConnection;
+
+/**
+ * Default {@link HttpTransport} based on {@link HttpURLConnection}, one request per connection at a time.
+ *
+ * @since 17.10.2026.
+ */
+public class HttpURLConnectionTransport implements HttpTransport {
+
+    private final boolean reuseConnections;
+
+    public HttpURLConnectionTransport() {
+        this(false);
+    }
+
+    /**
+     * @param reuseConnections true to fully read and close responses without disconnecting, so that the platform keep-alive
+     *                         pool can reuse the connection for the next call; false to open and close a connection per call.
+     *                         The pool itself is left as the platform and the application configured it.
+     */
+    public HttpURLConnectionTransport(boolean reuseConnections) {
+        this.reuseConnections = reuseConnections;
+    }
+
+    public boolean isReusingConnections() {
+        return reuseConnections;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request, boolean trustAllCerts) throws IOException {
+        HttpURLConnection urlConnection = (HttpURLConnection) new URL(request.getUrl()).openConnection();
+        try {
+            urlConnection.setRequestMethod(request.getMethod());
+            if (!"GET".equals(request.getMethod())) {
+                urlConnection.setDoOutput(true);
+            }
+
+            urlConnection.setUseCaches(false);
+            urlConnection.setDoInput(true);
+            urlConnection.setConnectTimeout(request.getConnectTimeout());
+            urlConnection.setReadTimeout(request.getReadTimeout());
+
+            if (trustAllCerts && urlConnection instanceof HttpsURLConnection) {
+                UntrustedSSLHelper.trustAllCerts(((HttpsURLConnection) urlConnection));
+            }
+
+            for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+                urlConnection.setRequestProperty(header.getKey(), header.getValue());
+            }
+
+            if (null != request.getBody()) {
+                // fixed length streaming mode makes HttpURLConnection write straight to the socket instead of buffering the body once more
+                urlConnection.setFixedLengthStreamingMode(request.getBody().size());
+                OutputStream outputStream = null;
+                try {
+                    outputStream = urlConnection.getOutputStream();
+                    request.getBody().writeTo(outputStream);
+                    outputStream.flush();
+                } finally {
+                    StreamUtils.closeSafely(outputStream);
+                }
+            }
+
+            int responseCode = urlConnection.getResponseCode();
+            InputStream body = responseCode >= 400 ? urlConnection.getErrorStream() : urlConnection.getInputStream();
+            return new Response(urlConnection, responseCode, urlConnection.getHeaderFields(), urlConnection.getContentLength(), body);
+        } catch (IOException | RuntimeException e) {
+            disconnectSafely(urlConnection);
+            throw e;
+        }
+    }
+
+    private static void disconnectSafely(HttpURLConnection urlConnection) {
+        try {
+            urlConnection.disconnect();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private class Response extends TransportResponse {
+        private final HttpURLConnection urlConnection;
+        private final InputStream body;
+
+        Response(HttpURLConnection urlConnection, int code, Map<String, List<String>> headers, long contentLength, InputStream body) {
+            super(code, headers, contentLength);
+            this.urlConnection = urlConnection;
+            this.body = body;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (!reuseConnections) {
+                StreamUtils.closeSafely(body);
+                disconnectSafely(urlConnection);
+                return;
+            }
+
+            // a fully consumed connection goes back to the keep-alive pool instead of being closed
+            if (!StreamUtils.drainAndClose(body)) {
+                disconnectSafely(urlConnection);
+            }
+        }
+    }
+}
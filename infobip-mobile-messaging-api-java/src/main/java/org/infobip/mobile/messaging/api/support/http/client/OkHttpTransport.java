@@ -0,0 +1,103 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+
+/**
+ * {@link HttpTransport} based on OkHttp. Over TLS it negotiates HTTP/2 with ALPN,
+ * so that concurrent calls to the same host are multiplexed over a single connection.
+ * <p>
+ * OkHttp is not a dependency of this library, applications that want to use this transport must add
+ * {@code com.squareup.okhttp3:okhttp} (3.12 or newer) themselves:
+ * <pre>{@code
+ * new Generator.Builder().withTransport(new OkHttpTransport(new OkHttpClient())).build();
+ * }</pre>
+ * Certificate validation cannot be relaxed per call, configure the supplied {@link OkHttpClient} instead.
+ *
+ * @since 17.10.2026.
+ */
+public class OkHttpTransport implements HttpTransport {
+
+    private final OkHttpClient client;
+
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request, boolean trustAllCerts) throws IOException {
+        OkHttpClient callClient = client;
+        if (client.connectTimeoutMillis() != request.getConnectTimeout() || client.readTimeoutMillis() != request.getReadTimeout()) {
+            // derived client shares connection pool and dispatcher with the original one
+            callClient = client.newBuilder()
+                    .connectTimeout(request.getConnectTimeout(), TimeUnit.MILLISECONDS)
+                    .readTimeout(request.getReadTimeout(), TimeUnit.MILLISECONDS)
+                    .build();
+        }
+
+        Request.Builder builder = new Request.Builder().url(request.getUrl());
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+        builder.method(request.getMethod(), null == request.getBody() ? emptyBodyFor(request.getMethod()) : new BufferBody(request));
+
+        final Response response = callClient.newCall(builder.build()).execute();
+        final ResponseBody body = response.body();
+        return new TransportResponse(response.code(), response.headers().toMultimap(), null == body ? -1 : body.contentLength()) {
+            @Override
+            public InputStream getBody() {
+                return null == body ? null : body.byteStream();
+            }
+
+            @Override
+            public void close() {
+                response.close();
+            }
+        };
+    }
+
+    private static RequestBody emptyBodyFor(String method) {
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return null;
+        }
+        return RequestBody.create(null, new byte[0]);
+    }
+
+    private static class BufferBody extends RequestBody {
+        private final TransportRequest request;
+
+        BufferBody(TransportRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public MediaType contentType() {
+            String contentType = request.getHeader("Content-Type");
+            return null == contentType ? null : MediaType.parse(contentType);
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getBody().size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            request.getBody().writeTo(sink.outputStream());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HTTP request as prepared by {@link DefaultApiClient} for {@link HttpTransport}.
+ *
+ * @since 17.10.2026.
+ */
+public class TransportRequest {
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final int connectTimeout;
+    private final int readTimeout;
+    private ByteArrayOutputStream body;
+
+    public TransportRequest(String method, String url, int connectTimeout, int readTimeout) {
+        this.method = method;
+        this.url = url;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return headers with case-insensitive names, one value per name
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeader(String name, String value) {
+        headers.put(name, value);
+    }
+
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @return serialized body or null if request has no body
+     */
+    public ByteArrayOutputStream getBody() {
+        return body;
+    }
+
+    public void setBody(ByteArrayOutputStream body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,58 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP response returned by {@link HttpTransport}.
+ * <p>
+ * Body is the response stream for successful responses and the error stream otherwise, it may be null.
+ * Callers must {@link #close()} the response, transports may then reuse the connection if the body was fully read.
+ *
+ * @since 17.10.2026.
+ */
+public abstract class TransportResponse implements Closeable {
+    private final int code;
+    private final Map<String, List<String>> headers;
+    private final long contentLength;
+
+    protected TransportResponse(int code, Map<String, List<String>> headers, long contentLength) {
+        this.code = code;
+        this.headers = headers;
+        this.contentLength = contentLength;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey()) && entry.getValue() != null && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return length of the body as sent by the server, -1 if unknown
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public abstract InputStream getBody();
+
+    /**
+     * Releases the connection. Does not throw.
+     */
+    @Override
+    public abstract void close();
+}
@@ -3,12 +3,18 @@ package org.infobip.mobile.messaging.api.support.http.serialization;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.Type;
 
 /**
@@ -23,6 +29,42 @@ public class JsonSerializer {
         String serialize(T value);
     }
 
+    /**
+     * Adapter which reads and writes JSON tokens directly, without building an intermediate string for every value.
+     * String based methods of {@link ObjectAdapter} are still available for standalone use.
+     * JSON nulls are handled by the serializer, {@link #read} and {@link #write} only see non-null values.
+     */
+    public static abstract class StreamingObjectAdapter<T> implements ObjectAdapter<T> {
+
+        public abstract T read(JsonReader in) throws IOException;
+
+        public abstract void write(JsonWriter out, T value) throws IOException;
+
+        @Override
+        public T deserialize(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return read(new JsonReader(new StringReader(value)));
+            } catch (IOException e) {
+                throw new JsonSyntaxException(e);
+            }
+        }
+
+        @Override
+        public String serialize(T value) {
+            StringWriter writer = new StringWriter();
+            try {
+                write(new JsonWriter(writer), value);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+            return writer.toString();
+        }
+    }
+
     private static class CustomTypeAdapter extends TypeAdapter<Object> {
 
         private final ObjectAdapter adapter;
@@ -33,13 +75,29 @@ public class JsonSerializer {
 
         @Override
         public void write(JsonWriter out, Object value) throws IOException {
+            if (adapter instanceof StreamingObjectAdapter) {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                //noinspection unchecked
+                ((StreamingObjectAdapter) adapter).write(out, value);
+                return;
+            }
             //noinspection unchecked
             out.jsonValue(adapter.serialize(value));
         }
 
         @Override
         public Object read(JsonReader in) throws IOException {
-            JsonElement element = new JsonParser().parse(in);
+            if (adapter instanceof StreamingObjectAdapter) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return ((StreamingObjectAdapter) adapter).read(in);
+            }
+            JsonElement element = JsonParser.parseReader(in);
             return adapter.deserialize(element.toString());
         }
     }
@@ -72,4 +130,50 @@ public class JsonSerializer {
     public <T> String serialize(T t) {
         return gson.toJson(t);
     }
+
+    /**
+     * Writes JSON of the object directly to the supplied writer, without building an intermediate string.
+     */
+    public <T> void serialize(T t, Appendable writer) {
+        gson.toJson(t, writer);
+    }
+
+    public <T> T deserialize(Reader reader, Class<T> type) {
+        return gson.fromJson(reader, type);
+    }
+
+    /**
+     * Reads JSON from the supplied reader into the given type and binds the top-level field of the supplied capture
+     * to the capture type, whether the type declares the field or not. The reader is read once, both bindings are
+     * done from the parsed document.
+     */
+    public <T> T deserialize(Reader reader, Class<T> type, FieldCapture<?> capture) {
+        JsonElement element = JsonParser.parseReader(reader);
+        if (element.isJsonObject()) {
+            capture.bind(gson, element.getAsJsonObject().get(capture.name));
+        }
+        return gson.fromJson(element, type);
+    }
+
+    /**
+     * Top-level field which is bound to its own type while the document is being read into another type.
+     */
+    public static class FieldCapture<F> {
+        private final String name;
+        private final Class<F> type;
+        private F value;
+
+        public FieldCapture(String name, Class<F> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        public F getValue() {
+            return value;
+        }
+
+        private void bind(Gson gson, JsonElement field) {
+            value = field != null ? gson.fromJson(field, type) : null;
+        }
+    }
 }
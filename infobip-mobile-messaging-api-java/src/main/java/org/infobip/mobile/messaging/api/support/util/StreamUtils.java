@@ -34,6 +34,16 @@ public abstract class StreamUtils {
         return stringFromStream;
     }
 
+    public static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            buf.write(buffer, 0, read);
+        }
+        return buf.toByteArray();
+    }
+
     public static long write(String s, OutputStream outputStream, String charsetName) throws IOException {
         return write(s.getBytes(charsetName), outputStream);
     }
@@ -43,6 +53,41 @@ public abstract class StreamUtils {
         return bytes.length;
     }
 
+    /**
+     * Reads the remaining bytes of the stream and closes it, so that the underlying connection can be reused.
+     *
+     * @return true if the stream was fully consumed and closed
+     */
+    public static boolean drainAndClose(InputStream inputStream) {
+        if (null == inputStream) {
+            return true;
+        }
+
+        try {
+            byte[] buffer = new byte[1024];
+            //noinspection StatementWithEmptyBody
+            while (inputStream.read(buffer) != -1) {
+            }
+            inputStream.close();
+            return true;
+        } catch (IOException e) {
+            closeSafely(inputStream);
+            return false;
+        }
+    }
+
+    public static void closeSafely(InputStream inputStream) {
+        if (null == inputStream) {
+            return;
+        }
+
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            //ignore
+        }
+    }
+
     public static void closeSafely(OutputStream outputStream) {
         if (null == outputStream) {
             return;
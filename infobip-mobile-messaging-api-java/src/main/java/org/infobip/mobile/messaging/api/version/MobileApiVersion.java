@@ -2,6 +2,7 @@ package org.infobip.mobile.messaging.api.version;
 
 import org.infobip.mobile.messaging.api.support.Generator;
 import org.infobip.mobile.messaging.api.support.http.ApiKey;
+import org.infobip.mobile.messaging.api.support.http.Cacheable;
 import org.infobip.mobile.messaging.api.support.http.HttpRequest;
 import org.infobip.mobile.messaging.api.support.http.Query;
 import org.infobip.mobile.messaging.api.support.http.Version;
@@ -30,6 +31,7 @@ public interface MobileApiVersion {
      *
      * @return {@link LatestReleaseResponse}
      */
+    @Cacheable
     @HttpRequest(method = HttpMethod.GET, value = "version")
     @Query(name = "platformType", value = "${platform.type:GCM}")
     LatestReleaseResponse getLatestRelease();
@@ -1,10 +1,45 @@
 package org.infobip.mobile.messaging.api.support;
 
+import org.infobip.mobile.messaging.api.support.http.ApiKey;
+import org.infobip.mobile.messaging.api.support.http.Body;
+import org.infobip.mobile.messaging.api.support.http.Credentials;
+import org.infobip.mobile.messaging.api.support.http.Header;
 import org.infobip.mobile.messaging.api.support.http.HttpRequest;
+import org.infobip.mobile.messaging.api.support.http.Path;
+import org.infobip.mobile.messaging.api.support.http.Query;
+import org.infobip.mobile.messaging.api.support.http.Version;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author mstipanov
@@ -45,6 +80,231 @@ public class GeneratorTest {
         generator.create(WrongClass.class).bar();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void invoke_boundMethod_shouldBindArgumentsToCompiledTemplate() throws Exception {
+        DefaultApiClient apiClient = mock(DefaultApiClient.class);
+        generator.setApiClient(apiClient);
+        BoundApi boundApi = generator.create(BoundApi.class);
+        Object body = new Object();
+
+        boundApi.update("123", Arrays.asList("a", "b"), "headerValue", body);
+        boundApi.update("456", null, null, body);
+
+        ArgumentCaptor<Map> queryCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map> headerCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(apiClient).execute(eq(HttpMethod.POST), eq("X/mobile/3/items/123/data"), (String) any(), any(Tuple.class), queryCaptor.capture(), headerCaptor.capture(), eq(body), eq(void.class), eq(false));
+        assertEquals(Arrays.asList("a", "b"), queryCaptor.getValue().get("filter"));
+        assertEquals(Collections.singletonList("json"), queryCaptor.getValue().get("format"));
+        assertEquals(Collections.singleton("headerValue"), headerCaptor.getValue().get("X-Custom"));
+        verify(apiClient).execute(eq(HttpMethod.POST), eq("X/mobile/3/items/456/data"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), eq(body), eq(void.class), eq(false));
+    }
+
+    @Test
+    public void invoke_futureMethod_shouldExecuteOnAsyncExecutor() throws Exception {
+        DefaultApiClient apiClient = mock(DefaultApiClient.class);
+        generator.setApiClient(apiClient);
+        when(apiClient.execute(eq(HttpMethod.GET), eq("X/mobile/3/items/1"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false)))
+                .thenAnswer(new Answer<String>() {
+                    @Override
+                    public String answer(InvocationOnMock invocation) throws Throwable {
+                        return Thread.currentThread().getName();
+                    }
+                });
+
+        Future<String> future = generator.create(AsyncApi.class).get("1");
+
+        assertTrue(future.get(5, TimeUnit.SECONDS).startsWith("mm-api-io-"));
+    }
+
+    @Test
+    public void invoke_callbackMethod_shouldDeliverResultAndError() throws Exception {
+        DefaultApiClient apiClient = mock(DefaultApiClient.class);
+        generator.setApiClient(apiClient);
+        when(apiClient.execute(eq(HttpMethod.GET), eq("X/mobile/3/items/1"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false)))
+                .thenReturn("result");
+        when(apiClient.execute(eq(HttpMethod.GET), eq("X/mobile/3/items/2"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false)))
+                .thenThrow(new ApiIOException("1", "error"));
+        final CountDownLatch latch = new CountDownLatch(2);
+        final AtomicReference<Object> result = new AtomicReference<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        AsyncApi asyncApi = generator.create(AsyncApi.class);
+
+        asyncApi.get("1", new ApiCallback<String>() {
+            @Override
+            public void onSuccess(String r) {
+                result.set(r);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                latch.countDown();
+            }
+        });
+        asyncApi.get("2", new ApiCallback<String>() {
+            @Override
+            public void onSuccess(String r) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                error.set(e);
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("result", result.get());
+        assertTrue(error.get() instanceof ApiIOException);
+    }
+
+    @Test
+    public void invoke_rejectedCallbackMethod_shouldCompleteFutureAndReportError() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        Generator rejectingGenerator = new Generator.Builder().withBaseUrl("X").withAsyncExecutor(executor).build();
+        rejectingGenerator.setApiClient(mock(DefaultApiClient.class));
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Future<String> future = rejectingGenerator.create(AsyncApi.class).fetch("1", new ApiCallback<String>() {
+            @Override
+            public void onSuccess(String r) {
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                error.set(e);
+            }
+        });
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertTrue(error.get() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void invoke_withRequestCoalescing_shouldShareConcurrentIdenticalCalls() throws Exception {
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        final CountDownLatch releaseCall = new CountDownLatch(1);
+        final CountDownLatch secondCallJoined = new CountDownLatch(1);
+        DefaultApiClient apiClient = mock(DefaultApiClient.class);
+        Generator coalescingGenerator = new Generator.Builder().withBaseUrl("X").withRequestCoalescing(true).build();
+        coalescingGenerator.setSingleFlight(new SingleFlight() {
+            @Override
+            protected void onJoined(Object key) {
+                secondCallJoined.countDown();
+            }
+        });
+        coalescingGenerator.setApiClient(apiClient);
+        when(apiClient.execute(eq(HttpMethod.GET), eq("X/mobile/3/items/1"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false)))
+                .thenAnswer(new Answer<String>() {
+                    @Override
+                    public String answer(InvocationOnMock invocation) throws Throwable {
+                        callStarted.countDown();
+                        releaseCall.await(5, TimeUnit.SECONDS);
+                        return "result";
+                    }
+                });
+        final AsyncApi api = coalescingGenerator.create(AsyncApi.class);
+
+        Future<String> first = api.get("1");
+        assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+        Future<String> second = api.get("1");
+        assertTrue(secondCallJoined.await(5, TimeUnit.SECONDS));
+        releaseCall.countDown();
+
+        assertEquals("result", first.get(5, TimeUnit.SECONDS));
+        assertEquals("result", second.get(5, TimeUnit.SECONDS));
+        verify(apiClient, times(1)).execute(eq(HttpMethod.GET), eq("X/mobile/3/items/1"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false));
+    }
+
+    @Test
+    public void invoke_withRequestCoalescing_shouldNotShareNonGetCalls() throws Exception {
+        final CountDownLatch bothCallsStarted = new CountDownLatch(2);
+        DefaultApiClient apiClient = mock(DefaultApiClient.class);
+        Generator coalescingGenerator = new Generator.Builder().withBaseUrl("X").withRequestCoalescing(true).build();
+        coalescingGenerator.setApiClient(apiClient);
+        when(apiClient.execute(eq(HttpMethod.POST), eq("X/mobile/3/items/1"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false)))
+                .thenAnswer(new Answer<String>() {
+                    @Override
+                    public String answer(InvocationOnMock invocation) throws Throwable {
+                        bothCallsStarted.countDown();
+                        bothCallsStarted.await(5, TimeUnit.SECONDS);
+                        return "result";
+                    }
+                });
+        AsyncApi api = coalescingGenerator.create(AsyncApi.class);
+
+        Future<String> first = api.send("1");
+        Future<String> second = api.send("1");
+
+        assertEquals("result", first.get(5, TimeUnit.SECONDS));
+        assertEquals("result", second.get(5, TimeUnit.SECONDS));
+        verify(apiClient, times(2)).execute(eq(HttpMethod.POST), eq("X/mobile/3/items/1"), (String) any(), any(Tuple.class), (Map) any(), (Map) any(), any(), eq(String.class), eq(false));
+    }
+
+    @Test
+    public void invoke_afterPropertyChange_shouldUseNewApiKeyAndCredentials() throws Exception {
+        DefaultApiClient apiClient = mock(DefaultApiClient.class);
+        Properties properties = new Properties();
+        properties.setProperty("api.key", "key1");
+        properties.setProperty("user", "user1");
+        Generator propertiesGenerator = new Generator.Builder().withBaseUrl("X").withProperties(properties).build();
+        propertiesGenerator.setApiClient(apiClient);
+        AuthorizedApi api = propertiesGenerator.create(AuthorizedApi.class);
+
+        api.get();
+        properties.setProperty("api.key", "key2");
+        properties.setProperty("user", "user2");
+        api.get();
+
+        verify(apiClient).execute(eq(HttpMethod.GET), eq("X/mobile/items"), eq("key1"), eq(new Tuple<>("user1", "password")), (Map) any(), (Map) any(), any(), eq(void.class), eq(false));
+        verify(apiClient).execute(eq(HttpMethod.GET), eq("X/mobile/items"), eq("key2"), eq(new Tuple<>("user2", "password")), (Map) any(), (Map) any(), any(), eq(void.class), eq(false));
+    }
+
+    @Test
+    public void create_sameType_shouldReuseProxy() throws Exception {
+        assertSame(generator.create(BoundApi.class), generator.create(BoundApi.class));
+    }
+
+    @HttpRequest("/mobile/{version}/items")
+    private interface BoundApi {
+        @Version("3")
+        @HttpRequest(method = HttpMethod.POST, value = "{id}/data")
+        @Query(name = "format", value = "json")
+        void update(@Path(name = "id") String id, @Query(name = "filter") Collection<String> filter, @Header(name = "X-Custom") String header, @Body Object body);
+    }
+
+    @Version("3")
+    @HttpRequest("/mobile/{version}/items")
+    private interface AsyncApi {
+        @HttpRequest("{id}")
+        Future<String> get(@Path(name = "id") String id);
+
+        @HttpRequest("{id}")
+        void get(@Path(name = "id") String id, ApiCallback<String> callback);
+
+        @HttpRequest("{id}")
+        Future<String> fetch(@Path(name = "id") String id, ApiCallback<String> callback);
+
+        @HttpRequest(method = HttpMethod.POST, value = "{id}")
+        Future<String> send(@Path(name = "id") String id);
+    }
+
+    @ApiKey("${api.key}")
+    @Credentials(user = "${user}", password = "password")
+    @HttpRequest("/mobile/items")
+    private interface AuthorizedApi {
+        @HttpRequest
+        void get();
+    }
+
     private interface WrongClass {
         @HttpRequest
         String foo();
@@ -7,16 +7,29 @@ import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import org.infobip.mobile.messaging.api.support.ApiBackendException;
+import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
+import org.infobip.mobile.messaging.api.support.ApiException;
 import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
+import org.infobip.mobile.messaging.api.tools.LocalHttpServer;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -64,6 +77,155 @@ public class DefaultApiClientTest {
 //        debugServer.stop();
     }
 
+    @Test
+    public void execute_pooled_reusesConnectionForConsecutiveCalls() throws Exception {
+        LocalHttpServer server = new LocalHttpServer().start();
+        try {
+            server.respondWith(200, "{\"internalRegistrationId\":11}");
+            DefaultApiClient pooledClient = new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null,
+                    new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, true);
+
+            for (int i = 0; i < 3; i++) {
+                SomeApiResponse response = pooledClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), SomeApiResponse.class);
+                Assert.assertEquals(11, response.getInternalRegistrationId());
+            }
+
+            Assert.assertEquals(3, server.getRequestCount());
+            Assert.assertEquals(1, server.getConnectionCount());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void execute_pooled_reusesConnectionAfterVoidAndErrorResponses() throws Exception {
+        LocalHttpServer server = new LocalHttpServer().start();
+        try {
+            DefaultApiClient pooledClient = new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null,
+                    new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, true);
+
+            server.respondWith(200, "{\"internalRegistrationId\":11}");
+            pooledClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), Void.class);
+
+            server.respondWith(400, "{\"requestError\":{\"serviceException\":{\"messageId\":\"1\",\"text\":\"Bad request\"}}}");
+            try {
+                pooledClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), SomeApiResponse.class);
+                Assert.fail("Expected ApiException");
+            } catch (ApiException e) {
+                Assert.assertEquals("1", e.getCode());
+            }
+
+            server.respondWith(200, "{\"internalRegistrationId\":11}");
+            pooledClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), SomeApiResponse.class);
+
+            Assert.assertEquals(3, server.getRequestCount());
+            Assert.assertEquals(1, server.getConnectionCount());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void execute_tooManyRequests_throwsBackendExceptionWithRetryAfter() throws Exception {
+        LocalHttpServer server = new LocalHttpServer().start();
+        try {
+            Map<String, String> headers = new HashMap<>();
+            headers.put("Retry-After", "120");
+            server.respondWith(429, new byte[0], headers);
+            try {
+                apiClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), SomeApiResponse.class);
+                Assert.fail("Expected ApiBackendException");
+            } catch (ApiBackendException e) {
+                Assert.assertEquals(DefaultApiClient.ErrorCode.UNKNOWN_API_BACKEND_ERROR.getValue(), e.getCode());
+                Assert.assertEquals(120000, e.getRetryAfterMillis());
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void parseRetryAfterMillis_acceptsSecondsAndHttpDate() {
+        long now = 1445412480000L; // Wed, 21 Oct 2015 07:28:00 GMT
+
+        Assert.assertEquals(5000, DefaultApiClient.parseRetryAfterMillis(" 5 ", now));
+        Assert.assertEquals(60000, DefaultApiClient.parseRetryAfterMillis("Wed, 21 Oct 2015 07:29:00 GMT", now));
+        Assert.assertEquals(0, DefaultApiClient.parseRetryAfterMillis("Wed, 21 Oct 2015 07:27:00 GMT", now));
+        Assert.assertEquals(-1, DefaultApiClient.parseRetryAfterMillis("soon", now));
+        Assert.assertEquals(-1, DefaultApiClient.parseRetryAfterMillis(null, now));
+    }
+
+    @Test
+    public void execute_withBody_streamsBodyAndParsesResponseWithRequestError() throws Exception {
+        LocalHttpServer server = new LocalHttpServer().start();
+        try {
+            server.respondWith(200, "{\"internalRegistrationId\":11,\"requestError\":{\"serviceException\":{\"messageId\":\"5\",\"text\":\"Partial\"}}}");
+
+            try {
+                apiClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), SomeApiResponse.class);
+                Assert.fail("Expected ApiBackendExceptionWithContent");
+            } catch (ApiBackendExceptionWithContent e) {
+                Assert.assertEquals("5", e.getCode());
+                Assert.assertEquals(11, ((SomeApiResponse) e.getContent()).getInternalRegistrationId());
+            }
+
+            LocalHttpServer.RecordedRequest recordedRequest = server.getLastRequest();
+            Assert.assertEquals("{\"name\":\"Test\"}", new String(recordedRequest.body, "UTF-8"));
+            Assert.assertEquals("15", recordedRequest.getHeader("Content-Length"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void execute_withGzip_compressesLargeBodiesAndDecompressesResponse() throws Exception {
+        LocalHttpServer server = new LocalHttpServer().start();
+        try {
+            DefaultApiClient gzipClient = new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null,
+                    new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, null, new CompressionSettings(256));
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                name.append("customAttribute").append(i % 10).append(',');
+            }
+            SomeApiRequest largeRequest = new SomeApiRequest(name.toString());
+            Map<String, String> gzipHeaders = new HashMap<>();
+            gzipHeaders.put("Content-Encoding", "gzip");
+            server.respondWith(200, gzip("{\"internalRegistrationId\":11}"), gzipHeaders);
+
+            apiClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), largeRequest, Void.class);
+            LocalHttpServer.RecordedRequest plainRequest = server.getLastRequest();
+            SomeApiResponse response = gzipClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), largeRequest, SomeApiResponse.class);
+            LocalHttpServer.RecordedRequest compressedRequest = server.getLastRequest();
+
+            Assert.assertEquals(11, response.getInternalRegistrationId());
+            Assert.assertNull(plainRequest.getHeader("Content-Encoding"));
+            Assert.assertEquals("gzip", compressedRequest.getHeader("Content-Encoding"));
+            Assert.assertEquals("gzip", compressedRequest.getHeader("Accept-Encoding"));
+            Assert.assertTrue(compressedRequest.body.length < plainRequest.body.length / 4);
+            Assert.assertEquals(new String(plainRequest.body, "UTF-8"), gunzip(compressedRequest.body));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void execute_withGzip_doesNotCompressSmallBodies() throws Exception {
+        LocalHttpServer server = new LocalHttpServer().start();
+        try {
+            DefaultApiClient gzipClient = new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null,
+                    new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, null, new CompressionSettings(256));
+            server.respondWith(200, "{\"internalRegistrationId\":11}");
+
+            SomeApiResponse response = gzipClient.execute(HttpMethod.POST, server.getUrl(), "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), SomeApiResponse.class);
+
+            Assert.assertEquals(11, response.getInternalRegistrationId());
+            Assert.assertNull(server.getLastRequest().getHeader("Content-Encoding"));
+            Assert.assertEquals("{\"name\":\"Test\"}", new String(server.getLastRequest().body, "UTF-8"));
+        } finally {
+            server.stop();
+        }
+    }
+
 //    @Test(expected = ApiException.class)
 //    public void execute_withQueryParams_noHeaders_noBody_receivesError() throws Exception {
 //        debugServer.respondWith(NanoHTTPD.Response.Status.UNAUTHORIZED,
@@ -269,6 +431,25 @@ public class DefaultApiClientTest {
         }
     }
 
+    private static byte[] gzip(String s) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+        gzipOutputStream.write(s.getBytes("UTF-8"));
+        gzipOutputStream.close();
+        return outputStream.toByteArray();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toString("UTF-8");
+    }
+
     private static Request matches(final Request givenRequest) {
         return argThat(new ArgumentMatcher<Request>() {
             @Override
@@ -0,0 +1,185 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
+import org.infobip.mobile.messaging.api.tools.LocalHttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+public class HttpResponseCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private LocalHttpServer server;
+    private File cacheDirectory;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new LocalHttpServer().start();
+        cacheDirectory = temporaryFolder.newFolder("http_cache");
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void execute_notModified_returnsNewObjectFromCachedBody() throws Exception {
+        DefaultApiClient apiClient = apiClient(new HttpResponseCache(cacheDirectory, 1024 * 1024));
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("ETag", "\"v1\""));
+
+        SomeApiResponse first = get(apiClient, "/config");
+        first.setInternalRegistrationId(12);
+        server.respondWith(304, new byte[0], headers("ETag", "\"v1\""));
+        SomeApiResponse second = get(apiClient, "/config");
+
+        Assert.assertEquals(2, server.getRequestCount());
+        Assert.assertEquals("\"v1\"", server.getLastRequest().getHeader("If-None-Match"));
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(11, second.getInternalRegistrationId());
+    }
+
+    @Test
+    public void execute_notModified_afterRestart_readsBodyFromDisk() throws Exception {
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("Last-Modified", "Mon, 12 Oct 2026 10:00:00 GMT"));
+        get(apiClient(new HttpResponseCache(cacheDirectory, 1024 * 1024)), "/config");
+
+        server.respondWith(304, new byte[0], new HashMap<String, String>());
+        SomeApiResponse response = get(apiClient(new HttpResponseCache(cacheDirectory, 1024 * 1024)), "/config");
+
+        Assert.assertEquals("Mon, 12 Oct 2026 10:00:00 GMT", server.getLastRequest().getHeader("If-Modified-Since"));
+        Assert.assertEquals(11, response.getInternalRegistrationId());
+    }
+
+    @Test
+    public void execute_fresh_doesNotHitNetwork() throws Exception {
+        DefaultApiClient apiClient = apiClient(new HttpResponseCache(cacheDirectory, 1024 * 1024));
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("Cache-Control", "max-age=60"));
+
+        get(apiClient, "/config");
+        SomeApiResponse response = get(apiClient, "/config");
+
+        Assert.assertEquals(1, server.getRequestCount());
+        Assert.assertEquals(11, response.getInternalRegistrationId());
+    }
+
+    @Test
+    public void execute_noStore_isNotCached() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(cacheDirectory, 1024 * 1024);
+        DefaultApiClient apiClient = apiClient(cache);
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("Cache-Control", "no-store"));
+
+        get(apiClient, "/config");
+        get(apiClient, "/config");
+
+        Assert.assertEquals(2, server.getRequestCount());
+        Assert.assertNull(server.getLastRequest().getHeader("If-None-Match"));
+        Assert.assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void execute_notCacheable_isNotCached() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(cacheDirectory, 1024 * 1024);
+        DefaultApiClient apiClient = apiClient(cache);
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("ETag", "\"v1\""));
+
+        apiClient.execute(HttpMethod.GET, server.getUrl() + "/user", "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), null, SomeApiResponse.class);
+
+        Assert.assertEquals(0, cache.getEntryCount());
+        Assert.assertEquals(0, cacheDirectory.list().length);
+    }
+
+    @Test
+    public void execute_notModified_updatesExpirationWithoutRewritingBody() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(cacheDirectory, 1024 * 1024);
+        DefaultApiClient apiClient = apiClient(cache);
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("ETag", "\"v1\""));
+        get(apiClient, "/config");
+        File entryFile = cacheDirectory.listFiles()[0];
+        long length = entryFile.length();
+
+        server.respondWith(304, new byte[0], headers("Cache-Control", "max-age=60"));
+        get(apiClient, "/config");
+        SomeApiResponse response = get(apiClient(new HttpResponseCache(cacheDirectory, 1024 * 1024)), "/config");
+
+        Assert.assertEquals(2, server.getRequestCount());
+        Assert.assertEquals(length, entryFile.length());
+        Assert.assertEquals(11, response.getInternalRegistrationId());
+    }
+
+    @Test
+    public void clear_removesEntriesAndFiles() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(cacheDirectory, 1024 * 1024);
+        server.respondWith(200, "{\"internalRegistrationId\":11}".getBytes(), headers("ETag", "\"v1\""));
+        get(apiClient(cache), "/config");
+
+        new HttpResponseCache(cacheDirectory, 1024 * 1024).clear();
+        cache.clear();
+
+        Assert.assertEquals(0, cache.getEntryCount());
+        Assert.assertEquals(0, cacheDirectory.list().length);
+    }
+
+    @Test
+    public void put_aboveMaxSize_evictsLeastRecentlyUsed() throws Exception {
+        byte[] body = "{\"internalRegistrationId\":11}".getBytes();
+        HttpResponseCache cache = new HttpResponseCache(cacheDirectory, body.length * 2);
+        DefaultApiClient apiClient = apiClient(cache);
+        server.respondWith(200, body, headers("ETag", "\"v1\""));
+
+        get(apiClient, "/a");
+        get(apiClient, "/b");
+        server.respondWith(304, new byte[0], new HashMap<String, String>());
+        get(apiClient, "/a");
+        server.respondWith(200, body, headers("ETag", "\"v1\""));
+        get(apiClient, "/c");
+
+        Assert.assertEquals(2, cache.getEntryCount());
+        Assert.assertEquals(body.length * 2, cache.getSizeBytes());
+        server.respondWith(304, new byte[0], new HashMap<String, String>());
+        get(apiClient, "/a");
+        Assert.assertEquals("\"v1\"", server.getLastRequest().getHeader("If-None-Match"));
+        server.respondWith(200, body, new HashMap<String, String>());
+        get(apiClient, "/b");
+        Assert.assertNull(server.getLastRequest().getHeader("If-None-Match"));
+    }
+
+    private DefaultApiClient apiClient(HttpResponseCache cache) {
+        return new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null,
+                new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, null, null, cache);
+    }
+
+    private SomeApiResponse get(DefaultApiClient apiClient, String path) {
+        return apiClient.execute(HttpMethod.GET, server.getUrl() + path, "12345", null, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), null, SomeApiResponse.class, true);
+    }
+
+    private static Map<String, String> headers(String name, String value) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(name, value);
+        return headers;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @NoArgsConstructor
+    private static class SomeApiResponse extends ApiResponse {
+        private int internalRegistrationId;
+    }
+}
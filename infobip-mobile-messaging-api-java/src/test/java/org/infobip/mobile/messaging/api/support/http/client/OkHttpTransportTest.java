@@ -0,0 +1,82 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.ApiException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class OkHttpTransportTest {
+
+    private MockWebServer server;
+    private DefaultApiClient apiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        server.start();
+
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+                .build();
+        apiClient = new DefaultApiClient(DefaultApiClient.DEFAULT_CONNECT_TIMEOUT, DefaultApiClient.DEFAULT_READ_TIMEOUT, null,
+                new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, new OkHttpTransport(okHttpClient), null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void execute_consecutiveCalls_shouldShareOneHttp2Connection() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setBody("{\"value\":" + i + "}"));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            SomeResponse response = apiClient.execute(HttpMethod.POST, server.url("/mobile/1/test").toString(), "12345", null,
+                    query("q", "v"), new HashMap<String, Collection<Object>>(), Collections.singletonMap("key", "value"), SomeResponse.class);
+            Assert.assertEquals(i, response.value);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            RecordedRequest recordedRequest = server.takeRequest();
+            Assert.assertEquals(i, recordedRequest.getSequenceNumber());
+            Assert.assertEquals("POST", recordedRequest.getMethod());
+            Assert.assertEquals("/mobile/1/test?q=v", recordedRequest.getPath());
+            Assert.assertEquals("App 12345", recordedRequest.getHeader("Authorization"));
+            Assert.assertEquals("{\"key\":\"value\"}", recordedRequest.getBody().readUtf8());
+        }
+    }
+
+    @Test(expected = ApiException.class)
+    public void execute_errorResponse_shouldThrowApiException() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(400).setBody("{\"requestError\":{\"serviceException\":{\"messageId\":\"1\",\"text\":\"Bad\"}}}"));
+
+        apiClient.execute(HttpMethod.GET, server.url("/mobile/1/test").toString(), "12345", null,
+                new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), null, SomeResponse.class);
+    }
+
+    private static Map<String, Collection<Object>> query(String name, Object value) {
+        Map<String, Collection<Object>> map = new HashMap<>();
+        map.put(name, Collections.singletonList(value));
+        return map;
+    }
+
+    private static class SomeResponse {
+        int value;
+    }
+}
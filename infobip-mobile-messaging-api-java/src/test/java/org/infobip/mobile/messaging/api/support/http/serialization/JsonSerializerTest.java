@@ -3,11 +3,22 @@ package org.infobip.mobile.messaging.api.support.http.serialization;
 import static org.junit.Assert.assertEquals;
 
 import com.google.gson.internal.LinkedTreeMap;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.infobip.mobile.messaging.api.appinstance.AppInstance;
+import org.infobip.mobile.messaging.api.appinstance.PushServiceType;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -102,6 +113,96 @@ public class JsonSerializerTest {
         JSONAssert.assertEquals("{}", actualSerialized, true);
     }
 
+    @Test
+    public void should_support_streaming_custom_types() throws Exception {
+        JsonSerializer givenSerializer = new JsonSerializer(false, new JsonSerializer.StreamingObjectAdapter<GivenClass>() {
+            @Override
+            public Class<GivenClass> getCls() {
+                return GivenClass.class;
+            }
+
+            @Override
+            public GivenClass read(JsonReader in) throws IOException {
+                GivenClass obj = new GivenClass();
+                in.beginObject();
+                in.nextName();
+                obj.string = in.nextString();
+                in.endObject();
+                return obj;
+            }
+
+            @Override
+            public void write(JsonWriter out, GivenClass value) throws IOException {
+                out.beginObject().name("strrr").value(value.string).endObject();
+            }
+        });
+        GivenClass givenObject = new GivenClass();
+        givenObject.string = "someValue";
+
+        // When
+        String actualSerialized = givenSerializer.serialize(Collections.singletonMap("given", givenObject));
+        Map<String, GivenClass> actualDeserialized = givenSerializer.deserialize("{\"given\":{\"strrr\":\"someValue\"},\"other\":null}",
+                new com.google.gson.reflect.TypeToken<Map<String, GivenClass>>() {}.getType());
+
+        // Then
+        JSONAssert.assertEquals("{\"given\":{\"strrr\":\"someValue\"}}", actualSerialized, true);
+        assertEquals(givenObject.string, actualDeserialized.get("given").string);
+        Assert.assertNull(actualDeserialized.get("other"));
+    }
+
+    @Test
+    public void should_bind_sync_messages_with_generated_adapters() throws Exception {
+        String json = "{\"payloads\":[{" +
+                "\"gcm.notification.messageId\":\"m1\"," +
+                "\"gcm.notification.body\":\"Hello\"," +
+                "\"gcm.notification.silent\":true," +
+                "\"internalData\":\"{\\\"sendDateTime\\\":1}\"," +
+                "\"unknown\":{\"nested\":[1,2]}" +
+                "}]}";
+
+        SyncMessagesResponse response = new JsonSerializer().deserialize(json, SyncMessagesResponse.class);
+
+        MessageResponse message = response.getPayloads().get(0);
+        assertEquals("m1", message.getMessageId());
+        assertEquals("Hello", message.getBody());
+        assertEquals("true", message.getSilent());
+        assertEquals("{\"sendDateTime\":1}", message.getInternalData());
+        Assert.assertNull(message.getTitle());
+        JSONAssert.assertEquals("{\"payloads\":[{" +
+                "\"gcm.notification.messageId\":\"m1\"," +
+                "\"gcm.notification.body\":\"Hello\"," +
+                "\"gcm.notification.silent\":\"true\"," +
+                "\"internalData\":\"{\\\"sendDateTime\\\":1}\"" +
+                "}]}", new JsonSerializer().serialize(response), true);
+        JSONAssert.assertEquals("{\"mIDs\":[\"m1\"],\"drIDs\":null}",
+                new JsonSerializer(true).serialize(SyncMessagesBody.make(new String[]{"m1"}, new String[0])), true);
+    }
+
+    @Test
+    public void should_bind_app_instance_with_generated_adapter() throws Exception {
+        AppInstance instance = new AppInstance("regId");
+        instance.setRegEnabled(true);
+        instance.setPushServiceType(PushServiceType.Firebase);
+        instance.setCustomAttributes(Collections.<String, Object>singletonMap("age", 30.0));
+
+        String serialized = new JsonSerializer().serialize(instance);
+        AppInstance deserialized = new JsonSerializer().deserialize(serialized, AppInstance.class);
+
+        JSONAssert.assertEquals("{\"pushRegId\":\"regId\",\"regEnabled\":true,\"customAttributes\":{\"age\":30.0},\"pushServiceType\":\"Firebase\"}", serialized, true);
+        assertEquals(instance, deserialized);
+    }
+
+    @Test
+    public void should_capture_undeclared_top_level_field() throws Exception {
+        String json = "{\"payloads\":[{\"gcm.notification.messageId\":\"m1\",\"requestError\":\"nested\"}],\"requestError\":{\"string\":\"top\"}}";
+        JsonSerializer.FieldCapture<GivenClass> capture = new JsonSerializer.FieldCapture<>("requestError", GivenClass.class);
+
+        SyncMessagesResponse response = new JsonSerializer().deserialize(new StringReader(json), SyncMessagesResponse.class, capture);
+
+        assertEquals("m1", response.getPayloads().get(0).getMessageId());
+        assertEquals("top", capture.getValue().string);
+    }
+
     private String getMessageForClassMismatch(Class expected, Class observed) {
         return "Expected <" + expected.toString() + "> found <" + observed.toString() + ">";
     }
@@ -0,0 +1,144 @@
+package org.infobip.mobile.messaging.api.tools;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP stand-in for the Mobile API, based on the JDK built-in server.
+ * Records every request and replies with the configured response.
+ */
+public class LocalHttpServer {
+
+    public static class RecordedRequest {
+        public final String method;
+        public final String uri;
+        public final Map<String, List<String>> headers;
+        public final byte[] body;
+
+        RecordedRequest(String method, String uri, Map<String, List<String>> headers, byte[] body) {
+            this.method = method;
+            this.uri = uri;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getHeader(String name) {
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                if (entry.getKey() != null && entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                    return entry.getValue().get(0);
+                }
+            }
+            return null;
+        }
+    }
+
+    private final HttpServer server;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final Set<Integer> clientPorts = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+    private final AtomicInteger requestCount = new AtomicInteger(0);
+    private volatile int status = 200;
+    private volatile byte[] responseBody = new byte[0];
+    private volatile Map<String, String> responseHeaders = new HashMap<>();
+
+    public LocalHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                serve(exchange);
+            }
+        });
+    }
+
+    public LocalHttpServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void respondWith(int status, String json) {
+        respondWith(status, json == null ? new byte[0] : json.getBytes(), new HashMap<String, String>());
+    }
+
+    public void respondWith(int status, byte[] body, Map<String, String> headers) {
+        this.status = status;
+        this.responseBody = body;
+        this.responseHeaders = headers;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public List<RecordedRequest> getRequests() {
+        return requests;
+    }
+
+    public RecordedRequest getLastRequest() {
+        return requests.isEmpty() ? null : requests.get(requests.size() - 1);
+    }
+
+    /**
+     * @return number of distinct client sockets that sent requests to this server
+     */
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        requests.add(new RecordedRequest(
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().toString(),
+                new HashMap<>(exchange.getRequestHeaders()),
+                readFully(exchange.getRequestBody())));
+
+        for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+            exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+        }
+        byte[] body = responseBody;
+        boolean noBody = body.length == 0 || status == 204 || status == 304;
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write(body);
+            outputStream.close();
+        }
+        exchange.close();
+    }
+
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
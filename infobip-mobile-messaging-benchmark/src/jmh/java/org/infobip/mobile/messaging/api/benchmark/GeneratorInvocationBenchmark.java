@@ -0,0 +1,136 @@
+package org.infobip.mobile.messaging.api.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.support.http.client.HttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.TransportRequest;
+import org.infobip.mobile.messaging.api.support.http.client.TransportResponse;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+
+/**
+ * Cost of one {@link MobileApiMessages#sync(SyncMessagesBody)} call through a {@link Generator} proxy.
+ * <ul>
+ * <li>{@code inMemory} - canned transport, measures the proxy, request template binding, serialization and response parsing</li>
+ * <li>{@code localServer} - pooled HTTP/1.1 round trip to a stand-in server on the loopback interface</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class GeneratorInvocationBenchmark {
+
+    @Param({"1", "50"})
+    public int messages;
+
+    private HttpServer server;
+    private MobileApiMessages inMemoryApi;
+    private MobileApiMessages localServerApi;
+    private SyncMessagesBody body;
+
+    @Setup
+    public void setUp() throws IOException {
+        final byte[] response = new JsonSerializer().serialize(SyncPayloads.syncResponse(messages)).getBytes("UTF-8");
+        body = SyncMessagesBody.make(new String[]{"message-id-1", "message-id-2"}, new String[]{"message-id-3"});
+
+        // like production servers, do not hold back the response body behind the headers segment (Nagle's algorithm)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(2));
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream requestBody = exchange.getRequestBody();
+                byte[] buffer = new byte[1024];
+                //noinspection StatementWithEmptyBody
+                while (requestBody.read(buffer) != -1) {
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                OutputStream outputStream = exchange.getResponseBody();
+                outputStream.write(response);
+                outputStream.close();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        localServerApi = generator("http://127.0.0.1:" + server.getAddress().getPort())
+                .withConnectionReuse(true)
+                .build()
+                .create(MobileApiMessages.class);
+        inMemoryApi = generator("http://localhost")
+                .withTransport(new CannedTransport(response))
+                .build()
+                .create(MobileApiMessages.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public SyncMessagesResponse inMemory() {
+        return inMemoryApi.sync(body);
+    }
+
+    @Benchmark
+    public SyncMessagesResponse localServer() {
+        return localServerApi.sync(body);
+    }
+
+    private static Generator.Builder generator(String baseUrl) {
+        Properties properties = new Properties();
+        properties.put("api.key", "benchmark-application-code");
+        properties.put("library.version", "benchmark");
+        return new Generator.Builder()
+                .withBaseUrl(baseUrl)
+                .withProperties(properties);
+    }
+
+    private static class CannedTransport implements HttpTransport {
+        private final byte[] response;
+        private final Map<String, List<String>> headers = Collections.singletonMap("Content-Type", Collections.singletonList("application/json"));
+
+        CannedTransport(byte[] response) {
+            this.response = response;
+        }
+
+        @Override
+        public TransportResponse execute(TransportRequest request, boolean trustAllCerts) {
+            return new TransportResponse(200, headers, response.length) {
+                private final InputStream body = new ByteArrayInputStream(response);
+
+                @Override
+                public InputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+}
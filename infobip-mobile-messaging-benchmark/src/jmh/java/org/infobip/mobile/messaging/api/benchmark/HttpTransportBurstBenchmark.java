@@ -0,0 +1,141 @@
+package org.infobip.mobile.messaging.api.benchmark;
+
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.infobip.mobile.messaging.api.support.http.client.HttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.HttpURLConnectionTransport;
+import org.infobip.mobile.messaging.api.support.http.client.Logger;
+import org.infobip.mobile.messaging.api.support.http.client.OkHttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.RequestInterceptor;
+import org.infobip.mobile.messaging.api.support.http.client.ResponsePreProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Wall time of a burst of 50 mixed Mobile API calls from 16 threads over {@link HttpURLConnectionTransport} (HTTP/1.1)
+ * and {@link OkHttpTransport} (cleartext HTTP/2) against a local stand-in server with 20 ms simulated backend latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HttpTransportBurstBenchmark {
+
+    private static final int BURST_SIZE = 50;
+    private static final int CALLER_THREADS = 16;
+    private static final long SERVER_LATENCY_MILLIS = 20;
+
+    @Param({"HTTP_1_1", "H2_PRIOR_KNOWLEDGE"})
+    public Protocol protocol;
+
+    private MockWebServer server;
+    private ExecutorService executor;
+    private DefaultApiClient client;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setProtocols(Collections.singletonList(protocol));
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                String body;
+                if (path.contains("baseurl")) {
+                    body = "{\"baseUrl\":\"https://mobile.infobip.com\"}";
+                } else if (path.contains("appinstance")) {
+                    body = "{\"pushRegId\":\"pushRegId\",\"regEnabled\":true,\"notificationsEnabled\":true,\"applicationUserId\":\"user\"}";
+                } else if (path.contains("seen")) {
+                    body = "";
+                } else {
+                    StringBuilder payloads = new StringBuilder("{\"payloads\":[");
+                    for (int i = 0; i < 20; i++) {
+                        payloads.append(i == 0 ? "" : ",").append("{\"gcm.notification.messageId\":\"id").append(i).append("\",\"gcm.notification.body\":\"text\"}");
+                    }
+                    body = payloads.append("]}").toString();
+                }
+                return new MockResponse().setBody(body).setHeadersDelay(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        baseUrl = server.url("/").toString();
+
+        HttpTransport transport = protocol == Protocol.HTTP_1_1
+                ? new HttpURLConnectionTransport(true)
+                : new OkHttpTransport(new OkHttpClient.Builder().protocols(Collections.singletonList(protocol)).build());
+        client = new DefaultApiClient(DefaultApiClient.DEFAULT_CONNECT_TIMEOUT, DefaultApiClient.DEFAULT_READ_TIMEOUT, null,
+                new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, transport, null);
+        executor = Executors.newFixedThreadPool(CALLER_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < BURST_SIZE; i++) {
+            final int callIndex = i;
+            futures.add(executor.submit(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return mixedCall(callIndex);
+                }
+            }));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private Object mixedCall(int callIndex) {
+        Map<String, Collection<Object>> noParams = new HashMap<>();
+        switch (callIndex % 4) {
+            case 0:
+                return client.execute(HttpMethod.GET, baseUrl + "mobile/1/baseurl", "key", null, noParams, new HashMap<String, Collection<Object>>(), null, Map.class);
+            case 1:
+                return client.execute(HttpMethod.POST, baseUrl + "mobile/2/messages/seen", "key", null, noParams, new HashMap<String, Collection<Object>>(),
+                        Collections.singletonMap("messages", Collections.singletonList(Collections.singletonMap("messageId", "id" + callIndex))), Void.class);
+            case 2:
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    ids.add("message-id-" + i);
+                }
+                return client.execute(HttpMethod.POST, baseUrl + "mobile/5/messages", "key", null, noParams, new HashMap<String, Collection<Object>>(),
+                        Collections.singletonMap("mIDs", ids), Map.class);
+            default:
+                return client.execute(HttpMethod.GET, baseUrl + "mobile/1/appinstance/pushRegId", "key", null, noParams, new HashMap<String, Collection<Object>>(), null, Map.class);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.infobip.mobile.messaging.api.benchmark;
+
+import com.google.gson.annotations.SerializedName;
+
+import org.infobip.mobile.messaging.api.appinstance.AppInstance;
+import org.infobip.mobile.messaging.api.appinstance.PushServiceType;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialize/deserialize cost of the generated type adapters of the api-java models, next to Gson reflection on
+ * copies of the same models which are not annotated with an adapter.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializerBenchmark {
+
+    private static final JsonSerializer serializer = new JsonSerializer();
+
+    private String instanceJson;
+    private AppInstance instance;
+    private ReflectiveAppInstance reflectiveInstance;
+
+    @State(Scope.Benchmark)
+    public static class SyncResponse {
+        @Param({"1", "50"})
+        public int messages;
+
+        String json;
+        SyncMessagesResponse response;
+        ReflectiveSyncMessagesResponse reflectiveResponse;
+
+        @Setup
+        public void setUp() {
+            json = serializer.serialize(SyncPayloads.syncResponse(messages));
+            response = serializer.deserialize(json, SyncMessagesResponse.class);
+            reflectiveResponse = serializer.deserialize(json, ReflectiveSyncMessagesResponse.class);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        instanceJson = serializer.serialize(SyncPayloads.appInstance());
+        instance = serializer.deserialize(instanceJson, AppInstance.class);
+        reflectiveInstance = serializer.deserialize(instanceJson, ReflectiveAppInstance.class);
+    }
+
+    @Benchmark
+    public SyncMessagesResponse syncResponseDeserialize(SyncResponse sync) {
+        return serializer.deserialize(new StringReader(sync.json), SyncMessagesResponse.class);
+    }
+
+    @Benchmark
+    public ReflectiveSyncMessagesResponse syncResponseDeserializeReflective(SyncResponse sync) {
+        return serializer.deserialize(new StringReader(sync.json), ReflectiveSyncMessagesResponse.class);
+    }
+
+    @Benchmark
+    public StringWriter syncResponseSerialize(SyncResponse sync) {
+        StringWriter writer = new StringWriter();
+        serializer.serialize(sync.response, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public StringWriter syncResponseSerializeReflective(SyncResponse sync) {
+        StringWriter writer = new StringWriter();
+        serializer.serialize(sync.reflectiveResponse, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public AppInstance appInstanceDeserialize() {
+        return serializer.deserialize(instanceJson, AppInstance.class);
+    }
+
+    @Benchmark
+    public ReflectiveAppInstance appInstanceDeserializeReflective() {
+        return serializer.deserialize(instanceJson, ReflectiveAppInstance.class);
+    }
+
+    @Benchmark
+    public String appInstanceSerialize() {
+        return serializer.serialize(instance);
+    }
+
+    @Benchmark
+    public String appInstanceSerializeReflective() {
+        return serializer.serialize(reflectiveInstance);
+    }
+
+    /**
+     * New serializer per call, includes building the type adapter as on first use of a model.
+     */
+    @Benchmark
+    public AppInstance appInstanceFirstUse() {
+        return new JsonSerializer().deserialize(instanceJson, AppInstance.class);
+    }
+
+    @Benchmark
+    public ReflectiveAppInstance appInstanceFirstUseReflective() {
+        return new JsonSerializer().deserialize(instanceJson, ReflectiveAppInstance.class);
+    }
+
+    public static class ReflectiveSyncMessagesResponse {
+        List<ReflectiveMessageResponse> payloads;
+    }
+
+    public static class ReflectiveMessageResponse {
+        @SerializedName("gcm.notification.messageId") String messageId;
+        @SerializedName("gcm.notification.title") String title;
+        @SerializedName("gcm.notification.body") String body;
+        @SerializedName("gcm.notification.sound") String sound;
+        @SerializedName("gcm.notification.vibrate") String vibrate;
+        @SerializedName("gcm.notification.silent") String silent;
+        @SerializedName("gcm.notification.category") String category;
+        String customPayload;
+        String internalData;
+    }
+
+    public static class ReflectiveAppInstance {
+        String pushRegId;
+        Boolean regEnabled;
+        Boolean notificationsEnabled;
+        Boolean geoEnabled;
+        String sdkVersion;
+        String appVersion;
+        String os;
+        String osVersion;
+        String deviceManufacturer;
+        String deviceModel;
+        Boolean deviceSecure;
+        String language;
+        String deviceTimezoneOffset;
+        String applicationUserId;
+        String deviceName;
+        Map<String, Object> customAttributes;
+        Boolean isPrimary;
+        PushServiceType pushServiceType;
+        String pushServiceToken;
+    }
+}
@@ -0,0 +1,55 @@
+package org.infobip.mobile.messaging.api.benchmark;
+
+import org.infobip.mobile.messaging.api.appinstance.AppInstance;
+import org.infobip.mobile.messaging.api.appinstance.PushServiceType;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Realistic Mobile API payloads shared by benchmarks.
+ */
+public abstract class SyncPayloads {
+    private SyncPayloads() {
+    }
+
+    public static final String INTERNAL_DATA = "{\"sendDateTime\":1760000000000,\"bulkId\":\"bulk-1\",\"initialMessageId\":\"initial-1\"," +
+            "\"atts\":[{\"url\":\"https://example.com/img1.png\"}],\"inApp\":true,\"inAppStyle\":0," +
+            "\"inAppOpenTitle\":\"Open\",\"inAppDismissTitle\":\"Close\",\"inAppExpiryDateTime\":1760086400000," +
+            "\"deeplink\":\"myapp://orders/1\",\"webViewUrl\":\"https://example.com/web\",\"messageType\":\"mm\"," +
+            "\"silent\":{\"title\":\"Silent\",\"body\":\"Body\",\"sound\":\"default\",\"vibrate\":true,\"category\":\"mm_accept_decline\"}}";
+
+    public static List<MessageResponse> messages(int count) {
+        List<MessageResponse> payloads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            payloads.add(new MessageResponse(
+                    "message-id-" + i,
+                    "Title " + i,
+                    "Your order #" + (100000 + i) + " has been shipped and will arrive in 2-3 business days",
+                    "default",
+                    "true",
+                    i % 5 == 0 ? "true" : null,
+                    i % 3 == 0 ? "mm_accept_decline" : null,
+                    "{\"orderId\":\"" + (100000 + i) + "\",\"deeplink\":\"myapp://orders/" + i + "\",\"price\":19.99}",
+                    INTERNAL_DATA));
+        }
+        return payloads;
+    }
+
+    public static SyncMessagesResponse syncResponse(int count) {
+        return new SyncMessagesResponse(messages(count));
+    }
+
+    public static AppInstance appInstance() {
+        Map<String, Object> customAttributes = new HashMap<>();
+        customAttributes.put("loyaltyTier", "gold");
+        customAttributes.put("points", 1250.0);
+        customAttributes.put("newsletter", true);
+        return new AppInstance("pushRegId", true, true, false, "12.5.0", "3.1.4", "Android", "14", "Google", "Pixel 8",
+                true, "en_US", "GMT+02:00", "user-1", "Pixel", customAttributes, true, PushServiceType.Firebase, "fcm-token-abcdefghijklmnopqrstuvwxyz");
+    }
+}
@@ -0,0 +1,42 @@
+package org.infobip.mobile.messaging.benchmark;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.infobip.mobile.messaging.util.CryptorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Security;
+
+/**
+ * Encryption of stored preferences. Android providers support the PKCS7 padding used by the SDK, on the JVM it comes from Bouncy Castle.
+ */
+@State(Scope.Benchmark)
+public class CryptorImplBenchmark {
+
+    private CryptorImpl cryptor;
+    private String value;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        Security.addProvider(new BouncyCastleProvider());
+        cryptor = new CryptorImpl("device-specific-secret-0123456789");
+        value = "{\"pushRegistrationId\":\"0123456789abcdef\",\"externalUserId\":\"external-user-1\",\"emails\":[\"john.smith@example.com\"]}";
+        encrypted = cryptor.encrypt(value);
+        if (encrypted == null) {
+            throw new IllegalStateException("AES/CBC/PKCS7PADDING is not available");
+        }
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return cryptor.encrypt(value);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return cryptor.decrypt(encrypted);
+    }
+}
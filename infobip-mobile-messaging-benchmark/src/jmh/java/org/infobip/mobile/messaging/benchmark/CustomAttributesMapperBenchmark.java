@@ -0,0 +1,54 @@
+package org.infobip.mobile.messaging.benchmark;
+
+import org.infobip.mobile.messaging.CustomAttributeValue;
+import org.infobip.mobile.messaging.CustomAttributesMapper;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Conversion of user custom attributes to and from the backend representation and their stored JSON.
+ */
+@State(Scope.Benchmark)
+public class CustomAttributesMapperBenchmark {
+
+    private Map<String, CustomAttributeValue> customAttributes;
+    private Map<String, Object> backendCustomAttributes;
+    private String customAttributesJson;
+
+    @Setup
+    public void setUp() {
+        customAttributes = new HashMap<>();
+        customAttributes.put("loyaltyTier", new CustomAttributeValue("gold"));
+        customAttributes.put("points", new CustomAttributeValue(1250));
+        customAttributes.put("newsletter", new CustomAttributeValue(true));
+        customAttributes.put("memberSince", new CustomAttributeValue(new Date(1600000000000L)));
+        customAttributes.put("lastPurchase", new CustomAttributeValue(new CustomAttributeValue.DateTime(new Date(1760000000000L))));
+        for (int i = 0; i < 10; i++) {
+            customAttributes.put("attribute" + i, new CustomAttributeValue("value" + i));
+        }
+        backendCustomAttributes = CustomAttributesMapper.customAttsToBackend(customAttributes);
+        customAttributesJson = new JsonSerializer(true).serialize(customAttributes);
+    }
+
+    @Benchmark
+    public Map<String, Object> toBackend() {
+        return CustomAttributesMapper.customAttsToBackend(customAttributes);
+    }
+
+    @Benchmark
+    public Map<String, CustomAttributeValue> fromBackend() {
+        return CustomAttributesMapper.customAttsFromBackend(backendCustomAttributes);
+    }
+
+    @Benchmark
+    public Map<String, CustomAttributeValue> fromJson() {
+        return CustomAttributesMapper.customAttsFrom(customAttributesJson);
+    }
+}
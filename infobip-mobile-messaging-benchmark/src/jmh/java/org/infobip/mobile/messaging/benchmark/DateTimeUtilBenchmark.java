@@ -0,0 +1,40 @@
+package org.infobip.mobile.messaging.benchmark;
+
+import org.infobip.mobile.messaging.util.DateTimeUtil;
+import org.infobip.mobile.messaging.util.ISO8601DateParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+
+/**
+ * ISO8601 parsing and formatting used for custom attributes, sessions and message timestamps.
+ */
+@State(Scope.Benchmark)
+public class DateTimeUtilBenchmark {
+
+    private final Date date = new Date(1760000000000L);
+    private final String iso8601 = "2025-10-09T08:53:20+02:00";
+    private final String iso8601Utc = "2025-10-09T08:53:20Z";
+
+    @Benchmark
+    public Date parseISO8601() throws ISO8601DateParseException {
+        return DateTimeUtil.ISO8601DateFromString(iso8601);
+    }
+
+    @Benchmark
+    public Date parseISO8601Utc() throws ISO8601DateParseException {
+        return DateTimeUtil.ISO8601DateFromString(iso8601Utc);
+    }
+
+    @Benchmark
+    public String formatISO8601() {
+        return DateTimeUtil.ISO8601DateToString(date);
+    }
+
+    @Benchmark
+    public String formatISO8601Utc() {
+        return DateTimeUtil.dateToISO8601UTCString(date);
+    }
+}
@@ -0,0 +1,93 @@
+package org.infobip.mobile.messaging.benchmark;
+
+import org.infobip.mobile.messaging.api.benchmark.SyncPayloads;
+import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
+import org.infobip.mobile.messaging.dal.json.ParsedInternalData;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Getters of {@link InternalDataMapper}, each of them parses the whole internal data JSON of a message,
+ * compared to {@link ParsedInternalData} which parses it once per message.
+ * <br>
+ * Allocation per processed message is reported by the gc profiler as {@code gc.alloc.rate.norm},
+ * parses per processed message are the ratio of {@code parses} and {@code messages} counters.
+ */
+@State(Scope.Benchmark)
+public class InternalDataMapperBenchmark {
+
+    private final String internalData = SyncPayloads.INTERNAL_DATA;
+
+    /**
+     * Numbers of internal data JSON parses and processed messages in an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Parses {
+        public long parses;
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            parses = 0;
+            messages = 0;
+        }
+    }
+
+    @Benchmark
+    public long sendDateTime() {
+        return InternalDataMapper.getInternalDataSendDateTime(internalData);
+    }
+
+    @Benchmark
+    public String title() {
+        return InternalDataMapper.getInternalDataTitle(internalData);
+    }
+
+    /**
+     * Fields read for one message when it is displayed as a notification and in-app.
+     */
+    @Benchmark
+    public void displayFields(Blackhole blackhole, Parses parses) {
+        blackhole.consume(InternalDataMapper.getInternalDataTitle(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataBody(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataSound(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataVibrate(internalData, true));
+        blackhole.consume(InternalDataMapper.getInternalDataCategory(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataContentUrl(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataInAppStyle(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataInAppExpiryDateTime(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataDeeplinkUri(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataInAppOpenTitle(internalData));
+        blackhole.consume(InternalDataMapper.getInternalDataInAppDismissTitle(internalData));
+        // every getter deserializes the JSON
+        parses.parses += 11;
+        parses.messages++;
+    }
+
+    /**
+     * Same fields as {@link #displayFields}, read from a view parsed once.
+     */
+    @Benchmark
+    public void displayFieldsParsedOnce(Blackhole blackhole, Parses parses) {
+        ParsedInternalData parsed = ParsedInternalData.parse(internalData);
+        parses.parses++;
+        parses.messages++;
+        blackhole.consume(parsed.getTitle());
+        blackhole.consume(parsed.getBody());
+        blackhole.consume(parsed.getSound());
+        blackhole.consume(parsed.getVibrate(true));
+        blackhole.consume(parsed.getCategory());
+        blackhole.consume(parsed.getContentUrl());
+        blackhole.consume(parsed.getInAppStyle());
+        blackhole.consume(parsed.getInAppExpiryDateTime());
+        blackhole.consume(parsed.getDeeplink());
+        blackhole.consume(parsed.getInAppOpenTitle());
+        blackhole.consume(parsed.getInAppDismissTitle());
+    }
+}
@@ -0,0 +1,20 @@
+package org.infobip.mobile.messaging.benchmark;
+
+import org.infobip.mobile.messaging.util.SHA256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Hashing of the application code, done for the header of every Mobile API request.
+ */
+@State(Scope.Benchmark)
+public class SHA256Benchmark {
+
+    private final String applicationCode = "0123456789abcdef0123456789abcdef-01234567-89ab-cdef-0123-456789abcdef";
+
+    @Benchmark
+    public String calc() {
+        return SHA256.calc(applicationCode);
+    }
+}
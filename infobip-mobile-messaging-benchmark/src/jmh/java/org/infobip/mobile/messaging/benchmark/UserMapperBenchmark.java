@@ -0,0 +1,50 @@
+package org.infobip.mobile.messaging.benchmark;
+
+import org.infobip.mobile.messaging.CustomAttributeValue;
+import org.infobip.mobile.messaging.User;
+import org.infobip.mobile.messaging.UserAttributes;
+import org.infobip.mobile.messaging.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Serialization of the user which is stored and broadcast on every personalization and user data sync.
+ */
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private User user;
+    private String userJson;
+
+    @Setup
+    public void setUp() {
+        Map<String, CustomAttributeValue> customAttributes = new HashMap<>();
+        customAttributes.put("loyaltyTier", new CustomAttributeValue("gold"));
+        customAttributes.put("points", new CustomAttributeValue(1250));
+        customAttributes.put("newsletter", new CustomAttributeValue(true));
+        user = new User("external-user-1", "John", "Smith", "Michael", UserAttributes.Gender.Male, "1985-02-26",
+                new HashSet<>(Arrays.asList("385911234567", "385921234567")),
+                new HashSet<>(Arrays.asList("john.smith@example.com")),
+                new HashSet<>(Arrays.asList("vip", "newsletter", "beta")),
+                null,
+                customAttributes);
+        userJson = UserMapper.toJson(user);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return UserMapper.toJson(user);
+    }
+
+    @Benchmark
+    public User fromJson() {
+        return UserMapper.fromJson(userJson);
+    }
+}
@@ -0,0 +1,34 @@
+package org.infobip.mobile.messaging.mobileapi.messages;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.api.benchmark.SyncPayloads;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Mapping of a messages sync response to SDK messages. In the SDK package, as the mapper is package-private.
+ */
+@State(Scope.Benchmark)
+public class MessagesMapperBenchmark {
+
+    @Param({"1", "50"})
+    public int messages;
+
+    private List<MessageResponse> payloads;
+
+    @Setup
+    public void setUp() {
+        payloads = SyncPayloads.messages(messages);
+    }
+
+    @Benchmark
+    public List<Message> mapResponseToMessages() {
+        return MessagesMapper.mapResponseToMessages(payloads);
+    }
+}